@@ -1,16 +1,20 @@
 package it.polimi.ingsw.client;
 
 import it.polimi.ingsw.client.view.cli.CLI;
+import it.polimi.ingsw.communication.ThreadPools;
 import it.polimi.ingsw.client.view.gui.GUI;
 import it.polimi.ingsw.client.view.ViewInterface;
+import it.polimi.ingsw.communication.NetworkFrames;
 import it.polimi.ingsw.communication.client.ClientKeepAlive;
 import it.polimi.ingsw.communication.server.ServerKeepAlive;
 import it.polimi.ingsw.communication.timeout_handler.ClientTimeoutHandler;
+import it.polimi.ingsw.communication.timeout_handler.HashedWheelTimer;
 import it.polimi.ingsw.communication.client.ClientMessage;
 import it.polimi.ingsw.communication.client.SetupConnection;
 import it.polimi.ingsw.communication.server.ServerMessage;
 import it.polimi.ingsw.communication.server.ServerResponse;
 import it.polimi.ingsw.model.BriefModel;
+import it.polimi.ingsw.model.BriefModelDelta;
 import javafx.application.Application;
 
 import java.io.*;
@@ -28,8 +32,8 @@ public class Client {
     private final Boolean debug;
     private int port;
     private final ClientTimeoutHandler timeoutHandler;
-    private ObjectInputStream inputStream;
-    private ObjectOutputStream outputStream;
+    private DataInputStream inputStream;
+    private DataOutputStream outputStream;
     private Socket clientSocket;
     private final ClientCommandDispatcher clientCommandDispatcher;
     private final ViewInterface view;
@@ -37,11 +41,12 @@ public class Client {
     private ArrayList<String> playersNickname;
     private final LightModel lightModel;
     private final HashMap<String, BriefModel> modelByNickname;
+    private final HashMap<String, Integer> versionByNickname = new HashMap<>();
     private String nickname = "";
     public static final Semaphore connectionSetupSemaphore = new Semaphore(0);
     private String ip;
     private volatile boolean running;
-    private ScheduledFuture<?> heartBeatExecutor;
+    private HashedWheelTimer.Timeout heartBeatExecutor;
 
     /**
      * Main client constructor, builds the client maps and starts the UI
@@ -51,7 +56,7 @@ public class Client {
     public Client(Boolean cli, Boolean debug) {
         this.debug = debug;
         this.lightModel = new LightModel(this);
-        executors = Executors.newCachedThreadPool();
+        executors = ThreadPools.newTaskExecutor();
         this.clientCommandDispatcher = new ClientCommandDispatcher(this);
         this.timeoutHandler = new ClientTimeoutHandler(this);
         modelByNickname = new HashMap<>();
@@ -77,19 +82,21 @@ public class Client {
         clientSocket = new Socket(ip, port);
         clientSocket.setSoTimeout(5000);
         connected = true;
-        outputStream = new ObjectOutputStream(new BufferedOutputStream(clientSocket.getOutputStream()));
-        inputStream = new ObjectInputStream(new BufferedInputStream(clientSocket.getInputStream()));
+        outputStream = new DataOutputStream(new BufferedOutputStream(clientSocket.getOutputStream()));
+        inputStream = new DataInputStream(new BufferedInputStream(clientSocket.getInputStream()));
         send(new SetupConnection(nickname));
         ServerMessage inputClass;
-        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
-        heartBeatExecutor = executor.scheduleAtFixedRate(this::startHeartBeat, 500, 2500, TimeUnit.MILLISECONDS);
+        heartBeatExecutor = HashedWheelTimer.getInstance().scheduleAtFixedRate(this::startHeartBeat, 500, 2500, TimeUnit.MILLISECONDS);
         while (connected) {
             try {
-                inputClass = (ServerMessage) inputStream.readObject();
+                inputClass = (ServerMessage) NetworkFrames.read(inputStream);
                 ServerMessage finalInputClass = inputClass;
                 if(!(inputClass instanceof ServerKeepAlive) && debug)
                     System.out.println(finalInputClass.toString());
-                if (inputClass instanceof ServerResponse) {
+                if (inputClass.isStateUpdate()) {
+                    // Applied before the messages that follow it are dispatched, so the view never reads a stale state
+                    inputClass.read(clientCommandDispatcher);
+                } else if (inputClass instanceof ServerResponse) {
                     executors.submit(() -> {
                         try {
                             handleResponse(finalInputClass);
@@ -140,8 +147,7 @@ public class Client {
         if(!(clientMessage instanceof ClientKeepAlive) && debug)
             System.out.println(clientMessage.toString());
         try {
-            outputStream.reset();
-            outputStream.writeObject(clientMessage);
+            outputStream.write(NetworkFrames.encode(clientMessage));
             outputStream.flush();
         } catch (IOException e) {
             e.printStackTrace();
@@ -197,7 +203,7 @@ public class Client {
      */
     public void setConnected(boolean connected) {
         if(!connected){
-            heartBeatExecutor.cancel(true);
+            heartBeatExecutor.cancel();
         }
         Client.connected = connected;
     }
@@ -227,8 +233,22 @@ public class Client {
         return lightModel;
     }
 
-    public void setModelForPlayer(BriefModel briefModel, String nickname) {
+    public void setModelForPlayer(BriefModel briefModel, String nickname, int version) {
         modelByNickname.put(nickname, briefModel);
+        versionByNickname.put(nickname, version);
+    }
+
+    /**
+     * Applies the changes to the BriefModel of a player, ignored if they were not computed from the version held
+     * @param delta changes of the BriefModel
+     * @param nickname player described
+     * @param fromVersion version the changes were computed from
+     */
+    public void applyBriefModelDelta(BriefModelDelta delta, String nickname, int fromVersion) {
+        Integer version = versionByNickname.get(nickname);
+        if (version == null || version != fromVersion) return;
+        modelByNickname.put(nickname, delta.applyTo(modelByNickname.get(nickname)));
+        versionByNickname.put(nickname, fromVersion + 1);
     }
 
     public String getNickname() {
@@ -280,6 +300,8 @@ public class Client {
                 case "--h" -> {
                     System.out.println("--d to start in debug");
                     System.out.println("--c to start in CLI");
+                    System.out.println("--java-serialization to send messages with Java serialization");
+                    System.out.println("--virtual-threads to run the tasks of the client on virtual threads");
                     return;
                 }
                 case "--d" -> {
@@ -287,6 +309,11 @@ public class Client {
                     debug = true;
                 }
                 case "--c" -> CLI = true;
+                case "--java-serialization" -> NetworkFrames.useJavaSerialization();
+                case "--virtual-threads" -> {
+                    if (!ThreadPools.useVirtualThreads())
+                        System.out.println("virtual threads are not supported by this JVM, using platform threads");
+                }
             }
         }
         Client client = new Client(CLI, debug);
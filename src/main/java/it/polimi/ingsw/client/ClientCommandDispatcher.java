@@ -3,8 +3,10 @@ package it.polimi.ingsw.client;
 import it.polimi.ingsw.communication.timeout_handler.ClientTimeoutHandler;
 import it.polimi.ingsw.communication.client.*;
 import it.polimi.ingsw.communication.client.requests.RequestAddResourceSelection;
+import it.polimi.ingsw.communication.client.requests.RequestSubscribe;
 import it.polimi.ingsw.communication.client.responses.ResponseInitialSelection;
 import it.polimi.ingsw.communication.client.responses.ResponsePlayersNumber;
+import it.polimi.ingsw.communication.server.NotifyModelChanged;
 import it.polimi.ingsw.communication.server.requests.GamePhase;
 import it.polimi.ingsw.model.*;
 import it.polimi.ingsw.model.enums.ActionCardEnum;
@@ -16,6 +18,7 @@ import it.polimi.ingsw.model.enums.MarbleType;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 
 /**
  * This class handles the Strategy Pattern for the Client-Server communication, Client side.
@@ -52,6 +55,7 @@ public class ClientCommandDispatcher {
     public void gameHasStarted(int gameID, ArrayList<String> playersNickname) {
         System.out.println("Game Has Started. Game ID: " + gameID);
         client.setPlayersNicknames(playersNickname);
+        client.send(new RequestSubscribe(NotifyModelChanged.ALL));
         client.getView().gameHasStarted();
         client.getLightModel().setNumberOfPlayers(playersNickname.size());
     }
@@ -64,8 +68,8 @@ public class ClientCommandDispatcher {
         return client.getView().askForInitialResourcesSelection(playerNumber);
     }
 
-    public void discardResourceSelection(HashMap<Resource, Integer> resources) {
-        HashMap<Resource,Integer> resources1= client.getView().askForResourceToDiscard(resources);
+    public void discardResourceSelection(HashMap<Resource, Integer> resources, HashMap<Resource, Integer> suggestedDiscard) {
+        HashMap<Resource,Integer> resources1= client.getView().askForResourceToDiscard(resources, suggestedDiscard);
 
         client.send(new RequestAddResourceSelection(resources1));
     }
@@ -123,12 +127,12 @@ public class ClientCommandDispatcher {
         client.getView().getLightModel().setStrongbox(strongboxClone);
     }
 
-    public void setMarketInstance(ArrayList<ArrayList<MarbleType>> marketClone, Marble spareMarble) {
+    public void setMarketInstance(List<List<MarbleType>> marketClone, Marble spareMarble) {
         client.getView().getLightModel().setMarket(marketClone);
         client.getView().getLightModel().setSpareMarble(spareMarble);
     }
 
-    public void setCardDevelopmentMarketInstance(ArrayList<ArrayList<CardDevelopment>> _cardMarketClone) {
+    public void setCardDevelopmentMarketInstance(List<List<CardDevelopment>> _cardMarketClone) {
         client.getView().getLightModel().setCardDevelopmentMarket(_cardMarketClone);
     }
 
@@ -155,8 +159,20 @@ public class ClientCommandDispatcher {
     public void mainMoveAlreadyMade() { client.getView().displayMainMoveAlreadyMade();
     }
 
-    public void notifyBriefModel(BriefModel briefModel, String nickname) {
-        client.setModelForPlayer(briefModel, nickname);
+    public void modelChanged(int changedParts) {
+        client.getLightModel().invalidate(changedParts);
+    }
+
+    public void modelPartPushed(int part) {
+        client.getLightModel().received(part);
+    }
+
+    public void notifyBriefModel(BriefModel briefModel, String nickname, int version) {
+        client.setModelForPlayer(briefModel, nickname, version);
+    }
+
+    public void notifyBriefModelDelta(BriefModelDelta delta, String nickname, int fromVersion) {
+        client.applyBriefModelDelta(delta, nickname, fromVersion);
     }
 
     public void displayLorenzoActivation(ActionCardEnum actionCardType) {
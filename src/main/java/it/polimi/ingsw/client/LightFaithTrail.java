@@ -1,6 +1,7 @@
 package it.polimi.ingsw.client;
 
 import it.polimi.ingsw.communication.client.requests.RequestFaithTrail;
+import it.polimi.ingsw.communication.server.NotifyModelChanged;
 import it.polimi.ingsw.model.enums.FaithTileStatus;
 
 import java.util.ArrayList;
@@ -29,14 +30,13 @@ public class LightFaithTrail {
     }
 
 
+    /**
+     * Requests the faith trail to the server only if it changed since it was last received
+     * @return this
+     */
     public LightFaithTrail getFaithTrail(){
 
-        try {
-            client.sendAndWait(new RequestFaithTrail(),-1);
-        }
-        catch (RequestTimedOutException e){
-            e.printStackTrace();
-        }
+        client.getLightModel().refresh(NotifyModelChanged.FAITH_TRAIL, RequestFaithTrail::new);
 
         return this;
     }
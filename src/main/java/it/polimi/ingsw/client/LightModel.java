@@ -1,6 +1,8 @@
 package it.polimi.ingsw.client;
 
+import it.polimi.ingsw.communication.client.ClientMessage;
 import it.polimi.ingsw.communication.client.requests.*;
+import it.polimi.ingsw.communication.server.NotifyModelChanged;
 import it.polimi.ingsw.model.*;
 import it.polimi.ingsw.model.cards.CardDevelopment;
 import it.polimi.ingsw.model.enums.Resource;
@@ -9,9 +11,30 @@ import it.polimi.ingsw.model.enums.MarbleType;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Supplier;
+
+/**
+ * Local cache of the parts of the model displayed by the view.
+ * <p>
+ *     Every part has a version, bumped when the server notifies that the part has changed, see NotifyModelChanged.
+ *     A getter requests its part to the server only if the cached copy is older than the current version. Parts the
+ *     client is subscribed to are pushed by the server as soon as they change, so they are never requested.
+ * </p>
+ */
 public class LightModel {
     private final Client client;
+
+    /**
+     * Number of changes notified by the server, indexed by part
+     */
+    private final AtomicIntegerArray versions = new AtomicIntegerArray(NotifyModelChanged.PARTS);
+
+    /**
+     * Version of the cached copy of every part, -1 if the part has never been received
+     */
+    private final AtomicIntegerArray cachedVersions = new AtomicIntegerArray(NotifyModelChanged.PARTS);
     private int numberOfPlayers;
     private ArrayList<ArrayList<CardDevelopment>> cardDevelopmentMarket;
     private ArrayList<CardDevelopment> cardsDevelopment;
@@ -32,6 +55,45 @@ public class LightModel {
      */
     public LightModel(Client client){
         this.client=client;
+        for (int i = 0; i < NotifyModelChanged.PARTS; i++) cachedVersions.set(i, -1);
+    }
+
+    /**
+     * Marks the given parts as out of date
+     * @param changedParts bitwise or of NotifyModelChanged parts
+     */
+    public void invalidate(int changedParts) {
+        for (int i = 0; i < NotifyModelChanged.PARTS; i++) {
+            if ((changedParts & (1 << i)) != 0) versions.incrementAndGet(i);
+        }
+    }
+
+    /**
+     * Marks a part pushed by the server as up to date
+     * @param part one of the NotifyModelChanged parts
+     */
+    public void received(int part) {
+        int index = Integer.numberOfTrailingZeros(part);
+        cachedVersions.set(index, versions.get(index));
+    }
+
+    /**
+     * Requests a part to the server, and waits for it, only if the cached copy is out of date.
+     * A change notified while the request is pending leaves the part out of date
+     * @param part one of the NotifyModelChanged parts
+     * @param request builds the request whose response updates the part
+     */
+    void refresh(int part, Supplier<ClientMessage> request) {
+        int index = Integer.numberOfTrailingZeros(part);
+        int version = versions.get(index);
+        if (cachedVersions.get(index) == version) return;
+
+        try {
+            client.sendAndWait(request.get(), -1);
+            cachedVersions.set(index, version);
+        } catch (RequestTimedOutException e) {
+            e.printStackTrace();
+        }
     }
 
     //Setters (used as Update methods)
@@ -44,8 +106,10 @@ public class LightModel {
         this.numberOfPlayers = numberOfPlayers;
     }
 
-    public void setCardDevelopmentMarket(ArrayList<ArrayList<CardDevelopment>> cardDevelopmentMarket){
-        this.cardDevelopmentMarket= new ArrayList<>(cardDevelopmentMarket);
+    public void setCardDevelopmentMarket(List<List<CardDevelopment>> cardDevelopmentMarket){
+        this.cardDevelopmentMarket= new ArrayList<>(cardDevelopmentMarket.size());
+        for (List<CardDevelopment> row : cardDevelopmentMarket)
+            this.cardDevelopmentMarket.add(new ArrayList<>(row));
     }
     public void setCardsLeader(ArrayList<CardLeader> cardsLeader) {
         this.cardsLeader = new ArrayList<>(cardsLeader);
@@ -55,8 +119,10 @@ public class LightModel {
         this.cardsDevelopment = new ArrayList<>(cardsDevelopment);
     }
 
-    public void setMarket(ArrayList<ArrayList<MarbleType>> market) {
-        this.market = new ArrayList<>(market);
+    public void setMarket(List<List<MarbleType>> market) {
+        this.market = new ArrayList<>(market.size());
+        for (List<MarbleType> row : market)
+            this.market.add(new ArrayList<>(row));
     }
 
     public void setStrongbox(HashMap<Resource, Integer> strongbox) {
@@ -93,12 +159,7 @@ public class LightModel {
     public ArrayList<ArrayList<MarbleType>> getMarket() {
         if (market==null) market = new ArrayList<>();
 
-        try {
-            client.sendAndWait(new RequestMarketInstance(),-1);
-        }
-        catch (RequestTimedOutException e){
-            e.printStackTrace();
-        }
+        refresh(NotifyModelChanged.MARKET, RequestMarketInstance::new);
 
         return market;
     }
@@ -107,13 +168,7 @@ public class LightModel {
     public ArrayList<ArrayList<CardDevelopment>> getCardDevelopmentMarket() {
         if (cardDevelopmentMarket == null) cardDevelopmentMarket= new ArrayList<>();
 
-       try {
-            client.sendAndWait(new RequestCardDevelopmentMarketInstance(),-1);
-
-        }
-        catch (RequestTimedOutException e){
-            e.printStackTrace();
-        }
+        refresh(NotifyModelChanged.CARD_DEVELOPMENT_MARKET, RequestCardDevelopmentMarketInstance::new);
 
         return cardDevelopmentMarket;
     }
@@ -121,11 +176,7 @@ public class LightModel {
     public HashMap<Resource, Integer> getDeposit(){
         if (deposit==null) deposit= new HashMap<>();
 
-        try {
-            client.sendAndWait(new RequestDepositInstance(),-1);
-        } catch (RequestTimedOutException e){
-            e.printStackTrace();
-        }
+        refresh(NotifyModelChanged.DEPOSIT, RequestDepositInstance::new);
 
         return deposit;
     }
@@ -133,12 +184,7 @@ public class LightModel {
     public ArrayList<CardLeader> getCardsLeader() {
         if(cardsLeader == null) cardsLeader= new ArrayList<>();
 
-        try {
-            client.sendAndWait(new RequestCardLeaders(),-1);
-        } catch (RequestTimedOutException e){
-            e.printStackTrace();
-        }
-
+        refresh(NotifyModelChanged.CARDS_LEADER, RequestCardLeaders::new);
 
         return cardsLeader;
     }
@@ -146,11 +192,7 @@ public class LightModel {
     public ArrayList<CardDevelopment> getCardsDevelopment() {
         if(cardsDevelopment == null) cardsDevelopment = new ArrayList<>();
 
-        try {
-            client.sendAndWait(new RequestTopCardsDevelopment(),-1);
-        } catch (RequestTimedOutException e){
-            e.printStackTrace();
-        }
+        refresh(NotifyModelChanged.CARDS_DEVELOPMENT, RequestTopCardsDevelopment::new);
 
         return cardsDevelopment;
     }
@@ -158,13 +200,7 @@ public class LightModel {
     public HashMap<Resource, Integer> getStrongbox() {
         if (strongbox==null) strongbox= new HashMap<>();
 
-
-        try {
-            client.sendAndWait(new RequestStrongboxInstance(),-1);
-        } catch (RequestTimedOutException e){
-            e.printStackTrace();
-        }
-
+        refresh(NotifyModelChanged.STRONGBOX, RequestStrongboxInstance::new);
 
         return strongbox;
     }
@@ -169,9 +169,10 @@ public interface ViewInterface {
      * Let player select which resources to discard
      *
      * @param choice HashMap of available resources
+     * @param suggestion HashMap of the fewest resources to discard
      * @return HashMap of selected resources
      */
-    HashMap<Resource,Integer> askForResourceToDiscard(HashMap<Resource,Integer> choice);
+    HashMap<Resource,Integer> askForResourceToDiscard(HashMap<Resource,Integer> choice, HashMap<Resource,Integer> suggestion);
 
     /**
      * Display waiting message.
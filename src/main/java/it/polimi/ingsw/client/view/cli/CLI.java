@@ -235,7 +235,7 @@ public class CLI implements ViewInterface {
     }
 
     @Override
-    public HashMap<Resource, Integer> askForResourceToDiscard(HashMap<Resource, Integer> choice) {
+    public HashMap<Resource, Integer> askForResourceToDiscard(HashMap<Resource, Integer> choice, HashMap<Resource, Integer> suggestion) {
         HashMap<Resource, Integer> temp = new HashMap<>(choice);
         HashMap<Resource, Integer> selection = new HashMap<>();
         boolean loop = true;
@@ -248,6 +248,12 @@ public class CLI implements ViewInterface {
         out.println();
         out.println("Here's a list of available resources to discard:");
         utils.printListResource(choice);
+        if (suggestion != null) {
+            HashMap<Resource, Integer> fewest = new HashMap<>(suggestion);
+            fewest.values().removeIf(amount -> amount == 0);
+            out.println("You can keep the most resources by discarding:");
+            utils.printListResource(fewest);
+        }
         do {
             Resource resource = utils.readResource(false);
             if (temp.get(resource) > 0) {
@@ -112,6 +112,7 @@ public class GUI extends Application implements ViewInterface {
 
     @Override
     public void start(Stage stage) {
+        ImageCache.preload();
         primaryStage = Scene("/fxml/Logo.fxml");
         primaryStage.showAndWait();
 
@@ -338,12 +339,19 @@ public class GUI extends Application implements ViewInterface {
     }
 
     @Override
-    public HashMap<Resource, Integer> askForResourceToDiscard(HashMap<Resource, Integer> choice) {
+    public HashMap<Resource, Integer> askForResourceToDiscard(HashMap<Resource, Integer> choice, HashMap<Resource, Integer> suggestion) {
         Platform.runLater(()->{
             PlayerBoardController playerBoardController=fxmlLoader.getController();
             playerBoardController.setDiscardRequest(choice);
         });
-        GUI.displayMessage("You have to discard resources!");
+        StringBuilder message = new StringBuilder("You have to discard resources!");
+        if (suggestion != null) {
+            message.append(" You can keep the most by discarding:");
+            suggestion.forEach((resource, amount) -> {
+                if (amount > 0) message.append(" x").append(amount).append(" ").append(resource);
+            });
+        }
+        GUI.displayMessage(message.toString());
         if (discardList==null){
             discardList=new HashMap<>();
         }
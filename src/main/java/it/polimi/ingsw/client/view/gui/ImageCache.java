@@ -0,0 +1,107 @@
+package it.polimi.ingsw.client.view.gui;
+
+import javafx.scene.image.Image;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Images of the GUI, decoded once per process.
+ * <p>
+ *     Images are keyed by path and displayed size, and decoded directly at that size, so a card shown in a small
+ *     slot doesn't keep the pixels of the full JPEG. When the decoded pixels exceed MEMORY_BUDGET the least recently
+ *     used images are evicted. Decoding doesn't need the FX thread: preload decodes the card, marble and resource
+ *     images on a background thread at startup, so that opening a scene only reads the cache.
+ * </p>
+ */
+final class ImageCache {
+
+    /**
+     * Maximum number of bytes of decoded pixels kept in the cache
+     */
+    static final long MEMORY_BUDGET = 64L << 20;
+
+    private static final LinkedHashMap<String, Image> images = new LinkedHashMap<>(128, 0.75f, true);
+    private static long usedBytes;
+
+    private ImageCache() {
+    }
+
+    /**
+     * @param path path of the image among the resources of GUI
+     * @param width displayed width
+     * @param height displayed height
+     * @return the image, decoded at width x height
+     */
+    static Image get(String path, int width, int height) {
+        String key = path + "@" + width + "x" + height;
+        synchronized (images) {
+            Image image = images.get(key);
+            if (image != null) return image;
+        }
+
+        // Decoded without holding the lock, an image requested twice at once is decoded twice and cached once
+        Image image;
+        try (InputStream stream = Objects.requireNonNull(GUI.class.getResourceAsStream(path))) {
+            image = new Image(stream, width, height, false, true);
+        } catch (IOException e) {
+            throw new IllegalStateException("Couldn't read " + path, e);
+        }
+
+        synchronized (images) {
+            Image cached = images.putIfAbsent(key, image);
+            if (cached != null) return cached;
+            usedBytes += bytes(image);
+            Iterator<Map.Entry<String, Image>> eldest = images.entrySet().iterator();
+            while (usedBytes > MEMORY_BUDGET && images.size() > 1) {
+                usedBytes -= bytes(eldest.next().getValue());
+                eldest.remove();
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Starts decoding, on a background thread, the images displayed by most scenes at the sizes they are displayed
+     */
+    static void preload() {
+        Thread preloader = new Thread(() -> {
+            // Sizes of the card development slots of the market and the player board, and of the opponent board
+            int[][] developmentSizes = {{80, 120}, {45, 60}};
+            // Sizes of the leader cards of the player board, the initial selection and the leader scene
+            int[][] leaderSizes = {{50, 70}, {80, 120}, {120, 220}};
+            for (int[] size : developmentSizes) {
+                for (int victoryPoints = 1; victoryPoints <= 12; victoryPoints++) {
+                    for (int color = 0; color < 4; color++)
+                        get("/images/CardDevelopment/Card_Development_" + victoryPoints + "-" + color + ".jpg", size[0], size[1]);
+                }
+            }
+            for (int[] size : new int[][]{{80, 120}, {45, 60}, {50, 70}, {120, 220}})
+                get("/images/CardDevelopment/Card_Development_Empty.png", size[0], size[1]);
+            for (int[] size : leaderSizes) {
+                for (int type = 1; type <= 4; type++) {
+                    for (int color = 0; color < 4; color++)
+                        get("/images/CardLeader/Card_Leader_" + type + "-" + color + ".jpg", size[0], size[1]);
+                }
+            }
+            for (String color : new String[]{"blue", "grey", "purple", "red", "white", "yellow"})
+                get("/images/Marbles/Marble_" + color + ".png", 50, 50);
+            for (String resource : new String[]{"coin", "servant", "shield", "stone"})
+                get("/images/Resources/" + resource + ".png", 20, 20);
+        }, "image-preloader");
+        preloader.setDaemon(true);
+        preloader.setPriority(Thread.MIN_PRIORITY);
+        preloader.start();
+    }
+
+    /**
+     * @return number of bytes of the decoded pixels of image
+     */
+    private static long bytes(Image image) {
+        return (long) image.getWidth() * (long) image.getHeight() * 4;
+    }
+}
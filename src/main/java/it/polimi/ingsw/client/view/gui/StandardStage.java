@@ -17,7 +17,6 @@ import javafx.stage.Stage;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Objects;
 
 public class StandardStage {
 
@@ -105,7 +104,7 @@ public class StandardStage {
     }
 
     /**
-     * Loads and fits a given image to ImageView Array
+     * Loads, from the shared ImageCache, and fits a given image to ImageView Array
      * @param index of array
      * @param path of image
      * @param array of ImageView
@@ -113,7 +112,7 @@ public class StandardStage {
      * @param height to fit
      */
     public void setImageToArray(int index,String path,ImageView[] array,int width,int height){
-        Image image=new Image(Objects.requireNonNull(GUI.class.getResourceAsStream(path)));
+        Image image = ImageCache.get(path, width, height);
         array[index]=new ImageView(image);
 
         //Fitting Image
@@ -132,7 +131,7 @@ public class StandardStage {
      * @param height to fit
      */
     public void setImageToMatrix(int row,int column,ImageView[][] matrix, String path,int width,int height){
-        Image image = new Image(Objects.requireNonNull(GUI.class.getResourceAsStream(path)));
+        Image image = ImageCache.get(path, width, height);
         matrix[row][column] = new ImageView(image);
 
         //Fitting Image
@@ -152,7 +151,7 @@ public class StandardStage {
      * @param gridPane to fill
      */
     public static void setImageToMatrix(int row, int column, ImageView[][] matrix, String path, int width, int height, GridPane gridPane){
-        Image image = new Image(Objects.requireNonNull(GUI.class.getResourceAsStream(path)));
+        Image image = ImageCache.get(path, width, height);
         matrix[row][column] = new ImageView(image);
 
         //Fitting Image
@@ -0,0 +1,100 @@
+package it.polimi.ingsw.communication;
+
+import it.polimi.ingsw.communication.codec.BinaryMessageCodec;
+import it.polimi.ingsw.communication.codec.JavaMessageCodec;
+import it.polimi.ingsw.communication.codec.MessageCodec;
+
+import java.io.*;
+
+/**
+ * Utility class that turns SerializedNetworkMessage s into length-prefixed frames and back.
+ * <p>
+ *     Every message travels on the socket as a 4 byte big-endian length followed by the encoded message.
+ *     Framing the stream this way lets a receiver know where a message ends without parsing it, which is what
+ *     allows the server to assemble messages without blocking (see NioSocketServer) while the blocking
+ *     transports simply read one frame at a time.
+ * </p>
+ * <p>
+ *     The payload is produced by the selected MessageCodec, BinaryMessageCodec by default.
+ *     Decoding accepts the payloads of every codec, so the two sides of a connection may choose differently.
+ * </p>
+ */
+public class NetworkFrames {
+
+    /**
+     * Biggest payload accepted from the network, anything bigger is considered a corrupted stream
+     */
+    public static final int MAX_FRAME_LENGTH = 1 << 20;
+
+    /**
+     * Size of the length prefix in bytes
+     */
+    public static final int HEADER_LENGTH = Integer.BYTES;
+
+    private static final BinaryMessageCodec binaryCodec = new BinaryMessageCodec();
+
+    private static volatile MessageCodec codec = binaryCodec;
+
+    private NetworkFrames() {
+    }
+
+    /**
+     * Makes every following encode use Java serialization instead of the binary codec
+     */
+    public static void useJavaSerialization() {
+        codec = new JavaMessageCodec();
+    }
+
+    /**
+     * Encodes a message into a complete frame, header included
+     * @param message to be encoded
+     * @return the frame ready to be written on a socket
+     * @throws IOException if the message cannot be serialized
+     */
+    public static byte[] encode(SerializedNetworkMessage message) throws IOException {
+        byte[] payload = codec.encode(message);
+        byte[] frame = new byte[HEADER_LENGTH + payload.length];
+        frame[0] = (byte) (payload.length >>> 24);
+        frame[1] = (byte) (payload.length >>> 16);
+        frame[2] = (byte) (payload.length >>> 8);
+        frame[3] = (byte) payload.length;
+        System.arraycopy(payload, 0, frame, HEADER_LENGTH, payload.length);
+        return frame;
+    }
+
+    /**
+     * Decodes the payload of a frame, header excluded
+     * @param payload bytes following the length prefix
+     * @return the decoded message
+     * @throws IOException if the payload is corrupted
+     * @throws ClassNotFoundException if the payload describes an unknown message
+     */
+    public static SerializedNetworkMessage decode(byte[] payload) throws IOException, ClassNotFoundException {
+        return binaryCodec.decode(payload);
+    }
+
+    /**
+     * Blocking read of a single frame
+     * @param inputStream stream to read from
+     * @return the decoded message
+     * @throws IOException if the stream is closed or corrupted
+     * @throws ClassNotFoundException if the payload describes an unknown message
+     */
+    public static SerializedNetworkMessage read(DataInputStream inputStream) throws IOException, ClassNotFoundException {
+        int length = inputStream.readInt();
+        checkLength(length);
+        byte[] payload = new byte[length];
+        inputStream.readFully(payload);
+        return decode(payload);
+    }
+
+    /**
+     * Verifies a length prefix read from the network
+     * @param length value of the prefix
+     * @throws IOException if the length can't belong to a valid frame
+     */
+    public static void checkLength(int length) throws IOException {
+        if (length < 0 || length > MAX_FRAME_LENGTH)
+            throw new IOException("Invalid frame length " + length);
+    }
+}
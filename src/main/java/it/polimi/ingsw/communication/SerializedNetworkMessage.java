@@ -14,8 +14,8 @@ import java.io.Serializable;
  * </p>
  * <p>
  *     Moreover, this class handles the timeout functionality via setTimeoutID and getTimeoutID.
- *     The TimeoutID is set to a random value when sent to a player using the TimeoutHandler.sendAndWait
- *     method. This method sets the value of the timeout to a value different from his default (-1).
+ *     The TimeoutID is set to a value unique among the requests in flight when sent to a player using the
+ *     TimeoutHandler.sendAndWait or sendAsync methods. This method sets the value of the timeout to a value different from his default (-1).
  *     When a Response is sent back from the other side of the Network, his timeoutID is check and if
  *     it matches the one sent, the timeout is verified.
  *     If the timeout has already been reached, it means that the function calling the sendAndWait method
@@ -0,0 +1,83 @@
+package it.polimi.ingsw.communication;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Factory of the executors used by the client and the server.
+ * <p>
+ *     By default every executor is a cached pool of platform threads. After useVirtualThreads has been called,
+ *     executors start a new virtual thread for each task instead, so a task blocked on a socket read or waiting for
+ *     an answer costs almost nothing. Virtual threads are looked up at runtime: on a JVM that doesn't provide them
+ *     the platform pools are kept.
+ * </p>
+ * <p>
+ *     Executors are created when their owner is, so the mode must be chosen before starting the client or the server.
+ * </p>
+ */
+public class ThreadPools {
+
+    private static volatile boolean virtualThreads = false;
+
+    private ThreadPools() {
+    }
+
+    /**
+     * Makes every executor created from now on use virtual threads, if the running JVM supports them
+     * @return true if virtual threads are available and have been enabled
+     */
+    public static boolean useVirtualThreads() {
+        virtualThreads = virtualThreadFactory() != null;
+        return virtualThreads;
+    }
+
+    /**
+     * @return true if executors are being created with virtual threads
+     */
+    public static boolean isUsingVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Creates an executor running each task as soon as it is submitted
+     * @return a virtual-thread-per-task executor or a cached pool of platform threads
+     */
+    public static ExecutorService newTaskExecutor() {
+        return newTaskExecutor(Executors.defaultThreadFactory());
+    }
+
+    /**
+     * Creates an executor running each task as soon as it is submitted
+     * @param platformThreads factory of the threads of the cached pool, used only when virtual threads are off
+     * @return a virtual-thread-per-task executor or a cached pool of platform threads
+     */
+    public static ExecutorService newTaskExecutor(ThreadFactory platformThreads) {
+        if (virtualThreads) {
+            ExecutorService executor = newVirtualThreadPerTaskExecutor();
+            if (executor != null)
+                return executor;
+        }
+        return Executors.newCachedThreadPool(platformThreads);
+    }
+
+    private static Method virtualThreadFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        Method factory = virtualThreadFactory();
+        if (factory == null)
+            return null;
+        try {
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
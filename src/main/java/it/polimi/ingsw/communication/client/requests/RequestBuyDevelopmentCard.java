@@ -23,6 +23,18 @@ public class RequestBuyDevelopmentCard extends ClientRequest {
         placementIndex = _placementIndex;
     }
 
+    public Integer getRowIndex() {
+        return rowIndex;
+    }
+
+    public Integer getColumnIndex() {
+        return columnIndex;
+    }
+
+    public Integer getPlacementIndex() {
+        return placementIndex;
+    }
+
     @Override
     public void read(VirtualClient virtualClient) {
         virtualClient.getCommandDispatcher().
@@ -0,0 +1,30 @@
+package it.polimi.ingsw.communication.client.requests;
+
+import it.polimi.ingsw.communication.client.ClientRequest;
+import it.polimi.ingsw.server.VirtualClient;
+
+/**
+ * Asks the server to push the given parts of the model every time they change, instead of notifying that they have
+ * changed and waiting for the client to request them, see ModelPartResponse.
+ */
+public class RequestSubscribe extends ClientRequest {
+
+    final int topics;
+
+    /**
+     * @param topics bitwise or of the NotifyModelChanged parts to be pushed
+     */
+    public RequestSubscribe(int topics) {
+        super(null, null);
+        this.topics = topics;
+    }
+
+    public int getTopics() {
+        return topics;
+    }
+
+    @Override
+    public void read(VirtualClient virtualClient) {
+        virtualClient.getCommandDispatcher().subscribe(topics);
+    }
+}
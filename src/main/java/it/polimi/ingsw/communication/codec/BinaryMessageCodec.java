@@ -0,0 +1,56 @@
+package it.polimi.ingsw.communication.codec;
+
+import it.polimi.ingsw.communication.SerializedNetworkMessage;
+
+import java.io.*;
+
+/**
+ * Compact MessageCodec for the message types registered in MessageRegistry.
+ * <p>
+ *     A binary payload is made of a marker byte, the numeric type of the message, its timeoutID and the fields
+ *     written by the MessageEncoder of the type.
+ *     Messages without a registered encoder are delegated to a JavaMessageCodec, the receiver tells the two
+ *     formats apart from the first byte of the payload.
+ * </p>
+ */
+public class BinaryMessageCodec implements MessageCodec {
+
+    static final byte BINARY_MARKER = 0x01;
+
+    private final JavaMessageCodec fallbackCodec = new JavaMessageCodec();
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public byte[] encode(SerializedNetworkMessage message) throws IOException {
+        MessageRegistry.Entry<SerializedNetworkMessage> entry =
+                (MessageRegistry.Entry<SerializedNetworkMessage>) MessageRegistry.getEntry(message.getClass());
+        if (entry == null)
+            return fallbackCodec.encode(message);
+        ByteArrayOutputStream byteStream = new ByteArrayOutputStream(64);
+        DataOutputStream out = new DataOutputStream(byteStream);
+        out.writeByte(BINARY_MARKER);
+        out.writeByte(entry.getTypeID());
+        out.writeInt(message.getTimeoutID());
+        entry.getEncoder().write(message, out);
+        out.flush();
+        return byteStream.toByteArray();
+    }
+
+    @Override
+    public SerializedNetworkMessage decode(byte[] payload) throws IOException, ClassNotFoundException {
+        if (JavaMessageCodec.isJavaPayload(payload))
+            return fallbackCodec.decode(payload);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        if (in.readByte() != BINARY_MARKER)
+            throw new StreamCorruptedException("Unknown payload format");
+        int typeID = in.readUnsignedByte();
+        MessageRegistry.Entry<?> entry = MessageRegistry.getEntry(typeID);
+        if (entry == null)
+            throw new ClassNotFoundException("Unknown message type " + typeID);
+        int timeoutID = in.readInt();
+        SerializedNetworkMessage message = entry.getEncoder().read(in);
+        if (timeoutID != -1)
+            message.setTimeoutID(timeoutID);
+        return message;
+    }
+}
@@ -0,0 +1,37 @@
+package it.polimi.ingsw.communication.codec;
+
+import it.polimi.ingsw.communication.SerializedNetworkMessage;
+
+import java.io.*;
+
+/**
+ * MessageCodec based on standard Java serialization, works for every message
+ */
+public class JavaMessageCodec implements MessageCodec {
+
+    private static final byte MAGIC_FIRST_BYTE = (byte) (ObjectStreamConstants.STREAM_MAGIC >>> 8);
+
+    /**
+     * @param payload of a frame
+     * @return true if payload has been produced by a JavaMessageCodec
+     */
+    public static boolean isJavaPayload(byte[] payload) {
+        return payload.length > 0 && payload[0] == MAGIC_FIRST_BYTE;
+    }
+
+    @Override
+    public byte[] encode(SerializedNetworkMessage message) throws IOException {
+        ByteArrayOutputStream byteStream = new ByteArrayOutputStream(256);
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteStream)) {
+            objectOutputStream.writeObject(message);
+        }
+        return byteStream.toByteArray();
+    }
+
+    @Override
+    public SerializedNetworkMessage decode(byte[] payload) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(payload))) {
+            return (SerializedNetworkMessage) objectInputStream.readObject();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package it.polimi.ingsw.communication.codec;
+
+import it.polimi.ingsw.communication.SerializedNetworkMessage;
+
+import java.io.IOException;
+
+/**
+ * Strategy used by NetworkFrames to turn a SerializedNetworkMessage into the payload of a frame and back
+ */
+public interface MessageCodec {
+
+    /**
+     * @param message to be encoded
+     * @return payload of the frame, length prefix excluded
+     * @throws IOException if the message cannot be encoded
+     */
+    byte[] encode(SerializedNetworkMessage message) throws IOException;
+
+    /**
+     * @param payload of a frame, length prefix excluded
+     * @return the decoded message
+     * @throws IOException if the payload is corrupted
+     * @throws ClassNotFoundException if the payload describes an unknown message
+     */
+    SerializedNetworkMessage decode(byte[] payload) throws IOException, ClassNotFoundException;
+}
@@ -0,0 +1,30 @@
+package it.polimi.ingsw.communication.codec;
+
+import it.polimi.ingsw.communication.SerializedNetworkMessage;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Hand written binary encoder of a single message type, registered in MessageRegistry
+ * @param <T> type of the encoded message
+ */
+public interface MessageEncoder<T extends SerializedNetworkMessage> {
+
+    /**
+     * Writes the fields of message, the type and the timeoutID are written by BinaryMessageCodec
+     * @param message to be written
+     * @param out destination stream
+     * @throws IOException if out can't be written
+     */
+    void write(T message, DataOutputStream out) throws IOException;
+
+    /**
+     * Reads the fields written by write and builds the message
+     * @param in source stream
+     * @return the decoded message
+     * @throws IOException if the stream is corrupted
+     */
+    T read(DataInputStream in) throws IOException;
+}
@@ -0,0 +1,355 @@
+package it.polimi.ingsw.communication.codec;
+
+import it.polimi.ingsw.communication.SerializedNetworkMessage;
+import it.polimi.ingsw.communication.client.ClientKeepAlive;
+import it.polimi.ingsw.communication.client.requests.*;
+import it.polimi.ingsw.communication.server.ModelPartResponse;
+import it.polimi.ingsw.communication.server.NotifyBriefModel;
+import it.polimi.ingsw.communication.server.NotifyBriefModelDelta;
+import it.polimi.ingsw.communication.server.NotifyModelChanged;
+import it.polimi.ingsw.communication.server.ServerKeepAlive;
+import it.polimi.ingsw.communication.server.TurnSnapshot;
+import it.polimi.ingsw.communication.server.responses.*;
+import it.polimi.ingsw.model.BriefModel;
+import it.polimi.ingsw.model.BriefModelDelta;
+import it.polimi.ingsw.model.cards.CardDevelopment;
+import it.polimi.ingsw.model.enums.FaithTileStatus;
+import it.polimi.ingsw.model.enums.MarbleType;
+import it.polimi.ingsw.model.marbles.MarbleFactory;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static it.polimi.ingsw.communication.codec.WireFormat.*;
+
+/**
+ * Numeric registry of the message types known by BinaryMessageCodec.
+ * <p>
+ *     Type IDs are part of the wire format: once assigned they must not be reused for a different message,
+ *     new messages get new IDs. Messages which are not registered here travel with Java serialization.
+ * </p>
+ */
+public class MessageRegistry {
+
+    private static final int MAX_TYPE_ID = 255;
+
+    private static final HashMap<Class<?>, Entry<?>> entriesByClass = new HashMap<>();
+    private static final Entry<?>[] entriesByID = new Entry<?>[MAX_TYPE_ID + 1];
+
+    private static final FaithTileStatus[] FAITH_TILE_STATUSES = FaithTileStatus.values();
+
+    static {
+        // Keep alive
+        registerEmpty(1, ServerKeepAlive.class, ServerKeepAlive::new);
+        registerEmpty(2, ClientKeepAlive.class, ClientKeepAlive::new);
+
+        // Requests without fields
+        registerEmpty(10, RequestMarketInstance.class, RequestMarketInstance::new);
+        registerEmpty(11, RequestCardDevelopmentMarketInstance.class, RequestCardDevelopmentMarketInstance::new);
+        registerEmpty(12, RequestTopCardsDevelopment.class, RequestTopCardsDevelopment::new);
+        registerEmpty(13, RequestCardLeaders.class, RequestCardLeaders::new);
+        registerEmpty(14, RequestDepositInstance.class, RequestDepositInstance::new);
+        registerEmpty(15, RequestStrongboxInstance.class, RequestStrongboxInstance::new);
+        registerEmpty(16, RequestFaithTrail.class, RequestFaithTrail::new);
+        registerEmpty(17, RequestEndTurn.class, RequestEndTurn::new);
+
+        // Requests with fields
+        register(20, RequestMarketUse.class, new MessageEncoder<>() {
+            @Override
+            public void write(RequestMarketUse message, DataOutputStream out) throws IOException {
+                writeVarInt(out, Integer.parseInt(message.getPayload()));
+                writeString(out, message.getKey());
+            }
+
+            @Override
+            public RequestMarketUse read(DataInputStream in) throws IOException {
+                return new RequestMarketUse(readVarInt(in), readString(in));
+            }
+        });
+        register(21, RequestBuyDevelopmentCard.class, new MessageEncoder<>() {
+            @Override
+            public void write(RequestBuyDevelopmentCard message, DataOutputStream out) throws IOException {
+                out.writeByte(message.getRowIndex());
+                out.writeByte(message.getColumnIndex());
+                out.writeByte(message.getPlacementIndex());
+            }
+
+            @Override
+            public RequestBuyDevelopmentCard read(DataInputStream in) throws IOException {
+                return new RequestBuyDevelopmentCard((int) in.readByte(), (int) in.readByte(), (int) in.readByte());
+            }
+        });
+        register(22, RequestSubscribe.class, new MessageEncoder<>() {
+            @Override
+            public void write(RequestSubscribe message, DataOutputStream out) throws IOException {
+                writeVarInt(out, message.getTopics());
+            }
+
+            @Override
+            public RequestSubscribe read(DataInputStream in) throws IOException {
+                return new RequestSubscribe(readVarInt(in));
+            }
+        });
+
+        // Model notifications and instances
+        register(30, NotifyBriefModel.class, new MessageEncoder<>() {
+            @Override
+            public void write(NotifyBriefModel message, DataOutputStream out) throws IOException {
+                BriefModel briefModel = message.getBriefModel();
+                writeString(out, message.getNickname());
+                writeVarInt(out, message.getVersion());
+                out.writeBoolean(briefModel.isEmpty());
+                writeResourceMap(out, briefModel.getDeposit());
+                writeResourceMap(out, briefModel.getStrongBox());
+                writeCardLeaderList(out, briefModel.getVisibleCardsLeaders());
+                writeCardDevelopmentList(out, briefModel.getCardsDevelopment());
+                writeVarInt(out, briefModel.getFaithTrailPosition());
+            }
+
+            @Override
+            public NotifyBriefModel read(DataInputStream in) throws IOException {
+                String nickname = readString(in);
+                int version = readVarInt(in);
+                boolean empty = in.readBoolean();
+                return new NotifyBriefModel(new BriefModel(readResourceMap(in), readResourceMap(in),
+                        readCardLeaderList(in), readCardDevelopmentList(in), readVarInt(in), empty), nickname, version);
+            }
+        });
+        register(38, NotifyBriefModelDelta.class, new MessageEncoder<>() {
+            @Override
+            public void write(NotifyBriefModelDelta message, DataOutputStream out) throws IOException {
+                BriefModelDelta delta = message.getDelta();
+                writeString(out, message.getNickname());
+                writeVarInt(out, message.getFromVersion());
+                writeResourceMap(out, delta.getDeposit());
+                writeResourceMap(out, delta.getStrongBox());
+                writeCardLeaderList(out, delta.getAddedCardsLeaders());
+                writeVarIntList(out, delta.getCardsLeadersPositions());
+                writeCardDevelopmentList(out, delta.getAddedCardsDevelopment());
+                writeVarIntList(out, delta.getCardsDevelopmentPositions());
+                out.writeBoolean(delta.getFaithTrailPosition() != null);
+                if (delta.getFaithTrailPosition() != null)
+                    writeVarInt(out, delta.getFaithTrailPosition());
+            }
+
+            @Override
+            public NotifyBriefModelDelta read(DataInputStream in) throws IOException {
+                String nickname = readString(in);
+                int fromVersion = readVarInt(in);
+                BriefModelDelta delta = new BriefModelDelta(readResourceMap(in), readResourceMap(in),
+                        readCardLeaderList(in), readVarIntList(in), readCardDevelopmentList(in), readVarIntList(in),
+                        in.readBoolean() ? readVarInt(in) : null);
+                return new NotifyBriefModelDelta(delta, nickname, fromVersion);
+            }
+        });
+        register(37, NotifyModelChanged.class, new MessageEncoder<>() {
+            @Override
+            public void write(NotifyModelChanged message, DataOutputStream out) throws IOException {
+                writeVarInt(out, message.getChangedParts());
+            }
+
+            @Override
+            public NotifyModelChanged read(DataInputStream in) throws IOException {
+                return new NotifyModelChanged(readVarInt(in));
+            }
+        });
+        register(31, ResponseMarketInstance.class, new MessageEncoder<>() {
+            @Override
+            public void write(ResponseMarketInstance message, DataOutputStream out) throws IOException {
+                writeMarbleMatrix(out, message.getMarketClone());
+                out.writeByte(message.getSpareMarble().getType().ordinal());
+            }
+
+            @Override
+            public ResponseMarketInstance read(DataInputStream in) throws IOException {
+                List<List<MarbleType>> marketClone = readMarbleMatrix(in);
+                MarbleType spareMarble = MarbleType.values()[in.readUnsignedByte()];
+                return new ResponseMarketInstance(marketClone, MarbleFactory.get(spareMarble));
+            }
+        });
+        register(32, ResponseCardDevelopmentMarketInstance.class, new MessageEncoder<>() {
+            @Override
+            public void write(ResponseCardDevelopmentMarketInstance message, DataOutputStream out) throws IOException {
+                List<List<CardDevelopment>> cardMarket = message.getCardMarketClone();
+                writeVarInt(out, cardMarket.size());
+                for (List<CardDevelopment> row : cardMarket)
+                    writeCardDevelopmentList(out, row);
+            }
+
+            @Override
+            public ResponseCardDevelopmentMarketInstance read(DataInputStream in) throws IOException {
+                int rows = readVarInt(in);
+                ArrayList<List<CardDevelopment>> cardMarket = new ArrayList<>(rows);
+                for (int i = 0; i < rows; i++)
+                    cardMarket.add(readCardDevelopmentList(in));
+                return new ResponseCardDevelopmentMarketInstance(cardMarket);
+            }
+        });
+        register(33, ResponseTopCardsDevelopment.class, new MessageEncoder<>() {
+            @Override
+            public void write(ResponseTopCardsDevelopment message, DataOutputStream out) throws IOException {
+                writeCardDevelopmentList(out, message.getDevelopmentCards());
+            }
+
+            @Override
+            public ResponseTopCardsDevelopment read(DataInputStream in) throws IOException {
+                return new ResponseTopCardsDevelopment(readCardDevelopmentList(in));
+            }
+        });
+        register(34, ResponseCardLeaders.class, new MessageEncoder<>() {
+            @Override
+            public void write(ResponseCardLeaders message, DataOutputStream out) throws IOException {
+                writeCardLeaderList(out, message.getLeaderCards());
+            }
+
+            @Override
+            public ResponseCardLeaders read(DataInputStream in) throws IOException {
+                return new ResponseCardLeaders(readCardLeaderList(in));
+            }
+        });
+        register(35, ResponseStorageInstance.class, new MessageEncoder<>() {
+            @Override
+            public void write(ResponseStorageInstance message, DataOutputStream out) throws IOException {
+                out.writeBoolean(message.isDeposit());
+                writeResourceMap(out, message.getStorage());
+                writeResourceList(out, message.getLeaderResources());
+                writeResourceMap(out, message.getLeaderContent());
+            }
+
+            @Override
+            public ResponseStorageInstance read(DataInputStream in) throws IOException {
+                return new ResponseStorageInstance(in.readBoolean(), readResourceMap(in), readResourceList(in),
+                        readResourceMap(in));
+            }
+        });
+        register(36, ResponseLightFaithTrail.class, new MessageEncoder<>() {
+            @Override
+            public void write(ResponseLightFaithTrail message, DataOutputStream out) throws IOException {
+                writeVarInt(out, message.getTileStatuses().size());
+                for (FaithTileStatus tileStatus : message.getTileStatuses())
+                    out.writeByte(tileStatus.ordinal());
+                writeVarInt(out, message.getPlayerPositions().size());
+                for (String nickname : message.getPlayerPositions().keySet()) {
+                    writeString(out, nickname);
+                    writeVarInt(out, message.getPlayerPositions().get(nickname));
+                }
+            }
+
+            @Override
+            public ResponseLightFaithTrail read(DataInputStream in) throws IOException {
+                int tiles = readVarInt(in);
+                ArrayList<FaithTileStatus> tileStatuses = new ArrayList<>(tiles);
+                for (int i = 0; i < tiles; i++)
+                    tileStatuses.add(FAITH_TILE_STATUSES[in.readUnsignedByte()]);
+                int players = readVarInt(in);
+                HashMap<String, Integer> playerPositions = new HashMap<>();
+                for (int i = 0; i < players; i++)
+                    playerPositions.put(readString(in), readVarInt(in));
+                return new ResponseLightFaithTrail(tileStatuses, playerPositions);
+            }
+        });
+        register(39, TurnSnapshot.class, new MessageEncoder<>() {
+            @Override
+            public void write(TurnSnapshot message, DataOutputStream out) throws IOException {
+                writeVarInt(out, message.getParts().size());
+                for (ModelPartResponse part : message.getParts())
+                    writeNested(part, out);
+            }
+
+            @Override
+            public TurnSnapshot read(DataInputStream in) throws IOException {
+                int size = readVarInt(in);
+                ArrayList<ModelPartResponse> parts = new ArrayList<>(size);
+                for (int i = 0; i < size; i++)
+                    parts.add((ModelPartResponse) readNested(in));
+                return new TurnSnapshot(parts);
+            }
+        });
+    }
+
+    private MessageRegistry() {
+    }
+
+    /**
+     * @param type class of a message
+     * @return the registration of type, null if type travels with Java serialization
+     */
+    static Entry<?> getEntry(Class<?> type) {
+        return entriesByClass.get(type);
+    }
+
+    /**
+     * @param typeID numeric type read from a payload
+     * @return the registration of typeID, null if unknown
+     */
+    static Entry<?> getEntry(int typeID) {
+        return typeID <= MAX_TYPE_ID ? entriesByID[typeID] : null;
+    }
+
+    /**
+     * Writes a registered message inside another one, as its type followed by its fields, without timeoutID
+     */
+    @SuppressWarnings("unchecked")
+    private static void writeNested(SerializedNetworkMessage message, DataOutputStream out) throws IOException {
+        Entry<SerializedNetworkMessage> entry = (Entry<SerializedNetworkMessage>) entriesByClass.get(message.getClass());
+        out.writeByte(entry.getTypeID());
+        entry.getEncoder().write(message, out);
+    }
+
+    private static SerializedNetworkMessage readNested(DataInputStream in) throws IOException {
+        Entry<?> entry = getEntry(in.readUnsignedByte());
+        if (entry == null)
+            throw new StreamCorruptedException("Unknown nested message type");
+        return entry.getEncoder().read(in);
+    }
+
+    private static <T extends SerializedNetworkMessage> void register(int typeID, Class<T> type, MessageEncoder<T> encoder) {
+        if (entriesByID[typeID] != null || entriesByClass.containsKey(type))
+            throw new IllegalStateException("Message type " + typeID + " registered twice");
+        Entry<T> entry = new Entry<>(typeID, encoder);
+        entriesByID[typeID] = entry;
+        entriesByClass.put(type, entry);
+    }
+
+    private static <T extends SerializedNetworkMessage> void registerEmpty(int typeID, Class<T> type, Supplier<T> constructor) {
+        register(typeID, type, new MessageEncoder<>() {
+            @Override
+            public void write(T message, DataOutputStream out) {
+            }
+
+            @Override
+            public T read(DataInputStream in) {
+                return constructor.get();
+            }
+        });
+    }
+
+    /**
+     * Registration of a single message type
+     * @param <T> type of the registered message
+     */
+    static class Entry<T extends SerializedNetworkMessage> {
+
+        private final int typeID;
+        private final MessageEncoder<T> encoder;
+
+        Entry(int typeID, MessageEncoder<T> encoder) {
+            this.typeID = typeID;
+            this.encoder = encoder;
+        }
+
+        int getTypeID() {
+            return typeID;
+        }
+
+        MessageEncoder<T> getEncoder() {
+            return encoder;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package it.polimi.ingsw.communication.codec;
+
+import it.polimi.ingsw.model.CardLeader;
+import it.polimi.ingsw.model.CardLeaderFactory;
+import it.polimi.ingsw.model.ResourceVector;
+import it.polimi.ingsw.model.cards.CardDevelopment;
+import it.polimi.ingsw.model.enums.CardLeaderType;
+import it.polimi.ingsw.model.enums.MarbleType;
+import it.polimi.ingsw.model.enums.Resource;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Binary encoding of the values shared by many messages, used by the MessageEncoder s in MessageRegistry.
+ * Collections and objects are preceded by a length or presence marker so that null values survive the trip.
+ */
+public class WireFormat {
+
+    private static final Resource[] RESOURCES = Resource.values();
+    private static final MarbleType[] MARBLE_TYPES = MarbleType.values();
+    private static final CardLeaderType[] CARD_LEADER_TYPES = CardLeaderType.values();
+    private static final CardLeaderFactory cardLeaderFactory = new CardLeaderFactory();
+
+    private WireFormat() {
+    }
+
+    /**
+     * Writes a non negative int in 1 to 5 bytes, 7 bits per byte
+     * @param out destination stream
+     * @param value to be written, must be >= 0
+     * @throws IOException if out can't be written
+     */
+    public static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    public static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return value;
+        }
+        throw new StreamCorruptedException("VarInt too long");
+    }
+
+    public static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null)
+            out.writeUTF(value);
+    }
+
+    public static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    public static void writeResource(DataOutputStream out, Resource resource) throws IOException {
+        out.writeByte(resource == null ? -1 : resource.ordinal());
+    }
+
+    public static Resource readResource(DataInputStream in) throws IOException {
+        int ordinal = in.readByte();
+        return ordinal == -1 ? null : RESOURCES[ordinal];
+    }
+
+    public static void writeResourceMap(DataOutputStream out, HashMap<Resource, Integer> map) throws IOException {
+        if (map == null) {
+            out.writeByte(-1);
+            return;
+        }
+        out.writeByte(map.size());
+        for (Resource resource : map.keySet()) {
+            out.writeByte(resource.ordinal());
+            writeVarInt(out, map.get(resource));
+        }
+    }
+
+    public static HashMap<Resource, Integer> readResourceMap(DataInputStream in) throws IOException {
+        int size = in.readByte();
+        if (size == -1)
+            return null;
+        HashMap<Resource, Integer> map = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            Resource resource = RESOURCES[in.readUnsignedByte()];
+            map.put(resource, readVarInt(in));
+        }
+        return map;
+    }
+
+    public static void writeResourceList(DataOutputStream out, ArrayList<Resource> list) throws IOException {
+        if (list == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        writeVarInt(out, list.size() + 1);
+        for (Resource resource : list)
+            writeResource(out, resource);
+    }
+
+    public static ArrayList<Resource> readResourceList(DataInputStream in) throws IOException {
+        int size = readVarInt(in) - 1;
+        if (size == -1)
+            return null;
+        ArrayList<Resource> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+            list.add(readResource(in));
+        return list;
+    }
+
+    public static void writeVarIntList(DataOutputStream out, ArrayList<Integer> list) throws IOException {
+        writeVarInt(out, list.size());
+        for (int value : list)
+            writeVarInt(out, value);
+    }
+
+    public static ArrayList<Integer> readVarIntList(DataInputStream in) throws IOException {
+        int size = readVarInt(in);
+        ArrayList<Integer> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+            list.add(readVarInt(in));
+        return list;
+    }
+
+    public static void writeMarbleMatrix(DataOutputStream out, List<List<MarbleType>> matrix) throws IOException {
+        writeVarInt(out, matrix.size());
+        for (List<MarbleType> row : matrix) {
+            writeVarInt(out, row.size());
+            for (MarbleType marbleType : row)
+                out.writeByte(marbleType.ordinal());
+        }
+    }
+
+    public static List<List<MarbleType>> readMarbleMatrix(DataInputStream in) throws IOException {
+        int rows = readVarInt(in);
+        ArrayList<List<MarbleType>> matrix = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            int columns = readVarInt(in);
+            ArrayList<MarbleType> row = new ArrayList<>(columns);
+            for (int j = 0; j < columns; j++)
+                row.add(MARBLE_TYPES[in.readUnsignedByte()]);
+            matrix.add(row);
+        }
+        return matrix;
+    }
+
+    /**
+     * Writes a card as its catalog ID followed by the resources it is discounted of, every other value is found in
+     * the catalog. Cards are rarely discounted, so most of them take 2 bytes
+     */
+    public static void writeCardDevelopment(DataOutputStream out, CardDevelopment card) throws IOException {
+        out.writeByte(card == null ? -1 : card.getCatalogID());
+        if (card != null) {
+            ResourceVector discount = card.getDiscount();
+            HashMap<Resource, Integer> discounted = new HashMap<>();
+            for (Resource resource : RESOURCES) {
+                if (discount.get(resource) != 0)
+                    discounted.put(resource, discount.get(resource));
+            }
+            writeResourceMap(out, discounted);
+        }
+    }
+
+    public static CardDevelopment readCardDevelopment(DataInputStream in) throws IOException {
+        int catalogID = in.readByte();
+        return catalogID == -1 ? null : new CardDevelopment(catalogID, ResourceVector.fromMap(readResourceMap(in)));
+    }
+
+    public static void writeCardDevelopmentList(DataOutputStream out, List<CardDevelopment> list) throws IOException {
+        writeVarInt(out, list.size());
+        for (CardDevelopment card : list)
+            writeCardDevelopment(out, card);
+    }
+
+    public static ArrayList<CardDevelopment> readCardDevelopmentList(DataInputStream in) throws IOException {
+        int size = readVarInt(in);
+        ArrayList<CardDevelopment> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+            list.add(readCardDevelopment(in));
+        return list;
+    }
+
+    /**
+     * Writes a card as its type and resource, which identify it, followed by its owner and activation state
+     */
+    public static void writeCardLeader(DataOutputStream out, CardLeader card) throws IOException {
+        out.writeByte(card == null ? -1 : card.getDescription().ordinal());
+        if (card != null) {
+            writeResource(out, card.getResource());
+            out.writeBoolean(card.getActivationState());
+            writeString(out, card.getPlayerName());
+        }
+    }
+
+    public static CardLeader readCardLeader(DataInputStream in) throws IOException {
+        int type = in.readByte();
+        if (type == -1)
+            return null;
+        Resource resource = readResource(in);
+        boolean active = in.readBoolean();
+        return cardLeaderFactory.restore(CARD_LEADER_TYPES[type], resource, readString(in), active);
+    }
+
+    public static void writeCardLeaderList(DataOutputStream out, ArrayList<CardLeader> list) throws IOException {
+        writeVarInt(out, list.size());
+        for (CardLeader card : list)
+            writeCardLeader(out, card);
+    }
+
+    public static ArrayList<CardLeader> readCardLeaderList(DataInputStream in) throws IOException {
+        int size = readVarInt(in);
+        ArrayList<CardLeader> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+            list.add(readCardLeader(in));
+        return list;
+    }
+}
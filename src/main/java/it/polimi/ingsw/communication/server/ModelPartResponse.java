@@ -0,0 +1,64 @@
+package it.polimi.ingsw.communication.server;
+
+import it.polimi.ingsw.client.ClientCommandDispatcher;
+
+/**
+ * Copy of a part of the model displayed by the view, one of the NotifyModelChanged parts.
+ * <p>
+ *     It is either the answer to a request of the client or pushed by the server, without a timeoutID, to a client
+ *     subscribed to the part, see RequestSubscribe. Pushed copies are state updates and supersede each other.
+ * </p>
+ */
+public abstract class ModelPartResponse extends ServerResponse {
+
+    public ModelPartResponse() {
+        super(null, null);
+    }
+
+    /**
+     * @return the NotifyModelChanged part carried by this message
+     */
+    public abstract int getPart();
+
+    /**
+     * @return true if this message was not requested by the client
+     */
+    public boolean isPushed() {
+        return getTimeoutID() == -1;
+    }
+
+    @Override
+    public boolean isStateUpdate() {
+        return isPushed();
+    }
+
+    @Override
+    public Object getCoalescingKey() {
+        return isPushed() ? pushedKey(getPart()) : null;
+    }
+
+    /**
+     * @param part one of the NotifyModelChanged parts
+     * @return coalescing key of the pushed copies of the part
+     */
+    public static Object pushedKey(int part) {
+        return "ModelPart " + part;
+    }
+
+    /**
+     * Updates the part on the client
+     * @param commandDispatcher Game dispatcher
+     */
+    protected abstract void update(ClientCommandDispatcher commandDispatcher);
+
+    /**
+     * Calls the method specified in the update function, a pushed copy is up to date until the server says otherwise
+     *
+     * @param commandDispatcher Game dispatcher
+     */
+    @Override
+    public final void read(ClientCommandDispatcher commandDispatcher) {
+        update(commandDispatcher);
+        if (isPushed()) commandDispatcher.modelPartPushed(getPart());
+    }
+}
@@ -9,10 +9,45 @@ public class NotifyBriefModel extends ServerMessage {
     private final BriefModel briefModel;
     private final String nickname;
 
+    /**
+     * Version of the BriefModel, deltas sent later are computed from it, see NotifyBriefModelDelta
+     */
+    private final int version;
+
     public NotifyBriefModel(PlayerBoard playerBoard) {
+        this(new BriefModel(playerBoard), playerBoard.getNickname(), 0);
+    }
+
+    public NotifyBriefModel(BriefModel briefModel, String nickname, int version) {
         super(null, null);
-        briefModel = new BriefModel(playerBoard);
-        nickname = playerBoard.getNickname();
+        this.briefModel = briefModel;
+        this.nickname = nickname;
+        this.version = version;
+    }
+
+    public BriefModel getBriefModel() {
+        return briefModel;
+    }
+
+    public String getNickname() {
+        return nickname;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * A newer BriefModel of the same player makes the older one useless
+     */
+    @Override
+    public Object getCoalescingKey() {
+        return "NotifyBriefModel " + nickname;
+    }
+
+    @Override
+    public boolean isStateUpdate() {
+        return true;
     }
 
     /**
@@ -22,6 +57,6 @@ public class NotifyBriefModel extends ServerMessage {
      */
     @Override
     public void read(ClientCommandDispatcher commandDispatcher) {
-        commandDispatcher.notifyBriefModel(briefModel, nickname);
+        commandDispatcher.notifyBriefModel(briefModel, nickname, version);
     }
 }
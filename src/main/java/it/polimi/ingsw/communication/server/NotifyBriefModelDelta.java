@@ -0,0 +1,53 @@
+package it.polimi.ingsw.communication.server;
+
+import it.polimi.ingsw.client.ClientCommandDispatcher;
+import it.polimi.ingsw.model.BriefModelDelta;
+
+/**
+ * Changes of the BriefModel of a player, sent instead of a NotifyBriefModel to the clients already holding the
+ * previous version.
+ */
+public class NotifyBriefModelDelta extends ServerMessage {
+
+    private final BriefModelDelta delta;
+    private final String nickname;
+
+    /**
+     * Version of the BriefModel the changes were computed from
+     */
+    private final int fromVersion;
+
+    public NotifyBriefModelDelta(BriefModelDelta delta, String nickname, int fromVersion) {
+        super(null, null);
+        this.delta = delta;
+        this.nickname = nickname;
+        this.fromVersion = fromVersion;
+    }
+
+    public BriefModelDelta getDelta() {
+        return delta;
+    }
+
+    public String getNickname() {
+        return nickname;
+    }
+
+    public int getFromVersion() {
+        return fromVersion;
+    }
+
+    @Override
+    public boolean isStateUpdate() {
+        return true;
+    }
+
+    /**
+     * Calls the method specified in the read function
+     *
+     * @param commandDispatcher Game dispatcher
+     */
+    @Override
+    public void read(ClientCommandDispatcher commandDispatcher) {
+        commandDispatcher.notifyBriefModelDelta(delta, nickname, fromVersion);
+    }
+}
@@ -0,0 +1,57 @@
+package it.polimi.ingsw.communication.server;
+
+import it.polimi.ingsw.client.ClientCommandDispatcher;
+
+/**
+ * Tells a client which parts of its LightModel are out of date. The client requests a part again only the next time
+ * the view reads it, so a part that is not displayed costs nothing.
+ */
+public class NotifyModelChanged extends ServerMessage {
+
+    public static final int MARKET = 1;
+    public static final int CARD_DEVELOPMENT_MARKET = 1 << 1;
+    public static final int DEPOSIT = 1 << 2;
+    public static final int STRONGBOX = 1 << 3;
+    public static final int CARDS_LEADER = 1 << 4;
+    public static final int CARDS_DEVELOPMENT = 1 << 5;
+    public static final int FAITH_TRAIL = 1 << 6;
+
+    /**
+     * Number of parts, every part is a bit of changedParts
+     */
+    public static final int PARTS = 7;
+
+    /**
+     * Bitwise or of every part
+     */
+    public static final int ALL = (1 << PARTS) - 1;
+
+    private final int changedParts;
+
+    /**
+     * @param changedParts bitwise or of the parts changed
+     */
+    public NotifyModelChanged(int changedParts) {
+        super(null, null);
+        this.changedParts = changedParts;
+    }
+
+    public int getChangedParts() {
+        return changedParts;
+    }
+
+    @Override
+    public boolean isStateUpdate() {
+        return true;
+    }
+
+    /**
+     * Calls the method specified in the read function
+     *
+     * @param commandDispatcher Game dispatcher
+     */
+    @Override
+    public void read(ClientCommandDispatcher commandDispatcher) {
+        commandDispatcher.modelChanged(changedParts);
+    }
+}
@@ -7,6 +7,11 @@ public class ServerKeepAlive extends ServerMessage {
         super(null, null);
     }
 
+    @Override
+    public Object getCoalescingKey() {
+        return ServerKeepAlive.class;
+    }
+
     @Override
     public void read(ClientCommandDispatcher commandDispatcher) {
     }
@@ -26,6 +26,24 @@ public abstract class ServerMessage extends SerializedNetworkMessage {
         return message;
     }
 
+    /**
+     * Messages carrying the same non null key supersede each other: if an older one is still waiting to be
+     * written to a client when a newer one is sent, the older one is dropped.
+     * @return key of the state pushed by this message, null if this message must always be delivered
+     */
+    public Object getCoalescingKey() {
+        return null;
+    }
+
+    /**
+     * State updates are read by the client as soon as they arrive, in the order they were sent, instead of being
+     * handed to a worker thread.
+     * @return true if this message updates the state held by the client
+     */
+    public boolean isStateUpdate() {
+        return false;
+    }
+
     /**
      * Calls the method specified in the read function
      * @param commandDispatcher Game dispatcher
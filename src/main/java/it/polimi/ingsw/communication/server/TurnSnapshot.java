@@ -0,0 +1,42 @@
+package it.polimi.ingsw.communication.server;
+
+import it.polimi.ingsw.client.ClientCommandDispatcher;
+
+import java.util.ArrayList;
+
+/**
+ * Every part of the model the view of the active player needs and isn't pushed to it, sent together with
+ * RequestSignalActivePlayer so that the view can be displayed without requesting the parts one by one.
+ */
+public class TurnSnapshot extends ServerMessage {
+
+    private final ArrayList<ModelPartResponse> parts;
+
+    /**
+     * @param parts copies of the parts, at most one for every NotifyModelChanged part
+     */
+    public TurnSnapshot(ArrayList<ModelPartResponse> parts) {
+        super(null, null);
+        this.parts = parts;
+    }
+
+    public ArrayList<ModelPartResponse> getParts() {
+        return parts;
+    }
+
+    @Override
+    public boolean isStateUpdate() {
+        return true;
+    }
+
+    /**
+     * Updates every part carried, as if each had been pushed
+     *
+     * @param commandDispatcher Game dispatcher
+     */
+    @Override
+    public void read(ClientCommandDispatcher commandDispatcher) {
+        for (ModelPartResponse part : parts)
+            part.read(commandDispatcher);
+    }
+}
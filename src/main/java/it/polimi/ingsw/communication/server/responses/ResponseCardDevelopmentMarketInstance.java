@@ -1,22 +1,31 @@
 package it.polimi.ingsw.communication.server.responses;
 
 import it.polimi.ingsw.client.ClientCommandDispatcher;
-import it.polimi.ingsw.communication.server.ServerResponse;
+import it.polimi.ingsw.communication.server.ModelPartResponse;
+import it.polimi.ingsw.communication.server.NotifyModelChanged;
 import it.polimi.ingsw.model.cards.CardDevelopment;
 
-import java.util.ArrayList;
+import java.util.List;
 
-public class ResponseCardDevelopmentMarketInstance extends ServerResponse {
+public class ResponseCardDevelopmentMarketInstance extends ModelPartResponse {
 
-    final ArrayList<ArrayList<CardDevelopment>> cardMarketClone;
+    final List<List<CardDevelopment>> cardMarketClone;
 
-    public ResponseCardDevelopmentMarketInstance(ArrayList<ArrayList<CardDevelopment>> _cardMarketClone) {
-        super(null, null);
+    public ResponseCardDevelopmentMarketInstance(List<List<CardDevelopment>> _cardMarketClone) {
         cardMarketClone = _cardMarketClone;
     }
 
+    public List<List<CardDevelopment>> getCardMarketClone() {
+        return cardMarketClone;
+    }
+
+    @Override
+    public int getPart() {
+        return NotifyModelChanged.CARD_DEVELOPMENT_MARKET;
+    }
+
     @Override
-    public void read(ClientCommandDispatcher commandDispatcher) {
+    protected void update(ClientCommandDispatcher commandDispatcher) {
         commandDispatcher.setCardDevelopmentMarketInstance(cardMarketClone);
     }
 }
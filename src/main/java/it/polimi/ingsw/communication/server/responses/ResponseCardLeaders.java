@@ -1,22 +1,31 @@
 package it.polimi.ingsw.communication.server.responses;
 
 import it.polimi.ingsw.client.ClientCommandDispatcher;
-import it.polimi.ingsw.communication.server.ServerResponse;
+import it.polimi.ingsw.communication.server.ModelPartResponse;
+import it.polimi.ingsw.communication.server.NotifyModelChanged;
 import it.polimi.ingsw.model.CardLeader;
 
 import java.util.ArrayList;
 
-public class ResponseCardLeaders extends ServerResponse {
+public class ResponseCardLeaders extends ModelPartResponse {
 
     final ArrayList<CardLeader> leaderCards;
 
     public ResponseCardLeaders(ArrayList<CardLeader> _leaderCards) {
-        super(null, null);
         leaderCards = _leaderCards;
     }
 
+    public ArrayList<CardLeader> getLeaderCards() {
+        return leaderCards;
+    }
+
+    @Override
+    public int getPart() {
+        return NotifyModelChanged.CARDS_LEADER;
+    }
+
     @Override
-    public void read(ClientCommandDispatcher commandDispatcher) {
+    protected void update(ClientCommandDispatcher commandDispatcher) {
         commandDispatcher.setLeaderCards(leaderCards);
     }
 }
@@ -10,9 +10,16 @@ public class ResponseDiscardResourceSelection extends ServerResponse {
 
     private final HashMap<Resource,Integer> resources;
 
-    public ResponseDiscardResourceSelection(HashMap<Resource,Integer> resources) {
+    private final HashMap<Resource,Integer> suggestedDiscard;
+
+    /**
+     * @param resources resources from which the selection must be made
+     * @param suggestedDiscard fewest resources to discard, as computed by the server
+     */
+    public ResponseDiscardResourceSelection(HashMap<Resource,Integer> resources, HashMap<Resource,Integer> suggestedDiscard) {
         super(null, null);
         this.resources = resources;
+        this.suggestedDiscard = suggestedDiscard;
     }
 
     /**
@@ -22,6 +29,6 @@ public class ResponseDiscardResourceSelection extends ServerResponse {
      */
     @Override
     public void read(ClientCommandDispatcher commandDispatcher) {
-        commandDispatcher.discardResourceSelection(resources);
+        commandDispatcher.discardResourceSelection(resources, suggestedDiscard);
     }
 }
@@ -1,25 +1,38 @@
 package it.polimi.ingsw.communication.server.responses;
 
 import it.polimi.ingsw.client.ClientCommandDispatcher;
-import it.polimi.ingsw.communication.server.ServerResponse;
+import it.polimi.ingsw.communication.server.ModelPartResponse;
+import it.polimi.ingsw.communication.server.NotifyModelChanged;
 import it.polimi.ingsw.model.enums.FaithTileStatus;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 
-public class ResponseLightFaithTrail extends ServerResponse {
+public class ResponseLightFaithTrail extends ModelPartResponse {
 
     final ArrayList<FaithTileStatus> tileStatuses;
     final HashMap<String, Integer> playerPositions;
 
     public ResponseLightFaithTrail(ArrayList<FaithTileStatus> _tileStatuses, HashMap<String, Integer> _playerPositions) {
-        super(null, null);
         tileStatuses = _tileStatuses;
         playerPositions = _playerPositions;
     }
 
+    public ArrayList<FaithTileStatus> getTileStatuses() {
+        return tileStatuses;
+    }
+
+    public HashMap<String, Integer> getPlayerPositions() {
+        return playerPositions;
+    }
+
+    @Override
+    public int getPart() {
+        return NotifyModelChanged.FAITH_TRAIL;
+    }
+
     @Override
-    public void read(ClientCommandDispatcher commandDispatcher) {
+    protected void update(ClientCommandDispatcher commandDispatcher) {
         commandDispatcher.setFaithTrail(playerPositions, tileStatuses);
     }
 }
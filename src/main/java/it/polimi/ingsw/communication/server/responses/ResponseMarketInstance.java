@@ -1,25 +1,38 @@
 package it.polimi.ingsw.communication.server.responses;
 
 import it.polimi.ingsw.client.ClientCommandDispatcher;
-import it.polimi.ingsw.communication.server.ServerResponse;
+import it.polimi.ingsw.communication.server.ModelPartResponse;
+import it.polimi.ingsw.communication.server.NotifyModelChanged;
 import it.polimi.ingsw.model.marbles.Marble;
 import it.polimi.ingsw.model.enums.MarbleType;
 
-import java.util.ArrayList;
+import java.util.List;
 
-public class ResponseMarketInstance extends ServerResponse {
+public class ResponseMarketInstance extends ModelPartResponse {
 
     private final Marble spareMarble;
-    final ArrayList<ArrayList<MarbleType>> marketClone;
+    final List<List<MarbleType>> marketClone;
 
-    public ResponseMarketInstance(ArrayList<ArrayList<MarbleType>> _marketClone, Marble spareMarble) {
-        super(null, null);
+    public ResponseMarketInstance(List<List<MarbleType>> _marketClone, Marble spareMarble) {
         marketClone = _marketClone;
         this.spareMarble = spareMarble;
     }
 
+    public List<List<MarbleType>> getMarketClone() {
+        return marketClone;
+    }
+
+    public Marble getSpareMarble() {
+        return spareMarble;
+    }
+
+    @Override
+    public int getPart() {
+        return NotifyModelChanged.MARKET;
+    }
+
     @Override
-    public void read(ClientCommandDispatcher commandDispatcher) {
+    protected void update(ClientCommandDispatcher commandDispatcher) {
         commandDispatcher.setMarketInstance(marketClone, spareMarble);
     }
 }
@@ -1,13 +1,14 @@
 package it.polimi.ingsw.communication.server.responses;
 
 import it.polimi.ingsw.client.ClientCommandDispatcher;
-import it.polimi.ingsw.communication.server.ServerResponse;
+import it.polimi.ingsw.communication.server.ModelPartResponse;
+import it.polimi.ingsw.communication.server.NotifyModelChanged;
 import it.polimi.ingsw.model.enums.Resource;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 
-public class ResponseStorageInstance extends ServerResponse {
+public class ResponseStorageInstance extends ModelPartResponse {
 
     final boolean isDeposit;
     final HashMap<Resource, Integer> storage;
@@ -20,20 +21,40 @@ public class ResponseStorageInstance extends ServerResponse {
             ArrayList<Resource> _leaderResources,
             HashMap<Resource, Integer> _leaderContent)
     {
-        super(null, null);
         isDeposit = _isDeposit;
         storage = _storage;
         leaderResources = _leaderResources;
         leaderContent = _leaderContent;
     }
 
+    public boolean isDeposit() {
+        return isDeposit;
+    }
+
+    public HashMap<Resource, Integer> getStorage() {
+        return storage;
+    }
+
+    public ArrayList<Resource> getLeaderResources() {
+        return leaderResources;
+    }
+
+    public HashMap<Resource, Integer> getLeaderContent() {
+        return leaderContent;
+    }
+
+    @Override
+    public int getPart() {
+        return isDeposit ? NotifyModelChanged.DEPOSIT : NotifyModelChanged.STRONGBOX;
+    }
+
     /**
      * Calls the method specified in the read function
      *
      * @param commandDispatcher Game dispatcher
      */
     @Override
-    public void read(ClientCommandDispatcher commandDispatcher) {
+    protected void update(ClientCommandDispatcher commandDispatcher) {
 
         if (isDeposit) {
             commandDispatcher.setDeposit(storage, leaderResources, leaderContent);
@@ -1,22 +1,31 @@
 package it.polimi.ingsw.communication.server.responses;
 
 import it.polimi.ingsw.client.ClientCommandDispatcher;
-import it.polimi.ingsw.communication.server.ServerResponse;
+import it.polimi.ingsw.communication.server.ModelPartResponse;
+import it.polimi.ingsw.communication.server.NotifyModelChanged;
 import it.polimi.ingsw.model.cards.CardDevelopment;
 
 import java.util.ArrayList;
 
-public class ResponseTopCardsDevelopment extends ServerResponse {
+public class ResponseTopCardsDevelopment extends ModelPartResponse {
 
     final ArrayList<CardDevelopment> developmentCards;
 
     public ResponseTopCardsDevelopment(ArrayList<CardDevelopment> _developmentCards) {
-        super(null, null);
         developmentCards = _developmentCards;
     }
 
+    public ArrayList<CardDevelopment> getDevelopmentCards() {
+        return developmentCards;
+    }
+
+    @Override
+    public int getPart() {
+        return NotifyModelChanged.CARDS_DEVELOPMENT;
+    }
+
     @Override
-    public void read(ClientCommandDispatcher commandDispatcher) {
+    protected void update(ClientCommandDispatcher commandDispatcher) {
         commandDispatcher.setTopCardsDevelopment(developmentCards);
     }
 }
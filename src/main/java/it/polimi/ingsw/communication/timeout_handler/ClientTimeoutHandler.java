@@ -4,6 +4,7 @@ import it.polimi.ingsw.client.Client;
 import it.polimi.ingsw.client.RequestTimedOutException;
 import it.polimi.ingsw.communication.client.ClientMessage;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
 
 /**
@@ -40,7 +41,18 @@ public class ClientTimeoutHandler {
     }
 
     /**
-     * definitely removes the timer and releases the waiting thread.
+     * sends a message to the Server without blocking
+     * @param clientMessage message to be sent
+     * @param timeoutInSeconds timeout given to the server to respond. -1 to wait indefinitely
+     * @return future completed once the ServerResponse regarding this message has been executed,
+     * completed exceptionally with a TimeoutException if the given timeout expires
+     */
+    public CompletableFuture<Void> sendAsync(ClientMessage clientMessage, int timeoutInSeconds) {
+        return timeoutHandler.sendAsync(clientMessage, timeoutInSeconds);
+    }
+
+    /**
+     * definitely removes the timer and completes the future of the request.
      * @param timeoutID timeoutID to release
      */
     public void defuse(int timeoutID) {
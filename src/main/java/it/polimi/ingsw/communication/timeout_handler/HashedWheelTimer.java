@@ -0,0 +1,174 @@
+package it.polimi.ingsw.communication.timeout_handler;
+
+import it.polimi.ingsw.communication.ThreadPools;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Process-wide timer shared by heartbeats, idle connection checks and sendAndWait deadlines.
+ * <p>
+ *     Timeouts are hashed into a wheel of buckets, a single worker thread advances the wheel once per tick and
+ *     expires the bucket it points to, so scheduling and cancelling cost O(1) no matter how many timeouts are
+ *     pending. Expired tasks are run by a shared pool, so a slow task can't delay the wheel.
+ *     The precision of the timer is one tick, which is more than enough for timeouts measured in seconds.
+ * </p>
+ */
+public class HashedWheelTimer {
+
+    private static final HashedWheelTimer instance = new HashedWheelTimer(100, 512);
+
+    private final long tickMillis;
+    private final int mask;
+    private final ArrayList<LinkedList<Timeout>> wheel;
+    private final Queue<Timeout> pendingTimeouts;
+    private final ExecutorService taskExecutor;
+    private final long startTime;
+    private long tick;
+
+    /**
+     * Constructor of the class
+     * @param tickMillis length of a tick in milliseconds
+     * @param wheelSize number of buckets, must be a power of two
+     */
+    HashedWheelTimer(long tickMillis, int wheelSize) {
+        if (Integer.bitCount(wheelSize) != 1)
+            throw new IllegalArgumentException("wheelSize must be a power of two");
+        this.tickMillis = tickMillis;
+        mask = wheelSize - 1;
+        wheel = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++)
+            wheel.add(new LinkedList<>());
+        pendingTimeouts = new ConcurrentLinkedQueue<>();
+        taskExecutor = ThreadPools.newTaskExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "timer-task");
+            thread.setDaemon(true);
+            return thread;
+        });
+        startTime = System.currentTimeMillis();
+        Thread worker = new Thread(this::run, "hashed-wheel-timer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public static HashedWheelTimer getInstance() {
+        return instance;
+    }
+
+    /**
+     * Runs task once after delay
+     * @param task to be run
+     * @param delay before running task
+     * @param unit of delay
+     * @return handle to cancel the task
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        return add(new Timeout(task, elapsed() + unit.toMillis(delay), 0));
+    }
+
+    /**
+     * Runs task every period, starting after initialDelay, until the returned Timeout is cancelled
+     * @param task to be run
+     * @param initialDelay before the first run
+     * @param period between two runs
+     * @param unit of initialDelay and period
+     * @return handle to cancel the task
+     */
+    public Timeout scheduleAtFixedRate(Runnable task, long initialDelay, long period, TimeUnit unit) {
+        if (period <= 0)
+            throw new IllegalArgumentException("period must be > 0");
+        return add(new Timeout(task, elapsed() + unit.toMillis(initialDelay), unit.toMillis(period)));
+    }
+
+    private Timeout add(Timeout timeout) {
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    private long elapsed() {
+        return System.currentTimeMillis() - startTime;
+    }
+
+    /**
+     * Worker loop, advances the wheel once every tick
+     */
+    private void run() {
+        while (true) {
+            long sleepMillis = (tick + 1) * tickMillis - elapsed();
+            if (sleepMillis > 0) {
+                try {
+                    Thread.sleep(sleepMillis);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+            transferPendingTimeouts();
+            expireTimeouts(wheel.get((int) (tick & mask)));
+            tick++;
+        }
+    }
+
+    private void transferPendingTimeouts() {
+        Timeout timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (timeout.cancelled)
+                continue;
+            long calculatedTick = timeout.deadline / tickMillis;
+            timeout.remainingRounds = (calculatedTick - tick) / wheel.size();
+            wheel.get((int) (Math.max(calculatedTick, tick) & mask)).add(timeout);
+        }
+    }
+
+    private void expireTimeouts(LinkedList<Timeout> bucket) {
+        Iterator<Timeout> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout timeout = iterator.next();
+            if (timeout.cancelled) {
+                iterator.remove();
+            } else if (timeout.remainingRounds <= 0) {
+                iterator.remove();
+                taskExecutor.execute(timeout.task);
+                if (timeout.period > 0) {
+                    timeout.deadline += timeout.period;
+                    pendingTimeouts.add(timeout);
+                }
+            } else {
+                timeout.remainingRounds--;
+            }
+        }
+    }
+
+    /**
+     * Handle of a task scheduled on the HashedWheelTimer
+     */
+    public static class Timeout {
+
+        private final Runnable task;
+        private final long period;
+        private long deadline;
+        private long remainingRounds;
+        private volatile boolean cancelled;
+
+        private Timeout(Runnable task, long deadline, long period) {
+            this.task = task;
+            this.deadline = deadline;
+            this.period = period;
+        }
+
+        /**
+         * Prevents any further run of the task, a run which has already started is not interrupted
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import it.polimi.ingsw.client.RequestTimedOutException;
 import it.polimi.ingsw.communication.server.ServerMessage;
 import it.polimi.ingsw.server.VirtualClient;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
 
 /**
@@ -41,7 +42,18 @@ public class ServerTimeoutHandler {
     }
 
     /**
-     * definitely removes the timer and releases the waiting thread.
+     * sends a message to the Client without blocking
+     * @param serverMessage message to be sent
+     * @param timeoutInSeconds timeout given to the client to respond. -1 to wait indefinitely
+     * @return future completed once the ClientResponse regarding this message has been executed,
+     * completed exceptionally with a TimeoutException if the given timeout expires
+     */
+    public CompletableFuture<Void> sendAsync(ServerMessage serverMessage, int timeoutInSeconds) {
+        return timeoutHandler.sendAsync(serverMessage, timeoutInSeconds);
+    }
+
+    /**
+     * definitely removes the timer and completes the future of the request.
      * @param timeoutID timeoutID to release
      */
     public void defuse(int timeoutID) {
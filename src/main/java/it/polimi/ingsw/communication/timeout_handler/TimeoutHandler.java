@@ -7,22 +7,27 @@ import it.polimi.ingsw.communication.client.ClientMessage;
 import it.polimi.ingsw.communication.server.ServerMessage;
 import it.polimi.ingsw.server.VirtualClient;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Main TimeoutHandler class
  * Handles the sendAndWait of Client and Server
+ * <p>
+ *     Every outstanding request is an entry of a correlation table keyed by its timeoutID, IDs are taken from a
+ *     counter so they are unique among the requests in flight on the same connection.
+ *     An entry holds the CompletableFuture returned to the sender, which is completed once the answer has been
+ *     executed or completed exceptionally with a TimeoutException by a deadline on the HashedWheelTimer.
+ *     Whichever of the answer and the deadline comes first removes the entry from the table, so the other
+ *     one finds nothing to do.
+ * </p>
  */
 class TimeoutHandler {
 
     private final Client client;
     private final VirtualClient virtualClient;
-    private final ArrayList<Semaphore> semaphores;
-    private final ExecutorService executors;
-    private final HashMap<Integer, Semaphore> semaphoreByID;
-    private final HashMap<Integer, Boolean> idIsInTime;
+    private final ConcurrentHashMap<Integer, PendingRequest> pendingRequests;
+    private final AtomicInteger nextID;
     private final boolean isServerHandler;
 
     /**
@@ -32,10 +37,8 @@ class TimeoutHandler {
     public TimeoutHandler(Client client) {
         this.virtualClient = null;
         this.client = client;
-        semaphores = new ArrayList<>();
-        executors = Executors.newCachedThreadPool();
-        semaphoreByID = new HashMap<>();
-        idIsInTime = new HashMap<>();
+        pendingRequests = new ConcurrentHashMap<>();
+        nextID = new AtomicInteger();
         isServerHandler = false;
     }
 
@@ -46,25 +49,13 @@ class TimeoutHandler {
     public TimeoutHandler(VirtualClient virtualClient) {
         this.client = null;
         this.virtualClient = virtualClient;
-        semaphores = new ArrayList<>();
-        executors = Executors.newCachedThreadPool();
-        semaphoreByID = new HashMap<>();
-        idIsInTime = new HashMap<>();
+        pendingRequests = new ConcurrentHashMap<>();
+        nextID = new AtomicInteger();
         isServerHandler = true;
     }
 
     /**
-     * private method to create a new semaphore
-     * @return the newly created semaphore
-     */
-    private Semaphore getNewSemaphore(){
-        Semaphore newSem = new Semaphore(0);
-        semaphores.add(newSem);
-        return newSem;
-    }
-
-    /**
-     * tries to stop a timer from running out. This doesn't unlock the thread stuck waiting, it only
+     * tries to stop a timer from running out. This doesn't complete the future of the request, it only
      * stops the timeout from going off while the message received is executed.
      * This is made to prevent a timeout from running out while the Message is being executed,
      * potentially breaking the game logic.
@@ -74,48 +65,45 @@ class TimeoutHandler {
     public void tryDisengage(int messageTimeoutID) throws RequestTimedOutException {
         if(messageTimeoutID == -1)
             return;
-        if(!idIsInTime.get(messageTimeoutID)){
-            semaphoreByID.get(messageTimeoutID).release();
+        PendingRequest pendingRequest = pendingRequests.get(messageTimeoutID);
+        if(pendingRequest == null || !pendingRequest.disengage())
             throw new RequestTimedOutException();
-        } else {
-            semaphoreByID.get(messageTimeoutID).release();
-        }
     }
 
     /**
-     * unregisters the timeoutID
-     * @param messageTimeoutID to be unregistered
+     * Sends serverMessage to the Client
+     * @param serverMessage message to be sent
+     * @param timeoutInSeconds timeout in seconds to wait for a client answer; -1 to wait indefinitely
+     * @return future completed once the answer has been executed
      */
-    private void clearID(int messageTimeoutID) {
-        if(messageTimeoutID != -1) {
-            semaphoreByID.get(messageTimeoutID).release();
-            semaphores.remove(semaphoreByID.get(messageTimeoutID));
-            semaphoreByID.remove(messageTimeoutID);
-            idIsInTime.remove(messageTimeoutID);
-        }
+    public CompletableFuture<Void> sendAsync(ServerMessage serverMessage, int timeoutInSeconds) {
+        if(!isServerHandler) throw new RuntimeException("This method can only be called from a Virtual Client!");
+        PendingRequest pendingRequest = register(serverMessage, timeoutInSeconds);
+        virtualClient.send(serverMessage);
+        return pendingRequest.future;
     }
 
     /**
-     * Sends serverMessage to the Server and awaits answer for timeoutInSeconds time
-     * @param serverMessage message to be sent
+     * Sends clientMessage to the Server
+     * @param clientMessage message to be sent
      * @param timeoutInSeconds timeout in seconds to wait for a server answer; -1 to wait indefinitely
-     * @throws TimeoutException thrown when timeout is expired
+     * @return future completed once the answer has been executed
      */
-    public void sendAndWait(ServerMessage serverMessage, int timeoutInSeconds) throws TimeoutException {
-        if(!isServerHandler) throw new RuntimeException("This method can only be called from a Virtual Client!");
-        if(timeoutInSeconds<0 && timeoutInSeconds != -1) throw new IllegalArgumentException("timeoutInSeconds must be > 0 or == -1");
-        int messageTimeoutID = getID();
-        Semaphore semaphore = setupTimerAndGetSemaphore(serverMessage, messageTimeoutID);
-        virtualClient.send(serverMessage);
-        pauseHandler(timeoutInSeconds, semaphore, messageTimeoutID);
+    public CompletableFuture<Void> sendAsync(ClientMessage clientMessage, int timeoutInSeconds) {
+        if(isServerHandler) throw new RuntimeException("This method can only be called from an actual Client!");
+        PendingRequest pendingRequest = register(clientMessage, timeoutInSeconds);
+        client.send(clientMessage);
+        return pendingRequest.future;
     }
 
-    private Semaphore setupTimerAndGetSemaphore(SerializedNetworkMessage message, int messageTimeoutID) {
-        Semaphore semaphore = getNewSemaphore();
-        semaphoreByID.put(messageTimeoutID, semaphore);
-        idIsInTime.put(messageTimeoutID, true);
-        message.setTimeoutID(messageTimeoutID);
-        return semaphore;
+    /**
+     * Sends serverMessage to the Client and awaits answer for timeoutInSeconds time
+     * @param serverMessage message to be sent
+     * @param timeoutInSeconds timeout in seconds to wait for a client answer; -1 to wait indefinitely
+     * @throws TimeoutException thrown when timeout is expired
+     */
+    public void sendAndWait(ServerMessage serverMessage, int timeoutInSeconds) throws TimeoutException {
+        await(sendAsync(serverMessage, timeoutInSeconds));
     }
 
     /**
@@ -125,77 +113,106 @@ class TimeoutHandler {
      * @throws TimeoutException thrown when timeout is expired
      */
     public void sendAndWait(ClientMessage clientMessage, int timeoutInSeconds) throws TimeoutException {
-        if(isServerHandler) throw new RuntimeException("This method can only be called from an actual Client!");
-        if(timeoutInSeconds<0 && timeoutInSeconds != -1) throw new IllegalArgumentException("timeoutInSeconds must be > 0 or == -1");
         // client.getView().displayWaiting(timeoutInSeconds);
-        int messageTimeoutID = getID();
-        Semaphore semaphore = setupTimerAndGetSemaphore(clientMessage, messageTimeoutID);
-        client.send(clientMessage);
-        pauseHandler(timeoutInSeconds, semaphore, messageTimeoutID);
+        await(sendAsync(clientMessage, timeoutInSeconds));
     }
 
     /**
-     * Core method of the class
-     * This class launches 2 semaphore, the first one is the actual timer, the second one exist to allow the
-     * message to execute and then releases the method
-     * @param timeoutInSeconds timeout to wait
-     * @param semaphore to wait on
-     * @param messageTimeoutID ID of the message to send in the TimeoutException
-     * @throws TimeoutException thrown if timeout is reached
+     * definitely removes the timer and completes the future of the request.
+     * @param timeoutID timeoutID to release
      */
-    private void pauseHandler(int timeoutInSeconds, Semaphore semaphore, int messageTimeoutID) throws TimeoutException {
-        if(timeoutInSeconds == -1){
-            try {
-                semaphore.acquire();
-                semaphore.acquire();
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
-        } else {
-            try {
-                executors.submit(() -> {
-                    try {
-                        semaphore.acquire();
-                    } catch (InterruptedException e) {
-                        e.printStackTrace();
-                    }
-                }).get(timeoutInSeconds, TimeUnit.SECONDS);
-                semaphore.acquire();
-            } catch (TimeoutException e) {
-                timeoutExpired(messageTimeoutID);
-                throw new TimeoutException();
-            } catch (InterruptedException | ExecutionException e) {
-                e.printStackTrace();
-            }
-        }
+    public void defuse(int timeoutID) {
+        if(timeoutID == -1)
+            return;
+        PendingRequest pendingRequest = pendingRequests.remove(timeoutID);
+        if(pendingRequest != null)
+            pendingRequest.future.complete(null);
     }
 
     /**
-     * definitely removes the timer and releases the waiting thread.
-     * @param timeoutID timeoutID to release
+     * Adds a new entry to the correlation table and arms its deadline
+     * @param message request to be sent
+     * @param timeoutInSeconds timeout of the request, -1 for no timeout
+     * @return the new entry
      */
-    public void defuse(int timeoutID) {
-        clearID(timeoutID);
+    private PendingRequest register(SerializedNetworkMessage message, int timeoutInSeconds) {
+        if(timeoutInSeconds<0 && timeoutInSeconds != -1) throw new IllegalArgumentException("timeoutInSeconds must be > 0 or == -1");
+        int messageTimeoutID = getID();
+        PendingRequest pendingRequest = new PendingRequest();
+        pendingRequests.put(messageTimeoutID, pendingRequest);
+        message.setTimeoutID(messageTimeoutID);
+        if(timeoutInSeconds != -1)
+            pendingRequest.deadline = HashedWheelTimer.getInstance().schedule(
+                    () -> timeoutExpired(messageTimeoutID, pendingRequest), timeoutInSeconds, TimeUnit.SECONDS);
+        return pendingRequest;
     }
 
     /**
-     * sets the message timeout map to false, when a message containing this timeout is received
-     * an error is thrown
+     * removes the request from the table if its answer is not being executed yet, when a message containing
+     * this timeout is received an error is thrown
      * @param messageTimeoutID timeoutID
+     * @param pendingRequest entry of messageTimeoutID
      */
-    private void timeoutExpired(int messageTimeoutID) {
-        idIsInTime.put(messageTimeoutID, false);
+    private void timeoutExpired(int messageTimeoutID, PendingRequest pendingRequest) {
+        if(pendingRequest.expire()) {
+            pendingRequests.remove(messageTimeoutID, pendingRequest);
+            pendingRequest.future.completeExceptionally(new TimeoutException());
+        }
+    }
+
+    /**
+     * Blocks until future is completed
+     * @param future of a request
+     * @throws TimeoutException if the request has expired
+     */
+    private void await(CompletableFuture<Void> future) throws TimeoutException {
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            if(e.getCause() instanceof TimeoutException)
+                throw (TimeoutException) e.getCause();
+            e.printStackTrace();
+        } catch (InterruptedException e) {
+            e.printStackTrace();
+        }
     }
 
     /**
-     * gets a new randomized id
+     * gets a new id, never -1 which marks messages sent without a timeout
      * @return timeoutID
      */
     private int getID(){
-        int nextInt = ThreadLocalRandom.current().nextInt();
-        while (semaphoreByID.get(nextInt) != null){
-            nextInt = ThreadLocalRandom.current().nextInt();
+        return nextID.getAndUpdate(id -> id == Integer.MAX_VALUE ? 0 : id + 1);
+    }
+
+    /**
+     * Entry of the correlation table
+     */
+    private static class PendingRequest {
+
+        private static final int WAITING = 0;
+        private static final int DISENGAGED = 1;
+        private static final int EXPIRED = 2;
+
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private volatile HashedWheelTimer.Timeout deadline;
+
+        /**
+         * @return true if the answer can be executed, false if the deadline has already expired
+         */
+        boolean disengage() {
+            boolean disengaged = state.compareAndSet(WAITING, DISENGAGED);
+            if(disengaged && deadline != null)
+                deadline.cancel();
+            return disengaged;
+        }
+
+        /**
+         * @return true if the request has expired, false if its answer is already being executed
+         */
+        boolean expire() {
+            return state.compareAndSet(WAITING, EXPIRED);
         }
-        return nextInt;
     }
-}
\ No newline at end of file
+}
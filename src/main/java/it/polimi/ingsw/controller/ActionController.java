@@ -9,7 +9,6 @@ import it.polimi.ingsw.model.enums.Resource;
 import it.polimi.ingsw.model.exceptions.*;
 import it.polimi.ingsw.model.marbles.Marble;
 
-import java.util.ArrayList;
 import java.util.EmptyStackException;
 import java.util.HashMap;
 
@@ -25,6 +24,11 @@ public class ActionController {
 
     private final GameTable gameTable;
 
+    /**
+     * Marbles taken from the market, reused by every useMarket: actions of a game are handled one at a time
+     */
+    private final Marble[] marbleBuffer = new Marble[4];
+
     /**
      * Basic constructor to set internal GameTable reference.
      * @param _gameTable Instance of GameTable associated with the current match.
@@ -83,24 +87,24 @@ public class ActionController {
      */
     public HashMap<Resource, Integer> useMarket(PlayerBoard _player, int _index, String _selection) throws IllegalArgumentException {
 
-        ArrayList<Marble> marbles;
+        int marbles;
 
         // Row was selected
         if (_selection.equalsIgnoreCase("row")) {
 
             //Throws IllegalArgumentException if index < 1 || index > 3
-            marbles = _player.getMarketRow(_index);
+            marbles = _player.takeMarketRow(_index, marbleBuffer);
 
         // Column was selected
         } else if (_selection.equalsIgnoreCase("column")) {
 
             //Throws IllegalArgumentException if index < 1 || index > 4
-            marbles = _player.getMarketCol(_index);
+            marbles = _player.takeMarketCol(_index, marbleBuffer);
 
         // An illegal key was set for RequestMarketUse
         } else throw new IllegalArgumentException();
 
-        HashMap<Resource, Integer> resources = _player.consumeMarbles(marbles);
+        HashMap<Resource, Integer> resources = _player.consumeMarbles(marbleBuffer, marbles);
 
         return _player.tryAddResources(resources);
     }
@@ -195,6 +199,16 @@ public class ActionController {
        }
     }
 
+    /**
+     * Computes the smallest discard that lets the player store the rest of the given resources.
+     * @param _player The player that has to discard.
+     * @param _resources The resources from which the selection must be made.
+     * @return an instance of HashMap containing the amounts to be discarded for each Resource.
+     */
+    public HashMap<Resource, Integer> suggestDiscard(PlayerBoard _player, HashMap<Resource, Integer> _resources) {
+        return _player.suggestDiscard(ResourceVector.fromMap(_resources)).toMap();
+    }
+
     /**
      * Method to discard a leader card, advancing the player's faith trail position by one and throwing away the
      * selected card.
@@ -249,7 +263,8 @@ public class ActionController {
 
         //Check for InvalidCardDevelopmentPlacementException
 
-        CardDevelopment desiredCard = gameTable.getCardDevelopmentMarketInstance().getMarket()[_rowIndex][_colIndex].getCards().peek();
+        CardDevelopment desiredCard = gameTable.getCardDevelopmentMarketInstance().topCard(_rowIndex, _colIndex);
+        if (desiredCard == null) throw new EmptyStackException();
 
         CardDevelopmentSlot targetSlot = _player.getCardDevelopmentSlotByIndex(_placementIndex);
 
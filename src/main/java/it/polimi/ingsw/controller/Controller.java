@@ -82,11 +82,9 @@ public class Controller {
      */
     public PlayerBoard getPlayerBoardByNickname(String _nickname) {
 
-        for (PlayerBoard board : gameTable.getPlayerBoards()) {
-            if (_nickname.equals(board.getNickname())) return board;
-        }
-        // This return statement should never be reached
-        return null;
+        int index = gameTable.getIndexFromNickname(_nickname);
+        // null should never be returned
+        return index < 0 ? null : gameTable.getPlayerByIndex(index);
     }
 
     public int getGamePhase() {
@@ -184,9 +182,7 @@ public class Controller {
 
         for (int i = 0; i < 4; i++) {
 
-            if (gameTable.getCardDevelopmentMarketInstance().getMarket()[0][i].getCards().size() == 0 &&
-                    gameTable.getCardDevelopmentMarketInstance().getMarket()[1][i].getCards().size() == 0 &&
-                    gameTable.getCardDevelopmentMarketInstance().getMarket()[2][i].getCards().size() == 0) return true;
+            if (gameTable.getCardDevelopmentMarketInstance().isColumnEmpty(i)) return true;
         }
 
         return false;
@@ -323,6 +319,16 @@ public class Controller {
 
     }
 
+    /**
+     * Method to be called when a player has to discard some of the resources obtained from the market.
+     * @param _nickname The nickname of the player that has to discard.
+     * @param _resources The resources from which the selection must be made.
+     * @return an instance of HashMap containing the fewest amounts to be discarded for each Resource.
+     */
+    public HashMap<Resource, Integer> suggestDiscard(String _nickname, HashMap<Resource, Integer> _resources) {
+        return actionController.suggestDiscard(Objects.requireNonNull(getPlayerBoardByNickname(_nickname)), _resources);
+    }
+
     /**
      * Method to be called after a RequestActivateProduction message has been received.
      * @param _nickname The nickname of the player that has sent the request.
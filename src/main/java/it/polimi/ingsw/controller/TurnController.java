@@ -4,7 +4,7 @@ import it.polimi.ingsw.model.GameTable;
 import it.polimi.ingsw.model.PlayerBoard;
 import it.polimi.ingsw.model.enums.PlayerState;
 
-import java.util.LinkedHashMap;
+import java.util.Arrays;
 
 
 /**
@@ -13,15 +13,26 @@ import java.util.LinkedHashMap;
  *
  * Note that this class also keeps track of the connection statuses of all players: this is because the game
  * skips a player's turn when the player's client is disconnected from the server.
+ *
+ * Players are identified by their index in GameTable, so both the active player and the connection statuses are
+ * found without scanning the players or comparing nicknames.
  */
 
 public class TurnController {
 
     private final GameTable gameTable;
-    private PlayerBoard activePlayer;
+
+    /**
+     * Index of the active player in GameTable, -1 while Lorenzo is playing
+     */
+    private int activePlayerIndex;
     private boolean isLorenzoActive;
     private Integer turnCounter;
-    private final LinkedHashMap<String, Boolean> connectionStatuses;
+
+    /**
+     * Connection status of every player, by index
+     */
+    private final boolean[] connectionStatuses;
 
     /**
      * Basic constructor to set internal GameTable reference.
@@ -30,17 +41,12 @@ public class TurnController {
     public TurnController(GameTable _gameTable) {
 
         gameTable = _gameTable;
-        activePlayer = gameTable.getActivePlayer();
+        activePlayerIndex = gameTable.getIndexFromPlayer(gameTable.getActivePlayer());
         isLorenzoActive = false;
         turnCounter = 0;
 
-        connectionStatuses = new LinkedHashMap<>();
-        for(PlayerBoard board : gameTable.getPlayerBoards()) {
-            connectionStatuses.put(
-                    board.getNickname(),
-                    true
-            );
-        }
+        connectionStatuses = new boolean[gameTable.getPlayerBoards().size()];
+        Arrays.fill(connectionStatuses, true);
     }
 
     /**
@@ -58,7 +64,14 @@ public class TurnController {
      * @return activePlayer
      */
     public PlayerBoard getActivePlayer() {
-        return activePlayer;
+        return activePlayerIndex < 0 ? null : gameTable.getPlayerByIndex(activePlayerIndex);
+    }
+
+    /**
+     * @return index of the active player in GameTable, -1 while Lorenzo is playing
+     */
+    public int getActivePlayerIndex() {
+        return activePlayerIndex;
     }
 
     /**
@@ -67,8 +80,8 @@ public class TurnController {
      * @param _activePlayer value assigned to this.activePlayer
      */
     private void setActivePlayer(PlayerBoard _activePlayer) {
-        activePlayer = _activePlayer;
-        activePlayer.setPlayerState(PlayerState.PLAYING);
+        activePlayerIndex = gameTable.getIndexFromPlayer(_activePlayer);
+        _activePlayer.setPlayerState(PlayerState.PLAYING);
     }
 
     /**
@@ -81,8 +94,8 @@ public class TurnController {
 
         if (!gameTable.isSinglePlayer()) {
 
-            PlayerBoard oldActivePlayer = activePlayer;
-            PlayerBoard newActivePlayer = gameTable.getNextPlayer(activePlayer);
+            PlayerBoard oldActivePlayer = getActivePlayer();
+            PlayerBoard newActivePlayer = gameTable.getNextPlayer(oldActivePlayer);
 
             while (!isPlayerConnected(newActivePlayer)) {
                 newActivePlayer = gameTable.getNextPlayer(newActivePlayer);
@@ -101,8 +114,8 @@ public class TurnController {
 
                 isLorenzoActive = true;
 
-                activePlayer.setPlayerState(PlayerState.IDLE);
-                activePlayer = null;
+                getActivePlayer().setPlayerState(PlayerState.IDLE);
+                activePlayerIndex = -1;
             }
         }
 
@@ -118,7 +131,7 @@ public class TurnController {
      */
     public boolean forceAdvanceTurn(String _nickname) {
 
-        if (_nickname.equals(activePlayer.getNickname())) {
+        if (activePlayerIndex >= 0 && gameTable.getIndexFromNickname(_nickname) == activePlayerIndex) {
             advanceTurn();
             return true;
         }
@@ -135,8 +148,8 @@ public class TurnController {
      */
     boolean isActivePlayer(PlayerBoard _player) {
 
-        if (activePlayer == null) return false;
-        return getActivePlayer().equals(_player);
+        if (activePlayerIndex < 0) return false;
+        return gameTable.getIndexFromPlayer(_player) == activePlayerIndex;
     }
 
     /**
@@ -146,7 +159,7 @@ public class TurnController {
      * @return true if the corresponding client is connected, false otherwise.
      */
     boolean isPlayerConnected(PlayerBoard _board) {
-        return connectionStatuses.get(_board.getNickname());
+        return connectionStatuses[gameTable.getIndexFromPlayer(_board)];
     }
 
     /**
@@ -156,7 +169,7 @@ public class TurnController {
      * @return true if the corresponding client is connected, false otherwise.
      */
     boolean isPlayerConnected(String _nickname) {
-        return connectionStatuses.get(_nickname);
+        return connectionStatuses[gameTable.getIndexFromNickname(_nickname)];
     }
 
     /**
@@ -166,7 +179,7 @@ public class TurnController {
      * @param _newStatus New connection status, either true or false.
      */
     void setPlayerConnection(PlayerBoard _board, Boolean _newStatus) {
-        connectionStatuses.put(_board.getNickname(), _newStatus);
+        connectionStatuses[gameTable.getIndexFromPlayer(_board)] = _newStatus;
     }
 
     /**
@@ -176,7 +189,7 @@ public class TurnController {
      * @param _newStatus New connection status, either true or false.
      */
     public void setPlayerConnection(String _nickname, Boolean _newStatus) {
-        connectionStatuses.put(_nickname, _newStatus);
+        connectionStatuses[gameTable.getIndexFromNickname(_nickname)] = _newStatus;
     }
 
 }
@@ -37,6 +37,20 @@ public class BriefModel implements Serializable {
         empty = false;
     }
 
+    /**
+     * Constructor used to rebuild a BriefModel received from the network
+     */
+    public BriefModel(HashMap<Resource, Integer> deposit, HashMap<Resource, Integer> strongBox,
+                      ArrayList<CardLeader> visibleCardsLeaders, ArrayList<CardDevelopment> cardsDevelopment,
+                      Integer faithTrailPosition, boolean empty) {
+        this.deposit = deposit;
+        this.strongBox = strongBox;
+        this.visibleCardsLeaders = visibleCardsLeaders;
+        this.cardsDevelopment = cardsDevelopment;
+        this.faithTrailPosition = faithTrailPosition;
+        this.empty = empty;
+    }
+
     public BriefModel() {
         deposit = new HashMap<>();
         strongBox = new HashMap<>();
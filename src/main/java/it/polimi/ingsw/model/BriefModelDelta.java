@@ -0,0 +1,168 @@
+package it.polimi.ingsw.model;
+
+import it.polimi.ingsw.model.cards.CardDevelopment;
+import it.polimi.ingsw.model.enums.Resource;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.function.BiPredicate;
+
+/**
+ * Changes between two BriefModels of the same player.
+ * <p>
+ *     Only the resource amounts that changed are kept. Visible leader cards and development cards are only ever
+ *     added to a board, so only the new ones are kept, each with its position in the newer list.
+ * </p>
+ */
+public class BriefModelDelta implements Serializable {
+
+    private final HashMap<Resource, Integer> deposit;
+
+    private final HashMap<Resource, Integer> strongBox;
+
+    private final ArrayList<CardLeader> addedCardsLeaders;
+
+    private final ArrayList<Integer> cardsLeadersPositions;
+
+    private final ArrayList<CardDevelopment> addedCardsDevelopment;
+
+    private final ArrayList<Integer> cardsDevelopmentPositions;
+
+    /**
+     * New position, null if the position has not changed
+     */
+    private final Integer faithTrailPosition;
+
+    /**
+     * Constructor used to rebuild a BriefModelDelta received from the network, positions are in ascending order
+     */
+    public BriefModelDelta(HashMap<Resource, Integer> deposit, HashMap<Resource, Integer> strongBox,
+                           ArrayList<CardLeader> addedCardsLeaders, ArrayList<Integer> cardsLeadersPositions,
+                           ArrayList<CardDevelopment> addedCardsDevelopment, ArrayList<Integer> cardsDevelopmentPositions,
+                           Integer faithTrailPosition) {
+        this.deposit = deposit;
+        this.strongBox = strongBox;
+        this.addedCardsLeaders = addedCardsLeaders;
+        this.cardsLeadersPositions = cardsLeadersPositions;
+        this.addedCardsDevelopment = addedCardsDevelopment;
+        this.cardsDevelopmentPositions = cardsDevelopmentPositions;
+        this.faithTrailPosition = faithTrailPosition;
+    }
+
+    /**
+     * @param from older state of the player
+     * @param to newer state of the player
+     * @return the changes from from to to, null if to can't be reached by adding cards to from
+     */
+    public static BriefModelDelta between(BriefModel from, BriefModel to) {
+
+        ArrayList<CardLeader> addedCardsLeaders = new ArrayList<>();
+        ArrayList<Integer> cardsLeadersPositions = new ArrayList<>();
+        ArrayList<CardDevelopment> addedCardsDevelopment = new ArrayList<>();
+        ArrayList<Integer> cardsDevelopmentPositions = new ArrayList<>();
+
+        boolean onlyAdded = inserted(from.getVisibleCardsLeaders(), to.getVisibleCardsLeaders(),
+                (a, b) -> a.getDescription() == b.getDescription() && a.getResource() == b.getResource(),
+                addedCardsLeaders, cardsLeadersPositions)
+                && inserted(from.getCardsDevelopment(), to.getCardsDevelopment(),
+                (a, b) -> a.getCatalogID() == b.getCatalogID(),
+                addedCardsDevelopment, cardsDevelopmentPositions);
+        if (!onlyAdded) return null;
+
+        Integer faithTrailPosition = from.getFaithTrailPosition().equals(to.getFaithTrailPosition()) ? null : to.getFaithTrailPosition();
+
+        return new BriefModelDelta(changed(from.getDeposit(), to.getDeposit()), changed(from.getStrongBox(), to.getStrongBox()),
+                addedCardsLeaders, cardsLeadersPositions, addedCardsDevelopment, cardsDevelopmentPositions, faithTrailPosition);
+    }
+
+    /**
+     * @param base state the delta was computed from
+     * @return a new BriefModel, base with the changes applied
+     */
+    public BriefModel applyTo(BriefModel base) {
+
+        HashMap<Resource, Integer> newDeposit = new HashMap<>(base.getDeposit());
+        newDeposit.putAll(deposit);
+        HashMap<Resource, Integer> newStrongBox = new HashMap<>(base.getStrongBox());
+        newStrongBox.putAll(strongBox);
+
+        ArrayList<CardLeader> visibleCardsLeaders = new ArrayList<>(base.getVisibleCardsLeaders());
+        for (int i = 0; i < addedCardsLeaders.size(); i++)
+            visibleCardsLeaders.add(cardsLeadersPositions.get(i), addedCardsLeaders.get(i));
+        ArrayList<CardDevelopment> cardsDevelopment = new ArrayList<>(base.getCardsDevelopment());
+        for (int i = 0; i < addedCardsDevelopment.size(); i++)
+            cardsDevelopment.add(cardsDevelopmentPositions.get(i), addedCardsDevelopment.get(i));
+
+        return new BriefModel(newDeposit, newStrongBox, visibleCardsLeaders, cardsDevelopment,
+                faithTrailPosition == null ? base.getFaithTrailPosition() : faithTrailPosition, false);
+    }
+
+    /**
+     * @return true if the two states are the same
+     */
+    public boolean isEmpty() {
+        return deposit.isEmpty() && strongBox.isEmpty() && addedCardsLeaders.isEmpty()
+                && addedCardsDevelopment.isEmpty() && faithTrailPosition == null;
+    }
+
+    public HashMap<Resource, Integer> getDeposit() {
+        return deposit;
+    }
+
+    public HashMap<Resource, Integer> getStrongBox() {
+        return strongBox;
+    }
+
+    public ArrayList<CardLeader> getAddedCardsLeaders() {
+        return addedCardsLeaders;
+    }
+
+    public ArrayList<Integer> getCardsLeadersPositions() {
+        return cardsLeadersPositions;
+    }
+
+    public ArrayList<CardDevelopment> getAddedCardsDevelopment() {
+        return addedCardsDevelopment;
+    }
+
+    public ArrayList<Integer> getCardsDevelopmentPositions() {
+        return cardsDevelopmentPositions;
+    }
+
+    public Integer getFaithTrailPosition() {
+        return faithTrailPosition;
+    }
+
+    /**
+     * @return the amounts of to that differ from the ones of from, missing amounts count as 0
+     */
+    private static HashMap<Resource, Integer> changed(HashMap<Resource, Integer> from, HashMap<Resource, Integer> to) {
+        HashMap<Resource, Integer> changed = new HashMap<>();
+        for (Resource resource : Resource.values()) {
+            int newAmount = to.getOrDefault(resource, 0);
+            if (from.getOrDefault(resource, 0) != newAmount) changed.put(resource, newAmount);
+        }
+        return changed;
+    }
+
+    /**
+     * Finds the elements of to that are not in from, to must keep the order of the elements of from
+     * @param added receives the new elements
+     * @param positions receives the position in to of every new element
+     * @return false if an element of from is missing from to
+     */
+    private static <T> boolean inserted(ArrayList<T> from, ArrayList<T> to, BiPredicate<T, T> same,
+                                        ArrayList<T> added, ArrayList<Integer> positions) {
+        int i = 0;
+        for (int j = 0; j < to.size(); j++) {
+            if (i < from.size() && same.test(from.get(i), to.get(j))) {
+                i++;
+            } else {
+                added.add(to.get(j));
+                positions.add(j);
+            }
+        }
+        return i == from.size();
+    }
+}
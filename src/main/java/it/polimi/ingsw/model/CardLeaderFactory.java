@@ -25,4 +25,19 @@ public class CardLeaderFactory {
                     CardLeaderRequirementsFinder.getVictoryPoints(type));
         };
     }
+
+    /**
+     * produce a CardLeader in the given state, used to rebuild a card received from the network
+     * @param type CardLeaderType desired
+     * @param resource resource master of the card
+     * @param playerName owner of the card, null if not drawn yet
+     * @param active activation state of the card
+     * @return concrete CardLeader's child
+     */
+    public CardLeader restore(CardLeaderType type, Resource resource, String playerName, boolean active) {
+        CardLeader cardLeader = produce(type, resource);
+        cardLeader.playerName = playerName;
+        cardLeader.active = active;
+        return cardLeader;
+    }
 }
@@ -5,8 +5,6 @@ import it.polimi.ingsw.model.enums.Resource;
 import it.polimi.ingsw.model.exceptions.CardLeaderRequirementsNotMetException;
 import it.polimi.ingsw.model.exceptions.CardLeaderWrongOwnerException;
 
-import java.util.HashMap;
-
 public class CardLeaderProduction extends CardLeader{
 
     /**
@@ -33,12 +31,7 @@ public class CardLeaderProduction extends CardLeader{
         active = true;
         if (playerBoard.getCardLeaderProductionOutput() == null) throw new IllegalArgumentException();
 
-        HashMap<Resource, Integer> cost = new HashMap<>();
-        for (Resource res : Resource.values()) cost.put(res, 0);
-
-        cost.put(resource, 1);
-
-        playerBoard.consumeResources(cost);
+        playerBoard.consumeResources(ResourceVector.of(resource));
 
         playerBoard.getStrongboxInstance().addResource(playerBoard.getCardLeaderProductionOutput(), 1);
         playerBoard.moveFaith(1);
@@ -10,18 +10,33 @@ import org.jetbrains.annotations.Nullable;
 import java.io.Serializable;
 import java.util.HashMap;
 
+/**
+ * Immutable requirements of a leader card, the instances are shared by every deck, see CardLeaderRequirementsFinder
+ */
 public class CardLeaderRequirements implements Serializable {
     private final CardLeaderRequirementsType cardLeaderRequirementsType;
 
-    private HashMap<CardDevelopmentType, CardDevelopmentLevel> numberOfDevelopmentCardLevel;
+    private final HashMap<CardDevelopmentType, CardDevelopmentLevel> numberOfDevelopmentCardLevel;
 
-    private HashMap<CardDevelopmentType, Integer> numberOfDevelopmentCardTypes;
+    private final HashMap<CardDevelopmentType, Integer> numberOfDevelopmentCardTypes;
 
-    private HashMap<Resource, Integer> numberOfResources;
+    private final HashMap<Resource, Integer> numberOfResources;
+
+    /**
+     * Number of development cards required, indexed by CardDevelopmentType ordinal
+     */
+    private final int[] cardsOfType = new int[CardDevelopmentType.values().length];
+
+    /**
+     * Level required, indexed by CardDevelopmentType ordinal, null if no level is required for the type
+     */
+    private final CardDevelopmentLevel[] levelOfType = new CardDevelopmentLevel[CardDevelopmentType.values().length];
+
+    private final ResourceVector resourcesRequired;
 
     /**
      * Constructor of the class, takes null values for numberOfDevelopmentCardLevel, numberOfDevelopmentCardTypes, numberOfResources. The param
-     * specified in the CardLeaderRequirementsType must no be null.
+     * specified in the CardLeaderRequirementsType must no be null. The maps are copied.
      * @param cardLeaderRequirementsTypes Type of the requirements
      * @param numberOfDevelopmentCardLevel Map describing requirements of the LeaderCard if cardLeaderRequirementsTypes == NumberOfDevelopmentCardLevel.
      *                                     Can be multiple CardDevelopmentType with assigned level required
@@ -36,54 +51,57 @@ public class CardLeaderRequirements implements Serializable {
                                   @Nullable HashMap<Resource, Integer> numberOfResources
                                   ){
         this.cardLeaderRequirementsType = cardLeaderRequirementsTypes;
+        HashMap<CardDevelopmentType, CardDevelopmentLevel> levels = null;
+        HashMap<CardDevelopmentType, Integer> types = null;
+        HashMap<Resource, Integer> resources = null;
         switch (cardLeaderRequirementsTypes) {
             case NumberOfDevelopmentCardTypes -> {
                 if (numberOfDevelopmentCardTypes == null)
                     throw new IllegalArgumentException();
-                this.numberOfDevelopmentCardTypes = numberOfDevelopmentCardTypes;
+                types = new HashMap<>(numberOfDevelopmentCardTypes);
+                types.forEach((type, number) -> cardsOfType[type.ordinal()] = number);
             }
             case NumberOfDevelopmentCardLevel -> {
                 if (numberOfDevelopmentCardLevel == null)
                     throw new IllegalArgumentException();
-                this.numberOfDevelopmentCardLevel = numberOfDevelopmentCardLevel;
+                levels = new HashMap<>(numberOfDevelopmentCardLevel);
+                levels.forEach((type, level) -> levelOfType[type.ordinal()] = level);
             }
             case NumberOfResources -> {
                 if (numberOfResources == null)
                     throw new IllegalArgumentException();
-                this.numberOfResources = numberOfResources;
+                resources = new HashMap<>(numberOfResources);
             }
         }
+        this.numberOfDevelopmentCardLevel = levels;
+        this.numberOfDevelopmentCardTypes = types;
+        this.numberOfResources = resources;
+        this.resourcesRequired = resources == null ? ResourceVector.ZERO : ResourceVector.fromMap(resources);
     }
 
     /**
-     * Establish if a playerBoard has the necessary requirements to activate this LeaderCard
+     * Establish if a playerBoard has the necessary requirements to activate this LeaderCard.
+     * Development card requirements are checked on the counters kept by the playerBoard
      * @param playerBoard must be the owner of the card
      * @return boolean if requirements are met
      */
     public boolean meetsRequirements(PlayerBoard playerBoard){
         switch (cardLeaderRequirementsType) {
             case NumberOfDevelopmentCardTypes:
-                for (CardDevelopmentType type :
-                        numberOfDevelopmentCardTypes.keySet()) {
-                    if (playerBoard.getAllDevelopmentCards().stream().filter(x -> x.getCardType() == type).count() < numberOfDevelopmentCardTypes.get(type))
+                for (CardDevelopmentType type : CardDevelopmentType.values()) {
+                    if (playerBoard.getDevelopmentCardCount(type) < cardsOfType[type.ordinal()])
                         return false;
                 }
                 return true;
             case NumberOfDevelopmentCardLevel:
-                for (var type :
-                        numberOfDevelopmentCardLevel.keySet()) {
-                    boolean reached = false;
-                    for (var card:
-                         playerBoard.getAllDevelopmentCards()) {
-                        if (card.getCardLevel().ordinal() >= numberOfDevelopmentCardLevel.get(type).ordinal())
-                            reached = true;
-                    }
-                    if (!reached)
-                            return false;
+                for (CardDevelopmentType type : CardDevelopmentType.values()) {
+                    CardDevelopmentLevel level = levelOfType[type.ordinal()];
+                    if (level != null && !playerBoard.hasDevelopmentCardOfLevel(type, level))
+                        return false;
                 }
                 return true;
             case NumberOfResources:
-                return playerBoard.hasResources(numberOfResources);
+                return playerBoard.hasResources(resourcesRequired);
         }
         throw new IllegalArgumentException();
     }
@@ -93,14 +111,14 @@ public class CardLeaderRequirements implements Serializable {
     }
 
     public HashMap<CardDevelopmentType, Integer> getNumberOfDevelopmentCardTypes() {
-        return numberOfDevelopmentCardTypes;
+        return numberOfDevelopmentCardTypes == null ? null : new HashMap<>(numberOfDevelopmentCardTypes);
     }
 
     public HashMap<CardDevelopmentType, CardDevelopmentLevel> getNumberOfDevelopmentCardLevel() {
-        return numberOfDevelopmentCardLevel;
+        return numberOfDevelopmentCardLevel == null ? null : new HashMap<>(numberOfDevelopmentCardLevel);
     }
 
     public HashMap<Resource, Integer> getNumberOfResources() {
-        return numberOfResources;
+        return numberOfResources == null ? null : new HashMap<>(numberOfResources);
     }
 }
@@ -9,17 +9,34 @@ import it.polimi.ingsw.model.enums.Resource;
 import java.util.HashMap;
 
 /**
- * Utility Class to find CardLeader Requirements and victory points
+ * Utility Class to find CardLeader Requirements and victory points.
+ * The requirements of the 16 leader cards are built once and shared by every deck
  */
 public class CardLeaderRequirementsFinder {
 
+    /**
+     * Requirements of every leader card, indexed by CardLeaderType ordinal and Resource ordinal
+     */
+    private static final CardLeaderRequirements[][] requirements = new CardLeaderRequirements[CardLeaderType.values().length][Resource.values().length];
+
+    static {
+        for (CardLeaderType type : CardLeaderType.values()) {
+            for (Resource resource : Resource.values())
+                requirements[type.ordinal()][resource.ordinal()] = buildRequirements(type, resource);
+        }
+    }
+
     /**
      * static method, finds the requirements of the card
      * @param type specifier of the card
      * @param resource specifier of the card
-     * @return CardLeaderRequirements to be assigned to the CardLeader's requirements
+     * @return CardLeaderRequirements to be assigned to the CardLeader's requirements, shared by every card of the same kind
      */
     public static CardLeaderRequirements getRequirements(CardLeaderType type, Resource resource) {
+        return requirements[type.ordinal()][resource.ordinal()];
+    }
+
+    private static CardLeaderRequirements buildRequirements(CardLeaderType type, Resource resource) {
         switch (type) {
             case Production -> {
                 HashMap<CardDevelopmentType, CardDevelopmentLevel> numberOfDevelopmentCardLevel = new HashMap<>();
@@ -9,18 +9,14 @@ public class DepositLeaderCard {
 
     private final ArrayList<Resource> resourceTypes;
 
-    private final HashMap<Resource, Integer> content;
+    private final MutableResourceVector content;
 
     /**
      * Class constructor, creates an empty list of resources so initial capacity = 0 and initializes all resources to 0
      */
     public DepositLeaderCard() {
         resourceTypes = new ArrayList<>();
-        content = new HashMap<>();
-        for (Resource resource :
-                Resource.values()) {
-            content.put(resource, 0);
-        }
+        content = new MutableResourceVector();
     }
 
     public ArrayList<Resource> getResourceTypes() {
@@ -37,19 +33,68 @@ public class DepositLeaderCard {
 
     /**
      * Adds a resource to content
-     * @param resourcesToBeAdded map of resources -> amount to be added
+     * @param resourcesToBeAdded map of resources -> amount to be added, the amounts added are removed from it
      */
     public void add(HashMap<Resource, Integer> resourcesToBeAdded) {
+        MutableResourceVector remaining = MutableResourceVector.fromMap(resourcesToBeAdded);
+        add(remaining);
+        for (Resource resource : resourceTypes) {
+            if (resourcesToBeAdded.containsKey(resource))
+                resourcesToBeAdded.put(resource, remaining.get(resource));
+        }
+    }
+
+    /**
+     * Adds a resource to content
+     * @param resourcesToBeAdded amounts to be added, the amounts added are subtracted from it
+     */
+    public void add(MutableResourceVector resourcesToBeAdded) {
         for (Resource resource : resourceTypes) {
-            while(content.get(resource) < 2 && resourcesToBeAdded.get(resource) > 0 ){
-                content.put(resource, content.get(resource) + 1);
-                resourcesToBeAdded.replace(resource, resourcesToBeAdded.get(resource) - 1);
+            int added = Math.min(2 - content.get(resource), resourcesToBeAdded.get(resource));
+            if (added > 0) {
+                content.add(resource, added);
+                resourcesToBeAdded.subtract(resource, added);
             }
         }
     }
 
+    /**
+     * Subtracts from resources the amounts that would fit in this deposit, without adding them
+     * @param resources amounts to be added
+     */
+    void subtractFreeSpace(MutableResourceVector resources) {
+        for (Resource resource : resourceTypes) {
+            int free = Math.min(2 - content.get(resource), resources.get(resource));
+            if (free > 0)
+                resources.subtract(resource, free);
+        }
+    }
+
+    /**
+     * @return number of resources held
+     */
+    public int getTotal() {
+        return content.total();
+    }
+
+    /**
+     * @param resource whose amount we want to know
+     * @return amount of resource held
+     */
+    int getAmount(Resource resource) {
+        return content.get(resource);
+    }
+
     public HashMap<Resource, Integer> getContent(){
-        return new HashMap<>(content);
+        return content.toMap();
+    }
+
+    /**
+     * Adds the content of this deposit to total
+     * @param total vector accumulating the resources of many storages
+     */
+    void addContentTo(MutableResourceVector total) {
+        total.add(content);
     }
 
     /**
@@ -59,24 +104,27 @@ public class DepositLeaderCard {
      * to pay, if applicable.
      */
     public HashMap<Resource, Integer> tryConsume(HashMap<Resource, Integer> cost) {
-
+        MutableResourceVector remaining = MutableResourceVector.fromMap(cost);
+        tryConsume(remaining);
         for (Resource res : resourceTypes) {
+            if (cost.containsKey(res))
+                cost.put(res, remaining.get(res));
+        }
+        return cost;
+    }
 
-            if (content.get(res) > 0 && cost.get(res) > 0) {
-
-                if (content.get(res) >= cost.get(res)) {
-                    content.put(res, content.get(res) - cost.get(res));
-                    cost.put(res, 0);
-
-                } else {
-                    cost.put(res, cost.get(res) - content.get(res));
-                    content.put(res, 0);
-
-                }
+    /**
+     * This method is used to consume the resources held by DepositCardLeader.
+     * @param cost the cost that is to be paid, the amount the DepositLeaderCard was able to pay is subtracted from it
+     */
+    public void tryConsume(MutableResourceVector cost) {
+        for (Resource res : resourceTypes) {
+            int paid = Math.min(content.get(res), cost.get(res));
+            if (paid > 0) {
+                content.subtract(res, paid);
+                cost.subtract(res, paid);
             }
         }
-
-        return cost;
     }
 
 }
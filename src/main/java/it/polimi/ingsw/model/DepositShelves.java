@@ -0,0 +1,162 @@
+package it.polimi.ingsw.model;
+
+import it.polimi.ingsw.model.enums.Resource;
+
+/**
+ * Shelf rules of the Deposit, checked directly on the amounts of ResourceVectors.
+ * <p>
+ *     The deposit has three shelves holding up to 3, 2 and 1 units of a single resource, and no two shelves can hold
+ *     the same resource. Content is valid when its resources can be assigned to distinct shelves, which means that
+ *     sorting the amounts in descending order gives at most 3, 2, 1 and 0.
+ *     None of the checks allocate, only the solvers allocate the vector they return.
+ * </p>
+ */
+public final class DepositShelves {
+
+    /**
+     * Capacity of each shelf, plus an empty shelf for the fourth resource
+     */
+    private static final int[] capacities = {3, 2, 1, 0};
+
+    /**
+     * Every assignment of capacities to resources, in ordinal order
+     */
+    private static final int[][] assignments = permutations(capacities);
+
+    private DepositShelves() {
+    }
+
+    /**
+     * @param content amounts held by the deposit
+     * @return true if a Deposit holding content is in a valid state
+     */
+    public static boolean fits(ResourceVector content) {
+        return fits(content, ResourceVector.ZERO);
+    }
+
+    /**
+     * @param content amounts held by the deposit
+     * @param added amounts to be added
+     * @return true if a Deposit holding content plus added is in a valid state
+     */
+    public static boolean fits(ResourceVector content, ResourceVector added) {
+
+        int numberOfSingleOccurrences = 0;
+        int numberOfDoubleOccurrences = 0;
+        int numberOfTripleOccurrences = 0;
+
+        for (int i = 0; i < ResourceVector.SIZE; i++) {
+
+            int amount = content.amounts[i] + added.amounts[i];
+
+            if (amount > 3 || amount < 0) return false;
+            if (amount >= 1) numberOfSingleOccurrences++;
+            if (amount >= 2) numberOfDoubleOccurrences++;
+            if (amount == 3) numberOfTripleOccurrences++;
+        }
+
+        return numberOfSingleOccurrences <= 3
+                && numberOfDoubleOccurrences <= 2
+                && numberOfTripleOccurrences <= 1;
+    }
+
+    /**
+     * @param content amounts held by the deposit
+     * @param resource resource to be added
+     * @return how many units of resource can be added to content, 0 if content is not valid
+     */
+    public static int getAddableAmount(ResourceVector content, Resource resource) {
+
+        int index = resource.ordinal();
+        int addable = 0;
+
+        for (int[] assignment : assignments) {
+            if (holds(assignment, content))
+                addable = Math.max(addable, assignment[index] - content.amounts[index]);
+        }
+
+        return addable;
+    }
+
+    /**
+     * Finds the largest part of haul that fits in the deposit together with content
+     * @param content amounts held by the deposit
+     * @param haul amounts the player would like to add, for example the resources taken from the market
+     * @return the largest vector, by total, that is covered by haul and can be added to content.
+     * ZERO if content is not valid
+     */
+    public static ResourceVector largestAddable(ResourceVector content, ResourceVector haul) {
+
+        int[] best = null;
+        int bestTotal = -1;
+
+        for (int[] assignment : assignments) {
+
+            if (!holds(assignment, content)) continue;
+
+            int total = 0;
+            for (int i = 0; i < ResourceVector.SIZE; i++)
+                total += addable(assignment, content, haul, i);
+
+            if (total > bestTotal) {
+                best = assignment;
+                bestTotal = total;
+            }
+        }
+
+        if (best == null) return ResourceVector.ZERO;
+
+        int[] added = new int[ResourceVector.SIZE];
+        for (int i = 0; i < ResourceVector.SIZE; i++)
+            added[i] = addable(best, content, haul, i);
+
+        return new ResourceVector(added);
+    }
+
+    /**
+     * @return true if every resource of content fits in the shelf it is assigned to
+     */
+    private static boolean holds(int[] assignment, ResourceVector content) {
+        for (int i = 0; i < ResourceVector.SIZE; i++) {
+            if (content.amounts[i] > assignment[i])
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return units of the i-th resource of haul that fit in its shelf, on top of content
+     */
+    private static int addable(int[] assignment, ResourceVector content, ResourceVector haul, int i) {
+        return Math.max(0, Math.min(assignment[i] - content.amounts[i], haul.amounts[i]));
+    }
+
+    private static int[][] permutations(int[] values) {
+
+        if (values.length == 1) return new int[][]{values.clone()};
+
+        int[][] result = new int[factorial(values.length)][];
+        int count = 0;
+
+        for (int first = 0; first < values.length; first++) {
+
+            int[] rest = new int[values.length - 1];
+            for (int i = 0, j = 0; i < values.length; i++) {
+                if (i != first) rest[j++] = values[i];
+            }
+
+            for (int[] tail : permutations(rest)) {
+                int[] permutation = new int[values.length];
+                permutation[0] = values[first];
+                System.arraycopy(tail, 0, permutation, 1, tail.length);
+                result[count++] = permutation;
+            }
+        }
+
+        return result;
+    }
+
+    private static int factorial(int n) {
+        return n <= 1 ? 1 : n * factorial(n - 1);
+    }
+}
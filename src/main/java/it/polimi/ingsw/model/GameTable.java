@@ -11,6 +11,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.HashMap;
 
 /**
  * This is the package's main class, which holds all PlayerBoards and the common elements between them, such as
@@ -19,6 +20,16 @@ import java.util.ArrayList;
 public class GameTable implements Serializable {
 
     private final ArrayList<PlayerBoard> players;
+
+    /**
+     * Position of each player in players, which is also the index stored in its PlayerBoard
+     */
+    private final HashMap<String, Integer> indexByNickname = new HashMap<>();
+
+    /**
+     * Index of the last player found in state PLAYING, checked again before being used
+     */
+    private int activePlayerIndex;
     private Lorenzo lorenzo;
     private FaithTrail faithTrail;
     private final CardLeaderDeck cardLeaderDeck;
@@ -52,8 +63,8 @@ public class GameTable implements Serializable {
         players = new ArrayList<>();
 
         for (int i = 0; i < numberOfPlayers; i++) {
-            if (i == 0) players.add(new PlayerBoard(nicknames.get(i), true, PlayerState.PLAYING, this));
-            else players.add(new PlayerBoard(nicknames.get(i), false, PlayerState.IDLE, this));
+            if (i == 0) register(new PlayerBoard(nicknames.get(i), true, PlayerState.PLAYING, this));
+            else register(new PlayerBoard(nicknames.get(i), false, PlayerState.IDLE, this));
         }
 
         isSinglePlayer = (numberOfPlayers == 1);
@@ -77,14 +88,24 @@ public class GameTable implements Serializable {
         if (players.size() == 4) throw new GameIsFullException();
 
         if (numberOfPlayers == 0) {
-            players.add(new PlayerBoard(nickname, true, PlayerState.PLAYING, this));
+            register(new PlayerBoard(nickname, true, PlayerState.PLAYING, this));
         }
         else {
-            players.add(new PlayerBoard(nickname, false, PlayerState.IDLE, this));
+            register(new PlayerBoard(nickname, false, PlayerState.IDLE, this));
         }
         numberOfPlayers++;
     }
 
+    /**
+     * Appends a player to players and indexes it
+     * @param player to be added
+     */
+    private void register(PlayerBoard player) {
+        player.setIndex(players.size());
+        indexByNickname.put(player.getNickname(), players.size());
+        players.add(player);
+    }
+
     /**
      * Starts a game with the current players in it
      */
@@ -130,8 +151,13 @@ public class GameTable implements Serializable {
      * @return player with PlayerState Playing
      */
     public PlayerBoard getActivePlayer(){
+        if (activePlayerIndex < numberOfPlayers && players.get(activePlayerIndex).getPlayerState()==PlayerState.PLAYING)
+            return players.get(activePlayerIndex);
         for (int i = 0; i < numberOfPlayers; i++) {
-            if (players.get(i).getPlayerState()==PlayerState.PLAYING) return players.get(i);
+            if (players.get(i).getPlayerState()==PlayerState.PLAYING) {
+                activePlayerIndex = i;
+                return players.get(i);
+            }
         }
         //This return should never be reached
         return null;
@@ -165,18 +191,25 @@ public class GameTable implements Serializable {
         return players.get(i);
     }
 
+    /**
+     * @param _player player of this table
+     * @return position of _player in turn order, the number of players if _player is not at this table
+     */
     public int getIndexFromPlayer(PlayerBoard _player) {
 
-        int output = 0;
+        int index = _player.getIndex();
+        if (index >= 0 && index < players.size() && players.get(index) == _player) return index;
 
-        for (PlayerBoard player : players) {
-
-            if (player.equals(_player)) break;
-            output++;
-        }
-
-        return output;
+        return players.size();
+    }
 
+    /**
+     * @param nickname nickname of a player
+     * @return position of the player in turn order, -1 if no player has that nickname
+     */
+    public int getIndexFromNickname(String nickname) {
+        Integer index = indexByNickname.get(nickname);
+        return index == null ? -1 : index;
     }
 
     /**
@@ -186,7 +219,7 @@ public class GameTable implements Serializable {
      * @return next player in the turn queue
      */
     public PlayerBoard getNextPlayer(PlayerBoard currPlayer) {
-        int i = players.indexOf(currPlayer);
+        int i = getIndexFromPlayer(currPlayer);
         if (i < numberOfPlayers - 1) {
             return players.get(i + 1); //next Player
         } else
@@ -235,9 +268,7 @@ public class GameTable implements Serializable {
     }
 
     public void moveOthersFaithTrail(PlayerBoard notMovingPlayer) {
-        for (PlayerBoard board : players) {
-            if (!board.getNickname().equals(notMovingPlayer.getNickname())) getFaithTrailInstance().movePlayer(board, 1);
-        }
+        getFaithTrailInstance().moveOthers(notMovingPlayer);
     }
 
     /**
@@ -300,10 +331,8 @@ public class GameTable implements Serializable {
 
     public PlayerBoard getPlayerByNickname(String nickname) {
 
-        for (PlayerBoard player : players) {
-
-            if (player.getNickname().equals(nickname)) return player;
-        }
+        Integer index = indexByNickname.get(nickname);
+        if (index != null) return players.get(index);
 
         //This return should never be reached!
         throw new IllegalArgumentException("No player has that nickname");
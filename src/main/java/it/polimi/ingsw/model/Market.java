@@ -8,23 +8,38 @@ import java.util.*;
 
 /**
  * Class to handle the marble market
+ * <p>
+ *     Marbles are stateless, so the market only stores the ordinal of the MarbleType of each one and hands out the
+ *     shared instances returned by MarbleFactory.get.
+ * </p>
  */
 public class Market {
 
+    private static final int ROWS = 3;
+    private static final int COLUMNS = 4;
+
+    private static final MarbleType[] marbleTypes = MarbleType.values();
+
+    /**
+     * market is a matrix of 3 rows x 4 columns, stored by row
+     */
+    private final byte[] market = new byte[ROWS * COLUMNS];
+
+    private byte spareMarble;
+
     /**
-     * market is a matrix of 3 rows x 4 columns
+     * Incremented every time the marbles are moved, tells whether snapshot is still valid
      */
-    private final ArrayList<ArrayList<Marble>> market;
+    private int version;
 
-    private Marble spareMarble;
+    private List<List<MarbleType>> snapshot;
+    private int snapshotVersion = -1;
 
     /**
      * Constructor of the class, initializes Market and fills it with Marble s
      * @param gameTable this
      */
     public Market(GameTable gameTable){
-        MarbleFactory marbleFactory = new MarbleFactory();
-        market = new ArrayList<>(3);
         LinkedList<MarbleType> marbleGenerationList = new LinkedList<>(Arrays.asList(
                 MarbleType.MarbleWhite,
                 MarbleType.MarbleWhite,
@@ -41,15 +56,9 @@ public class Market {
                 MarbleType.MarbleRed
         ));
         Collections.shuffle(marbleGenerationList);
-        int k=0;
-        for (int e=0; e<3; e++) {
-            market.add(new ArrayList<>());
-            for (int i = 0; i < 4; i++) {
-                market.get(e).add(marbleFactory.produce(marbleGenerationList.get(k), gameTable));
-                k++;
-            }
-        }
-        spareMarble = marbleFactory.produce(marbleGenerationList.getLast(), gameTable);
+        for (int k = 0; k < market.length; k++)
+            market[k] = (byte) marbleGenerationList.get(k).ordinal();
+        spareMarble = (byte) marbleGenerationList.getLast().ordinal();
     }
 
     /**
@@ -60,21 +69,9 @@ public class Market {
      * @throws IllegalArgumentException
      */
     public ArrayList<Marble> getCol(Integer colNumber) throws IllegalArgumentException{
-        if(colNumber<1 || colNumber>4)
-            throw new IllegalArgumentException();
-        ArrayList<Marble> col = new ArrayList<>();
-        for (ArrayList<Marble> marbleList: market
-        ) {
-            col.add(marbleList.get(colNumber-1));
-        }
-        Marble tempMarble = spareMarble;
-        for (ArrayList<Marble> marbleList: market
-        ) {
-            marbleList.add(colNumber - 1, tempMarble);
-            tempMarble = marbleList.remove(colNumber.intValue());
-        }
-        spareMarble = tempMarble;
-        return col;
+        Marble[] col = new Marble[ROWS];
+        takeCol(colNumber, col);
+        return new ArrayList<>(Arrays.asList(col));
     }
 
     /**
@@ -85,37 +82,102 @@ public class Market {
      * @throws IllegalArgumentException
      */
     public ArrayList<Marble> getRow(Integer rowNumber) throws IllegalArgumentException{
+        Marble[] row = new Marble[COLUMNS];
+        takeRow(rowNumber, row);
+        return new ArrayList<>(Arrays.asList(row));
+    }
+
+    /**
+     * Same as getCol, without allocating
+     * @param colNumber column to take, must be 1<=colNumber<=4
+     * @param buffer filled with the marbles of the column, must have room for 3 marbles
+     * @return number of marbles written to buffer
+     * @throws IllegalArgumentException
+     */
+    public int takeCol(int colNumber, Marble[] buffer) throws IllegalArgumentException {
+        if(colNumber<1 || colNumber>4)
+            throw new IllegalArgumentException();
+        int column = colNumber - 1;
+        for (int row = 0; row < ROWS; row++)
+            buffer[row] = marble(market[row * COLUMNS + column]);
+
+        byte pushed = spareMarble;
+        spareMarble = market[(ROWS - 1) * COLUMNS + column];
+        for (int row = ROWS - 1; row > 0; row--)
+            market[row * COLUMNS + column] = market[(row - 1) * COLUMNS + column];
+        market[column] = pushed;
+
+        version++;
+        return ROWS;
+    }
+
+    /**
+     * Same as getRow, without allocating
+     * @param rowNumber row to take, must be 1<=rowNumber<=3
+     * @param buffer filled with the marbles of the row, must have room for 4 marbles
+     * @return number of marbles written to buffer
+     * @throws IllegalArgumentException
+     */
+    public int takeRow(int rowNumber, Marble[] buffer) throws IllegalArgumentException {
         if(rowNumber<1 || rowNumber>3)
             throw new IllegalArgumentException();
-        ArrayList<Marble> oldRow = new ArrayList<>(market.get(rowNumber - 1));
-        market.get(rowNumber - 1).add(0, spareMarble);
-        spareMarble = market.get(rowNumber - 1).remove(4);
-        return oldRow;
+        int start = (rowNumber - 1) * COLUMNS;
+        for (int column = 0; column < COLUMNS; column++)
+            buffer[column] = marble(market[start + column]);
+
+        byte pushed = spareMarble;
+        spareMarble = market[start + COLUMNS - 1];
+        System.arraycopy(market, start, market, start + 1, COLUMNS - 1);
+        market[start] = pushed;
+
+        version++;
+        return COLUMNS;
     }
 
     /**
-     * Clones the market matrix
-     * @return a clone of the market matrix
+     * Copies the market matrix
+     * @return a new matrix holding the marbles of the market
      */
     public ArrayList<ArrayList<Marble>> getMarket(){
-        ArrayList<ArrayList<Marble>> marketClone = new ArrayList<>(3);
-        for (ArrayList<Marble> marbleList: market
-             ) {
-            ArrayList<Marble> marbleClonedList = new ArrayList<>();
-            marketClone.add(marbleClonedList);
-            for (Marble marble: marbleList
-                 ) {
-                marbleClonedList.add(marble.clone());
-            }
+        ArrayList<ArrayList<Marble>> marketClone = new ArrayList<>(ROWS);
+        for (int row = 0; row < ROWS; row++) {
+            ArrayList<Marble> marbleList = new ArrayList<>(COLUMNS);
+            marketClone.add(marbleList);
+            for (int column = 0; column < COLUMNS; column++)
+                marbleList.add(marble(market[row * COLUMNS + column]));
         }
         return marketClone;
     }
 
     /**
-     * Clones the spare marble
-     * @return a clone of the spare marble
+     * Snapshot of the market as sent to the clients.
+     * The same snapshot is returned until the marbles are moved, so it can't be modified.
+     * @return unmodifiable matrix of the MarbleType of every marble of the market
+     */
+    public List<List<MarbleType>> getMarbleTypes() {
+        if (snapshot == null || snapshotVersion != version) {
+            ArrayList<List<MarbleType>> types = new ArrayList<>(ROWS);
+            for (int row = 0; row < ROWS; row++) {
+                ArrayList<MarbleType> typeList = new ArrayList<>(COLUMNS);
+                for (int column = 0; column < COLUMNS; column++)
+                    typeList.add(marbleTypes[market[row * COLUMNS + column]]);
+                types.add(Collections.unmodifiableList(typeList));
+            }
+            snapshot = Collections.unmodifiableList(types);
+            snapshotVersion = version;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Getter for the spare marble, marbles are stateless so it can be shared
+     * @return the spare marble
      */
     public Marble getSpareMarble(){
-        return spareMarble.clone();
+        return marble(spareMarble);
+    }
+
+    private static Marble marble(byte ordinal) {
+        return MarbleFactory.get(marbleTypes[ordinal]);
     }
 }
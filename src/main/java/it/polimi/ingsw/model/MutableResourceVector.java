@@ -0,0 +1,75 @@
+package it.polimi.ingsw.model;
+
+import it.polimi.ingsw.model.enums.Resource;
+
+import java.util.Map;
+
+/**
+ * ResourceVector whose amounts can be changed in place, without allocating.
+ * Use snapshot to hand out a copy that won't change anymore.
+ */
+public class MutableResourceVector extends ResourceVector {
+
+    /**
+     * Creates a vector with every amount set to 0
+     */
+    public MutableResourceVector() {
+        super(new int[SIZE]);
+    }
+
+    MutableResourceVector(int[] amounts) {
+        super(amounts);
+    }
+
+    /**
+     * Converts a map of resources, missing keys and null values count as 0
+     * @param map Resource to amount
+     * @return the vector
+     */
+    public static MutableResourceVector fromMap(Map<Resource, Integer> map) {
+        return new MutableResourceVector(toArray(map));
+    }
+
+    public void set(Resource resource, int amount) {
+        amounts[resource.ordinal()] = amount;
+    }
+
+    public void add(Resource resource, int amount) {
+        amounts[resource.ordinal()] += amount;
+    }
+
+    public void subtract(Resource resource, int amount) {
+        amounts[resource.ordinal()] -= amount;
+    }
+
+    /**
+     * Adds every amount of other to this vector
+     * @param other vector to be added
+     */
+    public void add(ResourceVector other) {
+        for (int i = 0; i < SIZE; i++)
+            amounts[i] += other.amounts[i];
+    }
+
+    /**
+     * Subtracts every amount of other from this vector
+     * @param other vector to be subtracted
+     */
+    public void subtract(ResourceVector other) {
+        for (int i = 0; i < SIZE; i++)
+            amounts[i] -= other.amounts[i];
+    }
+
+    @Override
+    public ResourceVector snapshot() {
+        return new ResourceVector(amounts.clone());
+    }
+
+    /**
+     * Sets every amount to 0
+     */
+    public void clear() {
+        for (int i = 0; i < SIZE; i++)
+            amounts[i] = 0;
+    }
+}
@@ -1,7 +1,9 @@
 package it.polimi.ingsw.model;
 
 import it.polimi.ingsw.model.cards.*;
+import it.polimi.ingsw.model.enums.CardDevelopmentLevel;
 import it.polimi.ingsw.model.enums.CardDevelopmentSlotID;
+import it.polimi.ingsw.model.enums.CardDevelopmentType;
 import it.polimi.ingsw.model.enums.PlayerState;
 import it.polimi.ingsw.model.enums.Resource;
 import it.polimi.ingsw.model.exceptions.*;
@@ -16,9 +18,23 @@ import java.util.HashMap;
  */
 public class PlayerBoard {
 
+    private static final Resource[] resources = Resource.values();
+
     private final String nickname;
     private final boolean first;
     private PlayerState playerState;
+    private int index = -1;
+    private final ScoreLedger scoreLedger = new ScoreLedger();
+
+    /**
+     * Number of development cards placed on the board, indexed by CardDevelopmentType ordinal
+     */
+    private final int[] cardsOfType = new int[CardDevelopmentType.values().length];
+
+    /**
+     * Highest level placed on the board for every CardDevelopmentType, as level ordinal + 1, 0 if no card of the type
+     */
+    private final int[] highestLevelOfType = new int[CardDevelopmentType.values().length];
     private Resource whiteEffect;
     private CardDevelopmentSlot[] cardSlotArray;
     private final GameTable gameTable;
@@ -109,6 +125,24 @@ public class PlayerBoard {
         return gameTable.getMarketInstance().getCol(integer);
     }
 
+    /**
+     * Same as getMarketRow, writing the marbles to a buffer owned by the caller
+     *
+     * @return number of marbles written to buffer, see Market.takeRow
+     */
+    public int takeMarketRow(int rowNumber, Marble[] buffer) {
+        return gameTable.getMarketInstance().takeRow(rowNumber, buffer);
+    }
+
+    /**
+     * Same as getMarketCol, writing the marbles to a buffer owned by the caller
+     *
+     * @return number of marbles written to buffer, see Market.takeCol
+     */
+    public int takeMarketCol(int colNumber, Marble[] buffer) {
+        return gameTable.getMarketInstance().takeCol(colNumber, buffer);
+    }
+
     /**
      * Deck of cards leader owned by this player
      *
@@ -118,6 +152,34 @@ public class PlayerBoard {
         return new ArrayList<>(cardsLeader);
     }
 
+    /**
+     * @return the leader cards owned by this player that are not active yet and whose requirements are met
+     */
+    public ArrayList<CardLeader> getActivatableCardsLeader() {
+        ArrayList<CardLeader> activatable = new ArrayList<>(cardsLeader.size());
+        for (CardLeader cardLeader : cardsLeader) {
+            if (!cardLeader.getActivationState() && cardLeader.canActivate(this)) activatable.add(cardLeader);
+        }
+        return activatable;
+    }
+
+    /**
+     * @param type type of development card
+     * @return number of development cards of the given type placed on the board
+     */
+    public int getDevelopmentCardCount(CardDevelopmentType type) {
+        return cardsOfType[type.ordinal()];
+    }
+
+    /**
+     * @param type type of development card
+     * @param level minimum level
+     * @return true if a development card of the given type and of at least the given level is placed on the board
+     */
+    public boolean hasDevelopmentCardOfLevel(CardDevelopmentType type, CardDevelopmentLevel level) {
+        return highestLevelOfType[type.ordinal()] > level.ordinal();
+    }
+
     /**
      * Deck of cards leader owned by this player before choosing, if this player have already selected his cards, returns null
      *
@@ -216,6 +278,21 @@ public class PlayerBoard {
         return new HashMap<>(tempDeposit);
     }
 
+    /**
+     * Same as consumeMarbles, for the marbles written to a buffer by takeMarketRow or takeMarketCol
+     *
+     * @param marbles buffer holding the marbles
+     * @param count   number of marbles in the buffer
+     * @return obtained resources
+     */
+    public HashMap<Resource, Integer> consumeMarbles(Marble[] marbles, int count) {
+        resetTemporaryDeposit();
+        for (int i = 0; i < count; i++) {
+            marbles[i].activate(this);
+        }
+        return new HashMap<>(tempDeposit);
+    }
+
     /**
      * try add this resource s to the player's deposit. It prioritizes the card leader deposit
      *
@@ -244,6 +321,19 @@ public class PlayerBoard {
         }
     }
 
+    /**
+     * Finds the fewest resources to discard so that the rest of resources can be added, leader deposits first
+     *
+     * @param resources resources to be added, for example the residual of {@link #tryAddResources(HashMap)}
+     * @return amounts to discard, empty if every resource can be added
+     */
+    public ResourceVector suggestDiscard(ResourceVector resources) {
+        MutableResourceVector remaining = resources.toMutable();
+        getDepositLeaderCardInstance().subtractFreeSpace(remaining);
+        remaining.subtract(deposit.largestAddable(remaining));
+        return remaining.snapshot();
+    }
+
     /**
      * Resets the Temporary Deposit and tries to add the given arraylist of marbles
      *
@@ -325,31 +415,36 @@ public class PlayerBoard {
      * @return true if strongbox + deposit hold enough resources, false otherwise
      */
     public boolean hasResources(HashMap<Resource, Integer> numberOfResources) {
+        return hasResources(ResourceVector.fromMap(numberOfResources));
+    }
 
-
-        //Strongbox content
-        HashMap<Resource, Integer> temp = getStrongboxInstance().getContent();
-
-        //Deposit content
-        for (Resource res : Resource.values()) {
-            temp.replace(res, temp.get(res) + getDepositInstance().getContent().get(res));
-        }
-
-        //Card Leader deposit content
-        if (getDepositLeaderCardInstance().getContent().size() > 0) {
-            for (Resource res : getDepositLeaderCardInstance().getContent().keySet()) {
-                temp.replace(res, getDepositLeaderCardInstance().getContent().get(res) + temp.get(res));
-            }
-        }
-
-        for (Resource res : Resource.values()) {
-            if (numberOfResources.get(res) != null)
-                if (numberOfResources.get(res) > temp.get(res)) return false;
+    /**
+     * Checks if strongbox, deposit and leader deposit COMBINED hold at least numberOfResources
+     *
+     * @param numberOfResources amounts to be met in order to return true
+     * @return true if the storages hold enough resources, false otherwise
+     */
+    public boolean hasResources(ResourceVector numberOfResources) {
+        for (Resource resource : resources) {
+            int held = getStrongboxInstance().getAmount(resource)
+                    + getDepositInstance().getAmount(resource)
+                    + getDepositLeaderCardInstance().getAmount(resource);
+            if (held < numberOfResources.get(resource)) return false;
         }
-
         return true;
     }
 
+    /**
+     * @return sum of the resources held in strongbox, deposit and leader deposit
+     */
+    public ResourceVector getAvailableResources() {
+        MutableResourceVector total = new MutableResourceVector();
+        getStrongboxInstance().addContentTo(total);
+        getDepositInstance().addContentTo(total);
+        getDepositLeaderCardInstance().addContentTo(total);
+        return total;
+    }
+
     public void discountResource(Resource resource) {
         discountedResource = resource;
     }
@@ -364,6 +459,17 @@ public class PlayerBoard {
         return first;
     }
 
+    /**
+     * @return position of this player in turn order, -1 if the board was not added to a GameTable
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    void setIndex(int index) {
+        this.index = index;
+    }
+
     public PlayerState getPlayerState() {
         return playerState;
     }
@@ -373,105 +479,88 @@ public class PlayerBoard {
     }
 
     /**
-     * Giving two resources you can get one of any type
+     * Checks if cardLeader can be activated and calls activate() on it
      * This method assumes that the player holds enough resources to activate the production power.
      *
-     * @param input1 first resource used as input for basic production power
-     * @param input2 second resource used as input for basic production power
-     * @param output output of basic production power
+     * @param cardLeaderToBeActivated card leader production whose power is to be activated
+     * @param output                  type of Resource to be produced
      */
-    private void activateBasicProduction(Resource input1, Resource input2, Resource output) {
-
-        HashMap<Resource, Integer> cost = new HashMap<>();
-
-        for (Resource res : Resource.values()) cost.put(res, 0);
-
-        if (input1 == input2) cost.put(input1, 2);
-        else {
-            cost.put(input1, 1);
-            cost.put(input2, 1);
-        }
-
-        consumeResources(cost);
+    public void activateLeaderProduction(CardLeader cardLeaderToBeActivated, Resource output) {
+        if (cardLeaderToBeActivated.getClass() != CardLeaderProduction.class)
+            throw new IllegalArgumentException("this CardLeader is not a CardLeaderProduction");
+        setCardLeaderProductionOutput(output);
+        cardLeaderToBeActivated.activate(this);
+    }
 
-        getStrongboxInstance().addResource(output, 1);
+    /**
+     * @return running totals of the victory points of this player
+     */
+    public ScoreLedger getScoreLedger() {
+        return scoreLedger;
     }
 
     /**
-     * Method to activate a single card's production power.
-     * This method assumes that the player holds enough resources to activate the production power.
-     *
-     * @param cardDevelopmentSlotToActivate slot whose highest production power is to be activated
+     * @return victory points of the active leader cards, at most 2 cards are checked
      */
-    private void activateCardProduction(CardDevelopmentSlot cardDevelopmentSlotToActivate) {
-        cardDevelopmentSlotToActivate.getTop().tryActivateProduction(this);
+    public int getLeaderPoints() {
+        int leaderPoints = 0;
+        for (CardLeader cardLeader : cardsLeader)
+            leaderPoints += cardLeader.getVictoryPoints();
+        return leaderPoints;
     }
 
     /**
-     * Checks if cardLeader can be activated and calls activate() on it
-     * This method assumes that the player holds enough resources to activate the production power.
-     *
-     * @param cardLeaderToBeActivated card leader production whose power is to be activated
-     * @param output                  type of Resource to be produced
+     * @return number of resources held in deposit, strongbox and leader deposits, without copying them
      */
-    public void activateLeaderProduction(CardLeader cardLeaderToBeActivated, Resource output) {
-        if (cardLeaderToBeActivated.getClass() != CardLeaderProduction.class)
-            throw new IllegalArgumentException("this CardLeader is not a CardLeaderProduction");
-        setCardLeaderProductionOutput(output);
-        cardLeaderToBeActivated.activate(this);
+    public int getResourceCount() {
+        return deposit.getTotal() + strongbox.getTotal() + getDepositLeaderCardInstance().getTotal();
     }
 
     public Integer getVictoryPoints() {
-        Integer victoryPoints = 0;
 
-        //Faith Trail
-        victoryPoints += gameTable.getFaithTrailInstance().getVictoryPoints(this);
+        //Faith Trail + CardDevelopment
+        int victoryPoints = scoreLedger.getFaithPoints() + scoreLedger.getTilePoints() + scoreLedger.getCardPoints();
 
         //Carte leader
-        for (CardLeader cardLeader :
-                cardsLeader) {
-            victoryPoints += cardLeader.getVictoryPoints();
-        }
+        victoryPoints += getLeaderPoints();
 
         //Deposit + Strongbox + CardLeaderDeposit
-        int totalResources = 0;
-
-        for (Resource res : Resource.values()) {
-            totalResources += getDepositInstance().getContent().get(res);
-            totalResources += getStrongboxInstance().getContent().get(res);
-            totalResources += getDepositLeaderCardInstance().getContent().get(res);
-        }
-
-        victoryPoints += Math.floorDiv(totalResources, 5);
-
-        //CardDevelopment
-        for (CardDevelopment cardDevelopment :
-                getAllDevelopmentCards()) {
-            victoryPoints += cardDevelopment.getVictoryPoints();
-        }
+        victoryPoints += Math.floorDiv(getResourceCount(), 5);
 
         return victoryPoints;
-
     }
 
     public void consumeResources(HashMap<Resource, Integer> cost) {
-        // Pay what you can with the depositLeader
-        cost = getDepositLeaderCardInstance().tryConsume(cost);
-
-        // Consume the card cost for each resource
-        for (Resource res : cost.keySet()) {
-
-            if (deposit.hasResource(res, cost.get(res))) {
+        consumeResources(ResourceVector.fromMap(cost));
+    }
 
-                // If true, consume resources only from deposit
-                deposit.useResource(res, cost.get(res));
-            } else {
+    /**
+     * Pays cost, first with the leader deposit, then with the deposit and finally with the strongbox.
+     * This method assumes the player holds enough resources, see hasResources
+     *
+     * @param cost amounts to be paid
+     */
+    public void consumeResources(ResourceVector cost) {
+        consumeInPlace(cost.toMutable());
+    }
 
-                // Else, consume all of deposit and take delta from strongbox
-                int delta = cost.get(res) - deposit.getContent().get(res);
-                strongbox.useResource(res, delta);
-                deposit.useResource(res, deposit.getContent().get(res));
-            }
+    /**
+     * Same as consumeResources, without copying the cost
+     *
+     * @param remaining amounts to be paid, modified by this method
+     */
+    void consumeInPlace(MutableResourceVector remaining) {
+        // Pay what you can with the depositLeader
+        getDepositLeaderCardInstance().tryConsume(remaining);
+
+        // Consume the card cost for each resource, from deposit first and the delta from strongbox
+        for (Resource res : resources) {
+            int amount = remaining.get(res);
+            if (amount == 0)
+                continue;
+            int fromDeposit = Math.min(amount, deposit.getAmount(res));
+            deposit.useResource(res, fromDeposit);
+            strongbox.useResource(res, amount - fromDeposit);
         }
     }
 
@@ -480,14 +569,14 @@ public class PlayerBoard {
     public CardDevelopment buyCardDevelopmentCardFromMarket(int rowIndex, int colIndex) throws NotEnoughResourcesException, EmptyStackException {
 
         CardDevelopmentMarket marketInstance = gameTable.getCardDevelopmentMarketInstance();
-        CardDevelopmentStack desiredStack = marketInstance.getMarket()[rowIndex][colIndex];
-        CardDevelopment desiredCard = desiredStack.peek();
+        CardDevelopment desiredCard = marketInstance.topCard(rowIndex, colIndex);
+        if (desiredCard == null) throw new EmptyStackException();
 
-        if (discountedResource != null && desiredCard.getCardCosts().get(discountedResource) > 0) {
+        if (discountedResource != null && desiredCard.getCardCostsVector().get(discountedResource) > 0) {
             desiredCard = marketInstance.applyDiscount(rowIndex, colIndex, discountedResource);
         }
 
-        if (hasResources(desiredCard.getCardCosts())) {
+        if (hasResources(desiredCard.getCardCostsVector())) {
             return marketInstance.buyCardFromStack(this, rowIndex, colIndex);
         } else {
             throw new NotEnoughResourcesException(this.nickname);
@@ -509,6 +598,11 @@ public class PlayerBoard {
         InvalidPlacementException is thrown when the placement logic is not respected
          */
         targetSlot.placeCard(cardToBePlaced);
+        scoreLedger.addCardPoints(cardToBePlaced.getVictoryPoints());
+
+        int type = cardToBePlaced.getCardType().ordinal();
+        cardsOfType[type]++;
+        highestLevelOfType[type] = Math.max(highestLevelOfType[type], cardToBePlaced.getCardLevel().ordinal() + 1);
     }
 
     /**
@@ -521,80 +615,14 @@ public class PlayerBoard {
      */
     public boolean tryActivateProductions(ProductionSelection productionSelection) throws InvalidSlotIndexException, CardLeaderRequirementsNotMetException {
 
-        /* *** 1. Compute total cost of production powers to be activated *** */
-
-        HashMap<Resource, Integer> totalCost = new HashMap<>();
-
-        for (Resource res : Resource.values()) totalCost.put(res, 0);
-
-        // Cost for basic production power
-        if (productionSelection.getBasicProduction()) {
-
-            totalCost.put(
-                    productionSelection.getBasicProdInfo()[0],
-                    totalCost.get(productionSelection.getBasicProdInfo()[0]) + 1);
-
-            totalCost.put(
-                    productionSelection.getBasicProdInfo()[1],
-                    totalCost.get(productionSelection.getBasicProdInfo()[1]) + 1);
-        }
-
-        // Cost for selected development card powers
-        for (int i = 0; i < 3; i++) {
-
-            if (productionSelection.getCardDevelopmentSlotActive()[i]) {
+        // Sum inputs, outputs and faith of every selected power, checking the selection
+        ProductionPlan plan = ProductionPlan.compile(this, productionSelection);
 
-                if (getCardDevelopmentSlotByIndex(i).getTop() != null) {
+        // Activate all powers at once, only if the player holds the whole input
+        if (!hasResources(plan.getInput())) return false;
 
-                    CardDevelopment card = getCardDevelopmentSlotByIndex(i).getTop();
-
-                    for (Resource res : Resource.values())
-                        totalCost.put(res, totalCost.get(res) + card.getProductionInput().get(res));
-                }
-            }
-        }
-
-        // Cost for selected leader production card powers
-        for (CardLeader card : productionSelection.getCardLeadersToActivate()) {
-
-            if (card != null) {
-                if (card.canActivate(this)) {
-                    totalCost.put(card.resource, totalCost.get(card.resource) + 1);
-                } else throw new CardLeaderRequirementsNotMetException();
-            }
-        }
-
-        /* *** 2. Check if player has enough resources to activate all the powers *** */
-        if (hasResources(totalCost)) {
-
-            // **Activate all powers**
-
-            // Activate basic production
-            if (productionSelection.getBasicProduction()) activateBasicProduction(
-                    productionSelection.getBasicProdInfo()[0],
-                    productionSelection.getBasicProdInfo()[1],
-                    productionSelection.getBasicProdInfo()[2]
-            );
-
-            // Activate development card powers
-            for (int i = 0; i < 3; i++) {
-                if (productionSelection.getCardDevelopmentSlotActive()[i]) {
-                    activateCardProduction(cardSlotArray[i]);
-                }
-            }
-
-            // Activate leader card production powers
-            for (int i = 0; i < 2; i++) {
-                if (productionSelection.getCardLeadersToActivate()[i] != null) {
-                    activateLeaderProduction(
-                            productionSelection.getCardLeadersToActivate()[i],
-                            productionSelection.getCardLeaderProdOutputs()[i]);
-                }
-            }
-            return true;
-        } else {
-            return false;
-        }
+        plan.apply(this);
+        return true;
     }
 
     public Integer getFaithTrailPosition() {
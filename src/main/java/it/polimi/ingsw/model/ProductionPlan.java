@@ -0,0 +1,118 @@
+package it.polimi.ingsw.model;
+
+import it.polimi.ingsw.model.cards.CardDevelopment;
+import it.polimi.ingsw.model.enums.Resource;
+import it.polimi.ingsw.model.exceptions.CardLeaderRequirementsNotMetException;
+import it.polimi.ingsw.model.exceptions.CardLeaderWrongOwnerException;
+import it.polimi.ingsw.model.exceptions.InvalidSlotIndexException;
+
+/**
+ * A ProductionSelection compiled into the total input, the total output and the faith produced by its powers.
+ * <p>
+ *     Every check on the selection is done while compiling, so once the player is known to hold the input the plan can
+ *     be applied without failing halfway: a rejected plan leaves the board untouched.
+ * </p>
+ */
+final class ProductionPlan {
+
+    private final MutableResourceVector input = new MutableResourceVector();
+    private final MutableResourceVector output = new MutableResourceVector();
+    private int faith;
+
+    private ProductionPlan() {
+    }
+
+    /**
+     * Sums the inputs and outputs of the powers selected
+     * @param board PlayerBoard activating the powers
+     * @param selection powers selected by the player
+     * @return the compiled plan
+     * @throws InvalidSlotIndexException if a development slot index is not valid
+     * @throws CardLeaderRequirementsNotMetException if the requirements of a selected leader card are not met
+     * @throws IllegalArgumentException if a selected leader card is not a production leader or has no output
+     */
+    static ProductionPlan compile(PlayerBoard board, ProductionSelection selection) throws InvalidSlotIndexException, CardLeaderRequirementsNotMetException {
+
+        ProductionPlan plan = new ProductionPlan();
+
+        // Basic production power
+        if (selection.getBasicProduction()) {
+            Resource[] basicProdInfo = selection.getBasicProdInfo();
+            plan.input.add(basicProdInfo[0], 1);
+            plan.input.add(basicProdInfo[1], 1);
+            plan.output.add(basicProdInfo[2], 1);
+        }
+
+        // Development card powers
+        Boolean[] slotActive = selection.getCardDevelopmentSlotActive();
+        for (int i = 0; i < slotActive.length; i++) {
+
+            if (slotActive[i] != null && slotActive[i]) {
+
+                CardDevelopment card = board.getCardDevelopmentSlotByIndex(i).getTop();
+
+                if (card != null) {
+                    plan.input.add(card.getProductionInputVector());
+                    plan.output.add(card.getProductionOutputVector());
+                    plan.faith += card.getNumberOfRedResourceProduced();
+                }
+            }
+        }
+
+        // Leader card production powers
+        CardLeader[] leaders = selection.getCardLeadersToActivate();
+        for (int i = 0; i < leaders.length; i++) {
+
+            CardLeader card = leaders[i];
+            if (card == null) continue;
+
+            if (card.getClass() != CardLeaderProduction.class)
+                throw new IllegalArgumentException("this CardLeader is not a CardLeaderProduction");
+            if (!board.getNickname().equals(card.getPlayerName()))
+                throw new CardLeaderWrongOwnerException();
+            if (!card.canActivate(board))
+                throw new CardLeaderRequirementsNotMetException();
+
+            Resource leaderOutput = selection.getCardLeaderProdOutputs()[i];
+            if (leaderOutput == null) throw new IllegalArgumentException();
+
+            plan.input.add(card.getResource(), 1);
+            plan.output.add(leaderOutput, 1);
+            plan.faith += 1;
+        }
+
+        return plan;
+    }
+
+    /**
+     * @return total resources consumed by the plan
+     */
+    ResourceVector getInput() {
+        return input;
+    }
+
+    /**
+     * @return total resources produced by the plan
+     */
+    ResourceVector getOutput() {
+        return output;
+    }
+
+    /**
+     * @return faith steps produced by the plan
+     */
+    int getFaith() {
+        return faith;
+    }
+
+    /**
+     * Pays the input, stores the output in the strongbox and moves the player on the faith trail.
+     * Must be called only if board.hasResources(getInput()), the plan can be applied only once
+     * @param board PlayerBoard the plan was compiled for
+     */
+    void apply(PlayerBoard board) {
+        board.consumeInPlace(input);
+        board.getStrongboxInstance().tryAdd(output);
+        if (faith > 0) board.moveFaith(faith);
+    }
+}
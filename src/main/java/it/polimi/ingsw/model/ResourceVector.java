@@ -0,0 +1,182 @@
+package it.polimi.ingsw.model;
+
+import it.polimi.ingsw.model.enums.Resource;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Amount of each Resource, stored as an int for every constant of Resource in ordinal order.
+ * <p>
+ *     ResourceVector is the immutable variant: its instances never change and can be shared freely, for example
+ *     between every copy of a card. MutableResourceVector adds in-place operations for the amounts that keep
+ *     changing, like the content of a Strongbox.
+ * </p>
+ */
+public class ResourceVector implements Serializable {
+
+    /**
+     * Number of different resources
+     */
+    public static final int SIZE = Resource.values().length;
+
+    private static final Resource[] resources = Resource.values();
+
+    public static final ResourceVector ZERO = new ResourceVector(new int[SIZE]);
+
+    protected final int[] amounts;
+
+    ResourceVector(int[] amounts) {
+        this.amounts = amounts;
+    }
+
+    /**
+     * Creates a vector from the given amounts
+     * @param coins amount of Coins
+     * @param stones amount of Stones
+     * @param servants amount of Servants
+     * @param shields amount of Shields
+     * @return the vector
+     */
+    public static ResourceVector of(int coins, int stones, int servants, int shields) {
+        int[] amounts = new int[SIZE];
+        amounts[Resource.Coins.ordinal()] = coins;
+        amounts[Resource.Stones.ordinal()] = stones;
+        amounts[Resource.Servants.ordinal()] = servants;
+        amounts[Resource.Shields.ordinal()] = shields;
+        return new ResourceVector(amounts);
+    }
+
+    /**
+     * Creates a vector holding one unit for each occurrence of a resource
+     * @param units resources, may contain duplicates
+     * @return the vector
+     */
+    public static ResourceVector of(Resource... units) {
+        int[] amounts = new int[SIZE];
+        for (Resource resource : units)
+            amounts[resource.ordinal()]++;
+        return new ResourceVector(amounts);
+    }
+
+    /**
+     * Converts a map of resources, missing keys and null values count as 0
+     * @param map Resource to amount
+     * @return the vector
+     */
+    public static ResourceVector fromMap(Map<Resource, Integer> map) {
+        return new ResourceVector(toArray(map));
+    }
+
+    static int[] toArray(Map<Resource, Integer> map) {
+        int[] amounts = new int[SIZE];
+        for (Map.Entry<Resource, Integer> entry : map.entrySet()) {
+            if (entry.getValue() != null)
+                amounts[entry.getKey().ordinal()] = entry.getValue();
+        }
+        return amounts;
+    }
+
+    public int get(Resource resource) {
+        return amounts[resource.ordinal()];
+    }
+
+    /**
+     * @return sum of the amounts of every resource
+     */
+    public int total() {
+        int total = 0;
+        for (int amount : amounts)
+            total += amount;
+        return total;
+    }
+
+    /**
+     * @return true if every amount is 0
+     */
+    public boolean isEmpty() {
+        for (int amount : amounts) {
+            if (amount != 0)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Dominance check
+     * @param other vector to compare to
+     * @return true if this vector holds at least the amount of other for every resource
+     */
+    public boolean covers(ResourceVector other) {
+        for (int i = 0; i < SIZE; i++) {
+            if (amounts[i] < other.amounts[i])
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * @param other vector to be added
+     * @return a new vector, sum of this and other
+     */
+    public ResourceVector plus(ResourceVector other) {
+        int[] sum = amounts.clone();
+        for (int i = 0; i < SIZE; i++)
+            sum[i] += other.amounts[i];
+        return new ResourceVector(sum);
+    }
+
+    /**
+     * @param other vector to be subtracted
+     * @return a new vector, difference of this and other
+     */
+    public ResourceVector minus(ResourceVector other) {
+        int[] difference = amounts.clone();
+        for (int i = 0; i < SIZE; i++)
+            difference[i] -= other.amounts[i];
+        return new ResourceVector(difference);
+    }
+
+    /**
+     * @return an immutable vector with the current amounts of this one
+     */
+    public ResourceVector snapshot() {
+        return this;
+    }
+
+    /**
+     * @return a mutable copy of this vector
+     */
+    public MutableResourceVector toMutable() {
+        return new MutableResourceVector(amounts.clone());
+    }
+
+    /**
+     * @return a new map with an entry for every resource, as used by the network messages
+     */
+    public HashMap<Resource, Integer> toMap() {
+        HashMap<Resource, Integer> map = new HashMap<>();
+        for (Resource resource : resources)
+            map.put(resource, amounts[resource.ordinal()]);
+        return map;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ResourceVector)) return false;
+        return Arrays.equals(amounts, ((ResourceVector) o).amounts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(amounts);
+    }
+
+    @Override
+    public String toString() {
+        return toMap().toString();
+    }
+}
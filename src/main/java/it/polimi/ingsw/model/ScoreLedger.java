@@ -0,0 +1,58 @@
+package it.polimi.ingsw.model;
+
+/**
+ * Running totals of the victory points of a player, kept up to date by the model as the game goes on, so that
+ * scores can be read at any time without walking the player's board.
+ * <p>
+ *     FaithTrail updates the points of the faith cell reached and of the pope's favor tiles, PlayerBoard adds the
+ *     points of every development card it places.
+ * </p>
+ */
+public class ScoreLedger {
+
+    private int faithPoints;
+    private int tilePoints;
+    private int cardPoints;
+
+    /**
+     * @return victory points of the faith cell the player is on
+     */
+    public int getFaithPoints() {
+        return faithPoints;
+    }
+
+    /**
+     * @return victory points of the pope's favor tiles the player has reached
+     */
+    public int getTilePoints() {
+        return tilePoints;
+    }
+
+    /**
+     * @return victory points of the development cards of the player
+     */
+    public int getCardPoints() {
+        return cardPoints;
+    }
+
+    /**
+     * @param faithPoints victory points of the faith cell the player has reached
+     */
+    public void setFaithPoints(int faithPoints) {
+        this.faithPoints = faithPoints;
+    }
+
+    /**
+     * @param tilePoints victory points of the pope's favor tiles of the player
+     */
+    public void setTilePoints(int tilePoints) {
+        this.tilePoints = tilePoints;
+    }
+
+    /**
+     * @param victoryPoints victory points of a development card just placed on the board
+     */
+    void addCardPoints(int victoryPoints) {
+        cardPoints += victoryPoints;
+    }
+}
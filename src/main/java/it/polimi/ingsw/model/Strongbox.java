@@ -7,12 +7,12 @@ import java.util.HashMap;
 
 public class Strongbox implements Serializable {
 
-    protected final HashMap<Resource, Integer> content;
+    protected final MutableResourceVector content;
 
     /* METHODS */
 
     /**
-     * Initialize content to the following HashMap:
+     * Initialize content to the following amounts:
      *
      * Coins : 0
      * Stones : 0
@@ -22,21 +22,31 @@ public class Strongbox implements Serializable {
 
     public Strongbox() {
 
-        content = new HashMap<>();
-
-        content.put(Resource.Coins, 0);
-        content.put(Resource.Stones, 0);
-        content.put(Resource.Servants, 0);
-        content.put(Resource.Shields, 0);
+        content = new MutableResourceVector();
     }
 
     /**
      * Getter method for content
-     * @return this.content
+     * @return a new map with the amount of every resource
      */
 
     public HashMap<Resource, Integer> getContent() {
-        return new HashMap<>(content);
+        return content.toMap();
+    }
+
+    /**
+     * Getter method for content, without boxing
+     * @return an immutable copy of content
+     */
+    public ResourceVector getResources() {
+        return content.snapshot();
+    }
+
+    /**
+     * @return number of resources held
+     */
+    public int getTotal() {
+        return content.total();
     }
 
     /* Class methods */
@@ -51,13 +61,29 @@ public class Strongbox implements Serializable {
         return content.get(resourceToBeChecked) >= amount;
     }
 
+    /**
+     * @param resource whose amount we want to know
+     * @return amount of resource held
+     */
+    int getAmount(Resource resource) {
+        return content.get(resource);
+    }
+
+    /**
+     * Adds the content of this storage to total
+     * @param total vector accumulating the resources of many storages
+     */
+    void addContentTo(MutableResourceVector total) {
+        total.add(content);
+    }
+
     /**
      * Must be called after hasResource(resourceToBeUsed, amount) returns true
      * @param resourceToBeUsed resource the player wants to consume from the storage
      * @param amount amount of resourceToBeUsed the player wants to consume
      */
     void useResource(Resource resourceToBeUsed, int amount) {
-        content.put(resourceToBeUsed, content.get(resourceToBeUsed) - amount);
+        content.subtract(resourceToBeUsed, amount);
     }
 
     /**
@@ -66,10 +92,16 @@ public class Strongbox implements Serializable {
      * @return true, because Strongbox's content has no constraints
      */
     public boolean tryAdd(HashMap<Resource, Integer> resourcesToBeAdded) {
+        return tryAdd(ResourceVector.fromMap(resourcesToBeAdded));
+    }
 
-        for (Resource res : resourcesToBeAdded.keySet()) {
-            addResource(res, resourcesToBeAdded.get(res));
-        }
+    /**
+     * Method that adds resources to strongbox
+     * @param resourcesToBeAdded amounts to be added to content
+     * @return true, because Strongbox's content has no constraints
+     */
+    public boolean tryAdd(ResourceVector resourcesToBeAdded) {
+        content.add(resourcesToBeAdded);
         return true;
     }
 
@@ -79,7 +111,7 @@ public class Strongbox implements Serializable {
      * @param amount amount of resource to be added to content
      */
     protected void addResource(Resource resourceToBeAdded, int amount) {
-        content.put(resourceToBeAdded, content.get(resourceToBeAdded) + amount);
+        content.add(resourceToBeAdded, amount);
     }
 
 }
@@ -10,21 +10,24 @@ import java.util.HashMap;
 
 /**
  * This class represents all development cards within the game.
- * The card-specific data is store in the private enum {@code CardDevelopmentInfo}
+ * The card-specific data is shared by every copy of the card and is stored in {@link CardDevelopmentCatalog},
+ * a card only holds the discount applied to its costs.
  */
 public class CardDevelopment implements Serializable {
 
     // Development card state
 
-    private final CardDevelopmentType cardType;
-    private final CardDevelopmentLevel cardLevel;
-    private final Integer victoryPoints;
+    private final CardDevelopmentCatalog information;
 
-    private final HashMap<Resource, Integer> cardCosts;
-    private final HashMap<Resource, Integer> productionInput;
-    private final HashMap<Resource, Integer> productionOutput;
+    /**
+     * Amount subtracted from the catalog costs, ZERO until a discount is applied
+     */
+    private ResourceVector discount;
 
-    private final Integer numberOfRedResourceProduced;
+    /**
+     * True for the copies shared by the snapshots of the market, see readOnlyCopy
+     */
+    private transient boolean readOnly;
 
     /* Constructor(s) */
 
@@ -35,15 +38,7 @@ public class CardDevelopment implements Serializable {
      * @param index number of the card that has to be created within the market stack, must be : index >= 0 && index <= 3
      */
     public CardDevelopment(int row, int column, int index) {
-        CardDevelopmentInfo information = CardDevelopmentInfo.values()[16 * row + 4 * column + index];
-
-        this.cardType = information.cardType;
-        this.cardLevel = information.cardLevel;
-        this.victoryPoints = information.victoryPoints;
-        this.cardCosts = information.cardCosts;
-        this.productionInput = information.productionInput;
-        this.productionOutput = information.productionOutput;
-        this.numberOfRedResourceProduced = information.numberOfRedResourceProduced;
+        this(CardDevelopmentCatalog.get(row, column, index), ResourceVector.ZERO);
     }
 
     /**
@@ -51,14 +46,35 @@ public class CardDevelopment implements Serializable {
      * @param cardToBeCloned card to be cloned
      */
     public CardDevelopment(CardDevelopment cardToBeCloned) {
+        this(cardToBeCloned.information, cardToBeCloned.discount);
+    }
 
-        cardType = cardToBeCloned.cardType;
-        cardLevel = cardToBeCloned.cardLevel;
-        victoryPoints = cardToBeCloned.victoryPoints;
-        cardCosts = new HashMap<>(cardToBeCloned.cardCosts);
-        productionInput = new HashMap<>(cardToBeCloned.productionInput);
-        productionOutput = new HashMap<>(cardToBeCloned.productionOutput);
-        numberOfRedResourceProduced = cardToBeCloned.numberOfRedResourceProduced;
+
+    /**
+     * Constructor used to rebuild a card received from the network
+     * @param catalogID identifier of the card, see getCatalogID
+     * @param discount amount subtracted from the catalog costs, see getDiscount
+     */
+    public CardDevelopment(int catalogID, ResourceVector discount) {
+        this(CardDevelopmentCatalog.get(catalogID), discount);
+    }
+
+    private CardDevelopment(CardDevelopmentCatalog information, ResourceVector discount) {
+        this.information = information;
+        // the vectors are immutable, so the discount can be shared with the card it was copied from
+        this.discount = discount;
+    }
+
+    /**
+     * Copy of a card that can be shared: applyDiscount throws UnsupportedOperationException.
+     * Copies made from it with the copy constructor, or received from the network, can be modified
+     * @param card card to be copied
+     * @return read only copy of card
+     */
+    public static CardDevelopment readOnlyCopy(CardDevelopment card) {
+        CardDevelopment copy = new CardDevelopment(card);
+        copy.readOnly = true;
+        return copy;
     }
 
 
@@ -66,39 +82,79 @@ public class CardDevelopment implements Serializable {
 
     // Getters
 
+    /**
+     * @return index of this card within the catalog of the 48 development cards
+     */
+    public int getCatalogID() {
+        return information.ordinal();
+    }
+
     public CardDevelopmentType getCardType() {
-        return cardType;
+        return information.getCardType();
     }
 
     public CardDevelopmentLevel getCardLevel() {
-        return cardLevel;
+        return information.getCardLevel();
     }
 
     public Integer getVictoryPoints() {
-        return victoryPoints;
+        return information.getVictoryPoints();
     }
 
     public HashMap<Resource, Integer> getCardCosts() {
-        return new HashMap<>(cardCosts);
+        return getCardCostsVector().toMap();
+    }
+
+    /**
+     * @return current costs of this card, without boxing
+     */
+    public ResourceVector getCardCostsVector() {
+        if (discount == ResourceVector.ZERO)
+            return information.getCardCosts();
+        return information.getCardCosts().minus(discount);
+    }
+
+    /**
+     * @return amount subtracted from the catalog costs of this card
+     */
+    public ResourceVector getDiscount() {
+        return discount;
     }
 
     public void applyDiscount(Resource res) {
 
-        if (cardCosts.get(res) > 0) {
-            cardCosts.put(res, cardCosts.get(res) - 1);
+        if (readOnly)
+            throw new UnsupportedOperationException("Read only copy of a card");
+
+        if (getCardCostsVector().get(res) > 0) {
+            discount = discount.plus(ResourceVector.of(res));
         }
     }
 
     public HashMap<Resource, Integer> getProductionInput() {
-        return new HashMap<>(productionInput);
+        return information.getProductionInput().toMap();
+    }
+
+    /**
+     * @return resources consumed by the production power of this card, without boxing
+     */
+    public ResourceVector getProductionInputVector() {
+        return information.getProductionInput();
     }
 
     public HashMap<Resource, Integer> getProductionOutput() {
-        return  new HashMap<>(productionOutput);
+        return information.getProductionOutput().toMap();
+    }
+
+    /**
+     * @return resources produced by the production power of this card, without boxing
+     */
+    public ResourceVector getProductionOutputVector() {
+        return information.getProductionOutput();
     }
 
     public Integer getNumberOfRedResourceProduced() {
-        return numberOfRedResourceProduced;
+        return information.getNumberOfRedResourceProduced();
     }
 
     // Class methods
@@ -109,32 +165,7 @@ public class CardDevelopment implements Serializable {
      * @return true if PlayerBoard holds enough resources, false otherwise.
      */
     public boolean canActivateProduction(PlayerBoard board) {
-
-        Strongbox strongbox = board.getStrongboxInstance();
-        Deposit deposit = board.getDepositInstance();
-        DepositLeaderCard depositLeaderCard = board.getDepositLeaderCardInstance();
-
-        //temp is initialized with the content of Strongbox, then it is added Deposit's content one resource at a time
-        HashMap<Resource, Integer> temp = new HashMap<>(strongbox.getContent());
-
-        for (Resource resource : Resource.values()) {
-            temp.put(resource, temp.get(resource) + deposit.getContent().get(resource));
-        }
-
-        //Add DepositLeaderCard content
-        if (depositLeaderCard.getContent().size() > 0) {
-
-            for (Resource res : depositLeaderCard.getContent().keySet()) {
-                temp.put(res, temp.get(res) + depositLeaderCard.getContent().get(res));
-            }
-        }
-
-        // Check if card can be activated
-        for (Resource resource : Resource.values()) {
-            if (getProductionInput().get(resource) > temp.get(resource)) return false;
-        }
-
-        return true;
+        return board.getAvailableResources().covers(information.getProductionInput());
     }
 
     /**
@@ -151,18 +182,14 @@ public class CardDevelopment implements Serializable {
 
         Strongbox strongbox = board.getStrongboxInstance();
 
-        // Local variables to make methods less verbose
-        HashMap<Resource, Integer> prodInput = getProductionInput();
-        HashMap<Resource, Integer> prodOutput = getProductionOutput();
-
         // Pay production input
-        board.consumeResources(prodInput);
+        board.consumeResources(information.getProductionInput());
 
         // Insert outputs in strongbox
-        strongbox.tryAdd(prodOutput);
+        strongbox.tryAdd(information.getProductionOutput());
 
         // Move pawn on faith trail for the amount of red resources produced by this card
-        board.moveFaith(this.numberOfRedResourceProduced);
+        board.moveFaith(information.getNumberOfRedResourceProduced());
     }
 
     /**
@@ -180,438 +207,4 @@ public class CardDevelopment implements Serializable {
         }
 
     }
-
-    /**
-     * Private enum that holds the information on all CardDevelopment present in the game.
-     */
-    private enum CardDevelopmentInfo {
-
-        // TYPE, LEVEL, VICTORY POINTS, COST, INPUT, OUTPUT, REDS PRODUCED
-
-        /* LEVEL 1 */
-
-        CARD1(CardDevelopmentType.Green,
-                CardDevelopmentLevel.One,
-                1,
-                CardDevelopmentInfo.toHashMap("SHIELD:2"),
-                CardDevelopmentInfo.toHashMap("COIN:1"),
-                CardDevelopmentInfo.toHashMap(""),
-                1),
-        CARD2(CardDevelopmentType.Green,
-                CardDevelopmentLevel.One,
-                2,
-                CardDevelopmentInfo.toHashMap("SHIELD:1,SERVANT:1,STONE:1"),
-                CardDevelopmentInfo.toHashMap("STONE:1"),
-                CardDevelopmentInfo.toHashMap("SERVANT:1"),
-                0),
-        CARD3(CardDevelopmentType.Green,
-                CardDevelopmentLevel.One,
-                3, CardDevelopmentInfo.toHashMap("SHIELD:3"),
-                CardDevelopmentInfo.toHashMap("SERVANT:2"),
-                CardDevelopmentInfo.toHashMap("SHIELD:1,STONE:1,COIN:1"),
-                0),
-        CARD4(CardDevelopmentType.Green,
-                CardDevelopmentLevel.One,
-                4,
-                CardDevelopmentInfo.toHashMap("SHIELD:2,COIN:2"),
-                CardDevelopmentInfo.toHashMap("SERVANT:1,STONE:1"),
-                CardDevelopmentInfo.toHashMap("COIN:2"),
-                1),
-
-        CARD5(CardDevelopmentType.Yellow,
-                CardDevelopmentLevel.One,
-                1,
-                CardDevelopmentInfo.toHashMap("STONE:2"),
-                CardDevelopmentInfo.toHashMap("SERVANT:1"),
-                CardDevelopmentInfo.toHashMap(""),
-                1),
-        CARD6(CardDevelopmentType.Yellow,
-                CardDevelopmentLevel.One,
-                2,
-                CardDevelopmentInfo.toHashMap("SHIELD:1,STONE:1,COIN:1"),
-                CardDevelopmentInfo.toHashMap("SHIELD:1"),
-                CardDevelopmentInfo.toHashMap("COIN:1"),
-                0),
-        CARD7(CardDevelopmentType.Yellow,
-                CardDevelopmentLevel.One,
-                3,
-                CardDevelopmentInfo.toHashMap("STONE:3"),
-                CardDevelopmentInfo.toHashMap("SHIELD:2"),
-                CardDevelopmentInfo.toHashMap("SERVANT:1,STONE:1,COIN:1"),
-                0),
-        CARD8(CardDevelopmentType.Yellow,
-                CardDevelopmentLevel.One,
-                4,
-                CardDevelopmentInfo.toHashMap("SHIELD:2,STONE:2"),
-                CardDevelopmentInfo.toHashMap("SERVANT:1,COIN:1"),
-                CardDevelopmentInfo.toHashMap("SHIELD:2"),
-                1),
-
-        CARD9(CardDevelopmentType.Purple,
-                CardDevelopmentLevel.One,
-                1,
-                CardDevelopmentInfo.toHashMap("SERVANT:2"),
-                CardDevelopmentInfo.toHashMap("STONE:1"),
-                CardDevelopmentInfo.toHashMap(""),
-                1),
-        CARD10(CardDevelopmentType.Purple,
-                CardDevelopmentLevel.One,
-                2,
-                CardDevelopmentInfo.toHashMap("SHIELD:1,SERVANT:1,COIN:1"),
-                CardDevelopmentInfo.toHashMap("COIN:1"),
-                CardDevelopmentInfo.toHashMap("SHIELD:1"),
-                0),
-        CARD11(CardDevelopmentType.Purple,
-                CardDevelopmentLevel.One,
-                3,
-                CardDevelopmentInfo.toHashMap("SERVANT:3"),
-                CardDevelopmentInfo.toHashMap("COIN:2"),
-                CardDevelopmentInfo.toHashMap("SHIELD:1,SERVANT:1,STONE:1"),
-                0),
-        CARD12(CardDevelopmentType.Purple,
-                CardDevelopmentLevel.One,
-                4,
-                CardDevelopmentInfo.toHashMap("SERVANT:2,STONE:2"),
-                CardDevelopmentInfo.toHashMap("SHIELD:1,COIN:1"),
-                CardDevelopmentInfo.toHashMap("STONE:2"),
-                1),
-
-        CARD13(CardDevelopmentType.Blue,
-                CardDevelopmentLevel.One,
-                1,
-                CardDevelopmentInfo.toHashMap("COIN:2"),
-                CardDevelopmentInfo.toHashMap("SHIELD:1"),
-                CardDevelopmentInfo.toHashMap(""),
-                1),
-        CARD14(CardDevelopmentType.Blue,
-                CardDevelopmentLevel.One,
-                2,
-                CardDevelopmentInfo.toHashMap("SERVANT:1,STONE:1,COIN:1"),
-                CardDevelopmentInfo.toHashMap("SERVANT:1"),
-                CardDevelopmentInfo.toHashMap("STONE:1"),
-                0),
-        CARD15(CardDevelopmentType.Blue,
-                CardDevelopmentLevel.One,
-                3,
-                CardDevelopmentInfo.toHashMap("COIN:3"),
-                CardDevelopmentInfo.toHashMap("STONE:2"),
-                CardDevelopmentInfo.toHashMap("SHIELD:1,SERVANT:1,COIN:1"),
-                0),
-        CARD16(CardDevelopmentType.Blue,
-                CardDevelopmentLevel.One,
-                4,
-                CardDevelopmentInfo.toHashMap("SERVANT:2,COIN:2"),
-                CardDevelopmentInfo.toHashMap("SHIELD:1,STONE:1"),
-                CardDevelopmentInfo.toHashMap("SERVANT:2"),
-                1),
-
-        /* LEVEL 2 */
-
-        CARD17(CardDevelopmentType.Green,
-                CardDevelopmentLevel.Two,
-                5,
-                CardDevelopmentInfo.toHashMap("SHIELD:4"),
-                CardDevelopmentInfo.toHashMap("STONE:1"),
-                CardDevelopmentInfo.toHashMap(""),
-                2),
-        CARD18(CardDevelopmentType.Green,
-                CardDevelopmentLevel.Two,
-                6,
-                CardDevelopmentInfo.toHashMap("SHIELD:3,SERVANT:2"),
-                CardDevelopmentInfo.toHashMap("SHIELD:1,SERVANT:1"),
-                CardDevelopmentInfo.toHashMap("STONE:3"),
-                0),
-        CARD19(CardDevelopmentType.Green,
-                CardDevelopmentLevel.Two,
-                7,
-                CardDevelopmentInfo.toHashMap("SHIELD:5"),
-                CardDevelopmentInfo.toHashMap("COIN:2"),
-                CardDevelopmentInfo.toHashMap("STONE:2"),
-                2),
-        CARD20(CardDevelopmentType.Green,
-                CardDevelopmentLevel.Two,
-                8,
-                CardDevelopmentInfo.toHashMap("SHIELD:3,COIN:3"),
-                CardDevelopmentInfo.toHashMap("COIN:1"),
-                CardDevelopmentInfo.toHashMap("SHIELD:2"),
-                1),
-
-        CARD21(CardDevelopmentType.Yellow,
-                CardDevelopmentLevel.Two,
-                5,
-                CardDevelopmentInfo.toHashMap("STONE:4"),
-                CardDevelopmentInfo.toHashMap("SHIELD:1"),
-                CardDevelopmentInfo.toHashMap(""),
-                2),
-        CARD22(CardDevelopmentType.Yellow,
-                CardDevelopmentLevel.Two,
-                6,
-                CardDevelopmentInfo.toHashMap("SHIELD:2,STONE:3"),
-                CardDevelopmentInfo.toHashMap("SHIELD:1,STONE:1"),
-                CardDevelopmentInfo.toHashMap("COIN:3"),
-                0),
-        CARD23(CardDevelopmentType.Yellow,
-                CardDevelopmentLevel.Two,
-                7,
-                CardDevelopmentInfo.toHashMap("STONE:5"),
-                CardDevelopmentInfo.toHashMap("SHIELD:2"),
-                CardDevelopmentInfo.toHashMap("SERVANT:2"),
-                2),
-        CARD24(CardDevelopmentType.Yellow,
-                CardDevelopmentLevel.Two,
-                8,
-                CardDevelopmentInfo.toHashMap("SERVANT:3,STONE:3"),
-                CardDevelopmentInfo.toHashMap("SHIELD:1"),
-                CardDevelopmentInfo.toHashMap("COIN:2"),
-                1),
-
-        CARD25(CardDevelopmentType.Purple,
-                CardDevelopmentLevel.Two,
-                5,
-                CardDevelopmentInfo.toHashMap("SERVANT:4"),
-                CardDevelopmentInfo.toHashMap("COIN:1"),
-                CardDevelopmentInfo.toHashMap(""),
-                2),
-        CARD26(CardDevelopmentType.Purple,
-                CardDevelopmentLevel.Two,
-                6,
-                CardDevelopmentInfo.toHashMap("SERVANT:3,COIN:2"),
-                CardDevelopmentInfo.toHashMap("SERVANT:1,COIN:1"),
-                CardDevelopmentInfo.toHashMap("SHIELD:3"),
-                0),
-        CARD27(CardDevelopmentType.Purple,
-                CardDevelopmentLevel.Two,
-                7,
-                CardDevelopmentInfo.toHashMap("SERVANT:5"),
-                CardDevelopmentInfo.toHashMap("STONE:2"),
-                CardDevelopmentInfo.toHashMap("COIN:2"),
-                2),
-        CARD28(CardDevelopmentType.Purple,
-                CardDevelopmentLevel.Two,
-                8,
-                CardDevelopmentInfo.toHashMap("SHIELD:3,SERVANT:3"),
-                CardDevelopmentInfo.toHashMap("STONE:1"),
-                CardDevelopmentInfo.toHashMap("SERVANT:2"),
-                1),
-
-        CARD29(CardDevelopmentType.Blue,
-                CardDevelopmentLevel.Two,
-                5,
-                CardDevelopmentInfo.toHashMap("COIN:4"),
-                CardDevelopmentInfo.toHashMap("SERVANT:1"),
-                CardDevelopmentInfo.toHashMap(""),
-                2),
-        CARD30(CardDevelopmentType.Blue,
-                CardDevelopmentLevel.Two,
-                6,
-                CardDevelopmentInfo.toHashMap("STONE:2,COIN:3"),
-                CardDevelopmentInfo.toHashMap("STONE:1,COIN:1"),
-                CardDevelopmentInfo.toHashMap("SERVANT:3"),
-                0),
-        CARD31(CardDevelopmentType.Blue,
-                CardDevelopmentLevel.Two,
-                7,
-                CardDevelopmentInfo.toHashMap("COIN:5"),
-                CardDevelopmentInfo.toHashMap("SERVANT:2"),
-                CardDevelopmentInfo.toHashMap("SHIELD:2"),
-                2),
-        CARD32(CardDevelopmentType.Blue,
-                CardDevelopmentLevel.Two,
-                8,
-                CardDevelopmentInfo.toHashMap("STONE:3,COIN:3"),
-                CardDevelopmentInfo.toHashMap("SERVANT:1"),
-                CardDevelopmentInfo.toHashMap("STONE:2"),
-                1),
-
-        /* LEVEL 3 */
-
-        CARD33(CardDevelopmentType.Green,
-                CardDevelopmentLevel.Three,
-                9,
-                CardDevelopmentInfo.toHashMap("SHIELD:6"),
-                CardDevelopmentInfo.toHashMap("COIN:2"),
-                CardDevelopmentInfo.toHashMap("STONE:3"),
-                2),
-        CARD34(CardDevelopmentType.Green,
-                CardDevelopmentLevel.Three,
-                10,
-                CardDevelopmentInfo.toHashMap("SHIELD:5,SERVANT:2"),
-                CardDevelopmentInfo.toHashMap("SERVANT:1,COIN:1"),
-                CardDevelopmentInfo.toHashMap("SHIELD:2,STONE:2"),
-                1),
-        CARD35(CardDevelopmentType.Green,
-                CardDevelopmentLevel.Three,
-                11,
-                CardDevelopmentInfo.toHashMap("SHIELD:7"),
-                CardDevelopmentInfo.toHashMap("SERVANT:1"),
-                CardDevelopmentInfo.toHashMap("COIN:1"),
-                3),
-        CARD36(CardDevelopmentType.Green,
-                CardDevelopmentLevel.Three,
-                12,
-                CardDevelopmentInfo.toHashMap("SHIELD:4,COIN:4"),
-                CardDevelopmentInfo.toHashMap("STONE:1"),
-                CardDevelopmentInfo.toHashMap("SHIELD:1,COIN:3"),
-                0),
-
-        CARD37(CardDevelopmentType.Yellow,
-                CardDevelopmentLevel.Three,
-                9,
-                CardDevelopmentInfo.toHashMap("STONE:6"),
-                CardDevelopmentInfo.toHashMap("SHIELD:2"),
-                CardDevelopmentInfo.toHashMap("SERVANT:3"),
-                2),
-        CARD38(CardDevelopmentType.Yellow,
-                CardDevelopmentLevel.Three,
-                10,
-                CardDevelopmentInfo.toHashMap("SERVANT:2,STONE:5"),
-                CardDevelopmentInfo.toHashMap("SERVANT:1,STONE:1"),
-                CardDevelopmentInfo.toHashMap("SHIELD:2,COIN:2"),
-                1),
-        CARD39(CardDevelopmentType.Yellow,
-                CardDevelopmentLevel.Three,
-                11,
-                CardDevelopmentInfo.toHashMap("STONE:7"),
-                CardDevelopmentInfo.toHashMap("SHIELD:1"),
-                CardDevelopmentInfo.toHashMap("SERVANT:1"),
-                3),
-        CARD40(CardDevelopmentType.Yellow,
-                CardDevelopmentLevel.Three,
-                12,
-                CardDevelopmentInfo.toHashMap("SERVANT:4,STONE:4"),
-                CardDevelopmentInfo.toHashMap("SHIELD:1"),
-                CardDevelopmentInfo.toHashMap("SERVANT:3,STONE:1"),
-                0),
-
-        CARD41(CardDevelopmentType.Purple,
-                CardDevelopmentLevel.Three,
-                9,
-                CardDevelopmentInfo.toHashMap("SERVANT:6"),
-                CardDevelopmentInfo.toHashMap("STONE:2"),
-                CardDevelopmentInfo.toHashMap("COIN:3"),
-                2),
-        CARD42(CardDevelopmentType.Purple,
-                CardDevelopmentLevel.Three,
-                10,
-                CardDevelopmentInfo.toHashMap("SERVANT:5,COIN:2"),
-                CardDevelopmentInfo.toHashMap("SHIELD:1,STONE:1"),
-                CardDevelopmentInfo.toHashMap("SERVANT:2,COIN:2"),
-                1),
-        CARD43(CardDevelopmentType.Purple,
-                CardDevelopmentLevel.Three,
-                11,
-                CardDevelopmentInfo.toHashMap("SERVANT:7"),
-                CardDevelopmentInfo.toHashMap("COIN:1"),
-                CardDevelopmentInfo.toHashMap("STONE:1"),
-                3),
-        CARD44(CardDevelopmentType.Purple,
-                CardDevelopmentLevel.Three,
-                12,
-                CardDevelopmentInfo.toHashMap("SHIELD:4,SERVANT:4,"),
-                CardDevelopmentInfo.toHashMap("COIN:1"),
-                CardDevelopmentInfo.toHashMap("SERVANT:1,STONE:3"),
-                0),
-
-        CARD45(CardDevelopmentType.Blue,
-                CardDevelopmentLevel.Three,
-                9,
-                CardDevelopmentInfo.toHashMap("COIN:6"),
-                CardDevelopmentInfo.toHashMap("SERVANT:2"),
-                CardDevelopmentInfo.toHashMap("SHIELD:3"),
-                2),
-        CARD46(CardDevelopmentType.Blue,
-                CardDevelopmentLevel.Three,
-                10,
-                CardDevelopmentInfo.toHashMap("STONE:2,COIN:5"),
-                CardDevelopmentInfo.toHashMap("SHIELD:1,COIN:1"),
-                CardDevelopmentInfo.toHashMap("SERVANT:2,STONE:2"),
-                1),
-        CARD47(CardDevelopmentType.Blue,
-                CardDevelopmentLevel.Three,
-                11,
-                CardDevelopmentInfo.toHashMap("COIN:7"),
-                CardDevelopmentInfo.toHashMap("STONE:1"),
-                CardDevelopmentInfo.toHashMap("SHIELD:1"),
-                3),
-        CARD48(CardDevelopmentType.Blue,
-                CardDevelopmentLevel.Three,
-                12,
-                CardDevelopmentInfo.toHashMap("STONE:4,COIN:4"),
-                CardDevelopmentInfo.toHashMap("SERVANT:1"),
-                CardDevelopmentInfo.toHashMap("SHIELD:3,COIN:1"),
-                0);
-
-        final CardDevelopmentType cardType;
-        final CardDevelopmentLevel cardLevel;
-        final Integer victoryPoints;
-        final HashMap<Resource, Integer> cardCosts;
-        final HashMap<Resource, Integer> productionInput;
-        final HashMap<Resource, Integer> productionOutput;
-        final Integer numberOfRedResourceProduced;
-
-        CardDevelopmentInfo(CardDevelopmentType _cardType,
-                CardDevelopmentLevel _cardLevel,
-                Integer _victoryPoints,
-                HashMap<Resource, Integer> _cardCosts,
-                HashMap<Resource, Integer> _productionInput,
-                HashMap<Resource, Integer> _productionOutput,
-                Integer _numberOfRedResourceProduced
-        ) {
-            this.cardType = _cardType;
-            this.cardLevel = _cardLevel;
-            this.victoryPoints = _victoryPoints;
-            this.cardCosts = _cardCosts;
-            this.productionInput = _productionInput;
-            this.productionOutput = _productionOutput;
-            this.numberOfRedResourceProduced = _numberOfRedResourceProduced;
-
-        }
-
-
-
-
-        /**
-         * Converts a string of Resources and their amount to a HashMap<Resource, Integer>
-         * @param str
-         * @return
-         */
-        private static HashMap<Resource, Integer> toHashMap(String str) {
-
-            HashMap<Resource, Integer> outputMap = new HashMap<>();
-            for (Resource res : Resource.values()) {
-                outputMap.put(res, 0);
-            }
-
-            if (str.length() == 0) { return outputMap; }
-
-            String[] elems = str.split(",");
-
-            for (String elem : elems) {
-                String[] keyValue = elem.split(":");
-                outputMap.put(toResource(keyValue[0]), Integer.valueOf(keyValue[1]));
-            }
-
-            return outputMap;
-        }
-
-
-        /**
-         * Converts a string in all caps to its corresponding Resource
-         * @param str
-         * @return
-         */
-        private static Resource toResource(String str) {
-
-            return switch (str) {
-                case "COIN" -> Resource.Coins;
-                case "STONE" -> Resource.Stones;
-                case "SERVANT" -> Resource.Servants;
-                case "SHIELD" -> Resource.Shields;
-                default ->
-
-                        //This return should never be reached!
-                        null;
-            };
-        }
-    }
-}
\ No newline at end of file
+}
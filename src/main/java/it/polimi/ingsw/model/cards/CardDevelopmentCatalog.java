@@ -0,0 +1,485 @@
+package it.polimi.ingsw.model.cards;
+
+import it.polimi.ingsw.model.MutableResourceVector;
+import it.polimi.ingsw.model.ResourceVector;
+import it.polimi.ingsw.model.enums.CardDevelopmentLevel;
+import it.polimi.ingsw.model.enums.CardDevelopmentType;
+import it.polimi.ingsw.model.enums.Resource;
+
+/**
+ * Immutable catalog of the 48 development cards, shared by every game.
+ * The ordinal of a constant is the catalog ID of the card, see CardDevelopment.getCatalogID
+ */
+public enum CardDevelopmentCatalog {
+
+    // TYPE, LEVEL, VICTORY POINTS, COST, INPUT, OUTPUT, REDS PRODUCED
+
+    /* LEVEL 1 */
+
+    CARD1(CardDevelopmentType.Green,
+            CardDevelopmentLevel.One,
+            1,
+            toVector("SHIELD:2"),
+            toVector("COIN:1"),
+            toVector(""),
+            1),
+    CARD2(CardDevelopmentType.Green,
+            CardDevelopmentLevel.One,
+            2,
+            toVector("SHIELD:1,SERVANT:1,STONE:1"),
+            toVector("STONE:1"),
+            toVector("SERVANT:1"),
+            0),
+    CARD3(CardDevelopmentType.Green,
+            CardDevelopmentLevel.One,
+            3, toVector("SHIELD:3"),
+            toVector("SERVANT:2"),
+            toVector("SHIELD:1,STONE:1,COIN:1"),
+            0),
+    CARD4(CardDevelopmentType.Green,
+            CardDevelopmentLevel.One,
+            4,
+            toVector("SHIELD:2,COIN:2"),
+            toVector("SERVANT:1,STONE:1"),
+            toVector("COIN:2"),
+            1),
+
+    CARD5(CardDevelopmentType.Yellow,
+            CardDevelopmentLevel.One,
+            1,
+            toVector("STONE:2"),
+            toVector("SERVANT:1"),
+            toVector(""),
+            1),
+    CARD6(CardDevelopmentType.Yellow,
+            CardDevelopmentLevel.One,
+            2,
+            toVector("SHIELD:1,STONE:1,COIN:1"),
+            toVector("SHIELD:1"),
+            toVector("COIN:1"),
+            0),
+    CARD7(CardDevelopmentType.Yellow,
+            CardDevelopmentLevel.One,
+            3,
+            toVector("STONE:3"),
+            toVector("SHIELD:2"),
+            toVector("SERVANT:1,STONE:1,COIN:1"),
+            0),
+    CARD8(CardDevelopmentType.Yellow,
+            CardDevelopmentLevel.One,
+            4,
+            toVector("SHIELD:2,STONE:2"),
+            toVector("SERVANT:1,COIN:1"),
+            toVector("SHIELD:2"),
+            1),
+
+    CARD9(CardDevelopmentType.Purple,
+            CardDevelopmentLevel.One,
+            1,
+            toVector("SERVANT:2"),
+            toVector("STONE:1"),
+            toVector(""),
+            1),
+    CARD10(CardDevelopmentType.Purple,
+            CardDevelopmentLevel.One,
+            2,
+            toVector("SHIELD:1,SERVANT:1,COIN:1"),
+            toVector("COIN:1"),
+            toVector("SHIELD:1"),
+            0),
+    CARD11(CardDevelopmentType.Purple,
+            CardDevelopmentLevel.One,
+            3,
+            toVector("SERVANT:3"),
+            toVector("COIN:2"),
+            toVector("SHIELD:1,SERVANT:1,STONE:1"),
+            0),
+    CARD12(CardDevelopmentType.Purple,
+            CardDevelopmentLevel.One,
+            4,
+            toVector("SERVANT:2,STONE:2"),
+            toVector("SHIELD:1,COIN:1"),
+            toVector("STONE:2"),
+            1),
+
+    CARD13(CardDevelopmentType.Blue,
+            CardDevelopmentLevel.One,
+            1,
+            toVector("COIN:2"),
+            toVector("SHIELD:1"),
+            toVector(""),
+            1),
+    CARD14(CardDevelopmentType.Blue,
+            CardDevelopmentLevel.One,
+            2,
+            toVector("SERVANT:1,STONE:1,COIN:1"),
+            toVector("SERVANT:1"),
+            toVector("STONE:1"),
+            0),
+    CARD15(CardDevelopmentType.Blue,
+            CardDevelopmentLevel.One,
+            3,
+            toVector("COIN:3"),
+            toVector("STONE:2"),
+            toVector("SHIELD:1,SERVANT:1,COIN:1"),
+            0),
+    CARD16(CardDevelopmentType.Blue,
+            CardDevelopmentLevel.One,
+            4,
+            toVector("SERVANT:2,COIN:2"),
+            toVector("SHIELD:1,STONE:1"),
+            toVector("SERVANT:2"),
+            1),
+
+    /* LEVEL 2 */
+
+    CARD17(CardDevelopmentType.Green,
+            CardDevelopmentLevel.Two,
+            5,
+            toVector("SHIELD:4"),
+            toVector("STONE:1"),
+            toVector(""),
+            2),
+    CARD18(CardDevelopmentType.Green,
+            CardDevelopmentLevel.Two,
+            6,
+            toVector("SHIELD:3,SERVANT:2"),
+            toVector("SHIELD:1,SERVANT:1"),
+            toVector("STONE:3"),
+            0),
+    CARD19(CardDevelopmentType.Green,
+            CardDevelopmentLevel.Two,
+            7,
+            toVector("SHIELD:5"),
+            toVector("COIN:2"),
+            toVector("STONE:2"),
+            2),
+    CARD20(CardDevelopmentType.Green,
+            CardDevelopmentLevel.Two,
+            8,
+            toVector("SHIELD:3,COIN:3"),
+            toVector("COIN:1"),
+            toVector("SHIELD:2"),
+            1),
+
+    CARD21(CardDevelopmentType.Yellow,
+            CardDevelopmentLevel.Two,
+            5,
+            toVector("STONE:4"),
+            toVector("SHIELD:1"),
+            toVector(""),
+            2),
+    CARD22(CardDevelopmentType.Yellow,
+            CardDevelopmentLevel.Two,
+            6,
+            toVector("SHIELD:2,STONE:3"),
+            toVector("SHIELD:1,STONE:1"),
+            toVector("COIN:3"),
+            0),
+    CARD23(CardDevelopmentType.Yellow,
+            CardDevelopmentLevel.Two,
+            7,
+            toVector("STONE:5"),
+            toVector("SHIELD:2"),
+            toVector("SERVANT:2"),
+            2),
+    CARD24(CardDevelopmentType.Yellow,
+            CardDevelopmentLevel.Two,
+            8,
+            toVector("SERVANT:3,STONE:3"),
+            toVector("SHIELD:1"),
+            toVector("COIN:2"),
+            1),
+
+    CARD25(CardDevelopmentType.Purple,
+            CardDevelopmentLevel.Two,
+            5,
+            toVector("SERVANT:4"),
+            toVector("COIN:1"),
+            toVector(""),
+            2),
+    CARD26(CardDevelopmentType.Purple,
+            CardDevelopmentLevel.Two,
+            6,
+            toVector("SERVANT:3,COIN:2"),
+            toVector("SERVANT:1,COIN:1"),
+            toVector("SHIELD:3"),
+            0),
+    CARD27(CardDevelopmentType.Purple,
+            CardDevelopmentLevel.Two,
+            7,
+            toVector("SERVANT:5"),
+            toVector("STONE:2"),
+            toVector("COIN:2"),
+            2),
+    CARD28(CardDevelopmentType.Purple,
+            CardDevelopmentLevel.Two,
+            8,
+            toVector("SHIELD:3,SERVANT:3"),
+            toVector("STONE:1"),
+            toVector("SERVANT:2"),
+            1),
+
+    CARD29(CardDevelopmentType.Blue,
+            CardDevelopmentLevel.Two,
+            5,
+            toVector("COIN:4"),
+            toVector("SERVANT:1"),
+            toVector(""),
+            2),
+    CARD30(CardDevelopmentType.Blue,
+            CardDevelopmentLevel.Two,
+            6,
+            toVector("STONE:2,COIN:3"),
+            toVector("STONE:1,COIN:1"),
+            toVector("SERVANT:3"),
+            0),
+    CARD31(CardDevelopmentType.Blue,
+            CardDevelopmentLevel.Two,
+            7,
+            toVector("COIN:5"),
+            toVector("SERVANT:2"),
+            toVector("SHIELD:2"),
+            2),
+    CARD32(CardDevelopmentType.Blue,
+            CardDevelopmentLevel.Two,
+            8,
+            toVector("STONE:3,COIN:3"),
+            toVector("SERVANT:1"),
+            toVector("STONE:2"),
+            1),
+
+    /* LEVEL 3 */
+
+    CARD33(CardDevelopmentType.Green,
+            CardDevelopmentLevel.Three,
+            9,
+            toVector("SHIELD:6"),
+            toVector("COIN:2"),
+            toVector("STONE:3"),
+            2),
+    CARD34(CardDevelopmentType.Green,
+            CardDevelopmentLevel.Three,
+            10,
+            toVector("SHIELD:5,SERVANT:2"),
+            toVector("SERVANT:1,COIN:1"),
+            toVector("SHIELD:2,STONE:2"),
+            1),
+    CARD35(CardDevelopmentType.Green,
+            CardDevelopmentLevel.Three,
+            11,
+            toVector("SHIELD:7"),
+            toVector("SERVANT:1"),
+            toVector("COIN:1"),
+            3),
+    CARD36(CardDevelopmentType.Green,
+            CardDevelopmentLevel.Three,
+            12,
+            toVector("SHIELD:4,COIN:4"),
+            toVector("STONE:1"),
+            toVector("SHIELD:1,COIN:3"),
+            0),
+
+    CARD37(CardDevelopmentType.Yellow,
+            CardDevelopmentLevel.Three,
+            9,
+            toVector("STONE:6"),
+            toVector("SHIELD:2"),
+            toVector("SERVANT:3"),
+            2),
+    CARD38(CardDevelopmentType.Yellow,
+            CardDevelopmentLevel.Three,
+            10,
+            toVector("SERVANT:2,STONE:5"),
+            toVector("SERVANT:1,STONE:1"),
+            toVector("SHIELD:2,COIN:2"),
+            1),
+    CARD39(CardDevelopmentType.Yellow,
+            CardDevelopmentLevel.Three,
+            11,
+            toVector("STONE:7"),
+            toVector("SHIELD:1"),
+            toVector("SERVANT:1"),
+            3),
+    CARD40(CardDevelopmentType.Yellow,
+            CardDevelopmentLevel.Three,
+            12,
+            toVector("SERVANT:4,STONE:4"),
+            toVector("SHIELD:1"),
+            toVector("SERVANT:3,STONE:1"),
+            0),
+
+    CARD41(CardDevelopmentType.Purple,
+            CardDevelopmentLevel.Three,
+            9,
+            toVector("SERVANT:6"),
+            toVector("STONE:2"),
+            toVector("COIN:3"),
+            2),
+    CARD42(CardDevelopmentType.Purple,
+            CardDevelopmentLevel.Three,
+            10,
+            toVector("SERVANT:5,COIN:2"),
+            toVector("SHIELD:1,STONE:1"),
+            toVector("SERVANT:2,COIN:2"),
+            1),
+    CARD43(CardDevelopmentType.Purple,
+            CardDevelopmentLevel.Three,
+            11,
+            toVector("SERVANT:7"),
+            toVector("COIN:1"),
+            toVector("STONE:1"),
+            3),
+    CARD44(CardDevelopmentType.Purple,
+            CardDevelopmentLevel.Three,
+            12,
+            toVector("SHIELD:4,SERVANT:4,"),
+            toVector("COIN:1"),
+            toVector("SERVANT:1,STONE:3"),
+            0),
+
+    CARD45(CardDevelopmentType.Blue,
+            CardDevelopmentLevel.Three,
+            9,
+            toVector("COIN:6"),
+            toVector("SERVANT:2"),
+            toVector("SHIELD:3"),
+            2),
+    CARD46(CardDevelopmentType.Blue,
+            CardDevelopmentLevel.Three,
+            10,
+            toVector("STONE:2,COIN:5"),
+            toVector("SHIELD:1,COIN:1"),
+            toVector("SERVANT:2,STONE:2"),
+            1),
+    CARD47(CardDevelopmentType.Blue,
+            CardDevelopmentLevel.Three,
+            11,
+            toVector("COIN:7"),
+            toVector("STONE:1"),
+            toVector("SHIELD:1"),
+            3),
+    CARD48(CardDevelopmentType.Blue,
+            CardDevelopmentLevel.Three,
+            12,
+            toVector("STONE:4,COIN:4"),
+            toVector("SERVANT:1"),
+            toVector("SHIELD:3,COIN:1"),
+            0);
+
+    private static final CardDevelopmentCatalog[] cards = values();
+
+    private final CardDevelopmentType cardType;
+    private final CardDevelopmentLevel cardLevel;
+    private final Integer victoryPoints;
+    private final ResourceVector cardCosts;
+    private final ResourceVector productionInput;
+    private final ResourceVector productionOutput;
+    private final Integer numberOfRedResourceProduced;
+
+    CardDevelopmentCatalog(CardDevelopmentType _cardType,
+            CardDevelopmentLevel _cardLevel,
+            Integer _victoryPoints,
+            ResourceVector _cardCosts,
+            ResourceVector _productionInput,
+            ResourceVector _productionOutput,
+            Integer _numberOfRedResourceProduced
+    ) {
+        this.cardType = _cardType;
+        this.cardLevel = _cardLevel;
+        this.victoryPoints = _victoryPoints;
+        this.cardCosts = _cardCosts;
+        this.productionInput = _productionInput;
+        this.productionOutput = _productionOutput;
+        this.numberOfRedResourceProduced = _numberOfRedResourceProduced;
+
+    }
+
+    /**
+     * @param catalogID identifier of the card
+     * @return the catalog entry of the card
+     * @throws ArrayIndexOutOfBoundsException if catalogID is not in [0, 47]
+     */
+    public static CardDevelopmentCatalog get(int catalogID) {
+        return cards[catalogID];
+    }
+
+    /**
+     * @param row index of the market row, must be : row >= 0 && row <= 2
+     * @param column index of the market column, must be : column >= 0 && column <= 3
+     * @param index number of the card within the market stack, must be : index >= 0 && index <= 3
+     * @return the catalog entry of the card
+     */
+    public static CardDevelopmentCatalog get(int row, int column, int index) {
+        return cards[16 * row + 4 * column + index];
+    }
+
+    public CardDevelopmentType getCardType() {
+        return cardType;
+    }
+
+    public CardDevelopmentLevel getCardLevel() {
+        return cardLevel;
+    }
+
+    public Integer getVictoryPoints() {
+        return victoryPoints;
+    }
+
+    public ResourceVector getCardCosts() {
+        return cardCosts;
+    }
+
+    public ResourceVector getProductionInput() {
+        return productionInput;
+    }
+
+    public ResourceVector getProductionOutput() {
+        return productionOutput;
+    }
+
+    public Integer getNumberOfRedResourceProduced() {
+        return numberOfRedResourceProduced;
+    }
+
+    /**
+     * Converts a string of Resources and their amount to a ResourceVector
+     * @param str
+     * @return
+     */
+    private static ResourceVector toVector(String str) {
+
+        MutableResourceVector output = new MutableResourceVector();
+
+        if (str.length() == 0) { return output.snapshot(); }
+
+        String[] elems = str.split(",");
+
+        for (String elem : elems) {
+            String[] keyValue = elem.split(":");
+            output.set(toResource(keyValue[0]), Integer.parseInt(keyValue[1]));
+        }
+
+        return output.snapshot();
+    }
+
+
+    /**
+     * Converts a string in all caps to its corresponding Resource
+     * @param str
+     * @return
+     */
+    private static Resource toResource(String str) {
+
+        return switch (str) {
+            case "COIN" -> Resource.Coins;
+            case "STONE" -> Resource.Stones;
+            case "SERVANT" -> Resource.Servants;
+            case "SHIELD" -> Resource.Shields;
+            default ->
+
+                    //This return should never be reached!
+                    null;
+        };
+    }
+}
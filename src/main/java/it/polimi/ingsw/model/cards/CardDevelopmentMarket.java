@@ -4,7 +4,9 @@ import it.polimi.ingsw.model.PlayerBoard;
 import it.polimi.ingsw.model.enums.CardDevelopmentType;
 import it.polimi.ingsw.model.enums.Resource;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Thi class represent the development card market
@@ -15,6 +17,17 @@ public class CardDevelopmentMarket {
     private final int NUMBER_OF_COLUMNS = 4;
     private final CardDevelopmentStack[][] market;
 
+    /**
+     * Incremented by every change to the market, tells whether topCards is still valid
+     */
+    private int version;
+
+    /**
+     * Cards on top of each stack at the version snapshotVersion, null until it is first requested
+     */
+    private List<List<CardDevelopment>> topCards;
+    private int snapshotVersion = -1;
+
     /**
      * Constructor.
      * Initializes all objects involved with CardDevelopmentMarket
@@ -50,12 +63,68 @@ public class CardDevelopmentMarket {
         return NUMBER_OF_ROWS;
     }
 
+    /**
+     * @return a deep copy of every stack of the market, use the queries below when only a few cards are needed
+     */
     public CardDevelopmentStack[][] getMarket() {
 
         CardDevelopmentMarket clone = new CardDevelopmentMarket(this);
         return clone.market;
     }
 
+    /**
+     * @return a number that changes every time the market changes
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * @param rowIndex Market row index, must be : rowIndex >= 0 && rowIndex <= 2
+     * @param colIndex Market column index, must be : colIndex >= 0 && colIndex <= 3
+     * @return the card that can be bought from the stack, not a copy. null if the stack is empty
+     */
+    public CardDevelopment topCard(int rowIndex, int colIndex) {
+        return market[rowIndex][colIndex].top();
+    }
+
+    /**
+     * @param rowIndex Market row index, must be : rowIndex >= 0 && rowIndex <= 2
+     * @param colIndex Market column index, must be : colIndex >= 0 && colIndex <= 3
+     * @return number of cards left in the stack
+     */
+    public int stackSize(int rowIndex, int colIndex) {
+        return market[rowIndex][colIndex].size();
+    }
+
+    /**
+     * Snapshot of the cards that can be bought, as sent to the clients.
+     * The same snapshot is returned until the market changes, so neither the matrix nor the cards can be modified.
+     * @return an unmodifiable matrix holding a read only copy of the card on top of each stack, null for empty stacks
+     */
+    public List<List<CardDevelopment>> getTopCards() {
+
+        if (snapshotVersion != version || topCards == null) {
+
+            ArrayList<List<CardDevelopment>> snapshot = new ArrayList<>(NUMBER_OF_ROWS);
+
+            for (int i = 0; i < NUMBER_OF_ROWS; i++) {
+
+                ArrayList<CardDevelopment> row = new ArrayList<>(NUMBER_OF_COLUMNS);
+                for (int j = 0; j < NUMBER_OF_COLUMNS; j++) {
+                    CardDevelopment top = market[i][j].top();
+                    row.add(top == null ? null : CardDevelopment.readOnlyCopy(top));
+                }
+                snapshot.add(Collections.unmodifiableList(row));
+            }
+
+            topCards = Collections.unmodifiableList(snapshot);
+            snapshotVersion = version;
+        }
+
+        return topCards;
+    }
+
     /**
      * Method to buy a card from the market. The method assumes PlayerBoard already holds enough resources to buy
      * the card
@@ -75,11 +144,10 @@ public class CardDevelopmentMarket {
 
         CardDevelopment desiredCard = market[rowIndex][colIndex].peek();
 
-        HashMap<Resource, Integer> cardCost = desiredCard.getCardCosts();
-
-        board.consumeResources(cardCost);
+        board.consumeResources(desiredCard.getCardCostsVector());
 
         // Card cost has now been paid, pop the card from the market and return it to caller
+        version++;
         return market[rowIndex][colIndex].pop();
     }
 
@@ -92,14 +160,16 @@ public class CardDevelopmentMarket {
         int columnIndex = typeToBeDiscarded.ordinal();
         int rowIndex = 0;
 
-        while (market[rowIndex][columnIndex].getCards().size() == 0) {
+        while (market[rowIndex][columnIndex].size() == 0) {
             rowIndex++;
 
             //No cards are present in this column!
             if (rowIndex == 3) return;
         }
 
-        if (market[rowIndex][columnIndex].getCards().size() > 1) {
+        version++;
+
+        if (market[rowIndex][columnIndex].size() > 1) {
             market[rowIndex][columnIndex].pop();
             market[rowIndex][columnIndex].pop();
         }
@@ -119,15 +189,21 @@ public class CardDevelopmentMarket {
 
     /**
      * Return true if the column type is empty
-     * @param columnType
-     * @return
+     * @param columnType type of the cards in the column
+     * @return true if every stack of the column is empty
      */
     public boolean isColumnEmpty(CardDevelopmentType columnType) {
+        return isColumnEmpty(columnType.ordinal());
+    }
 
-        int columnIndex = columnType.ordinal();
+    /**
+     * @param columnIndex Market column index, must be : colIndex >= 0 && colIndex <= 3
+     * @return true if every stack of the column is empty
+     */
+    public boolean isColumnEmpty(int columnIndex) {
 
         for (int rowIndex = 0; rowIndex < NUMBER_OF_ROWS; rowIndex++) {
-            if (market[rowIndex][columnIndex].getCards().size() > 0) return false;
+            if (market[rowIndex][columnIndex].size() > 0) return false;
         }
 
         return true;
@@ -141,8 +217,10 @@ public class CardDevelopmentMarket {
      */
     public CardDevelopment popFromStack(int rowIndex, int colIndex) {
 
-        if (rowIndex >= 0 && rowIndex <= 2 && colIndex >= 0 && colIndex <= 3)
-        return market[rowIndex][colIndex].pop();
+        if (rowIndex >= 0 && rowIndex <= 2 && colIndex >= 0 && colIndex <= 3) {
+            version++;
+            return market[rowIndex][colIndex].pop();
+        }
 
         else return null;
     }
@@ -155,6 +233,7 @@ public class CardDevelopmentMarket {
      */
     public CardDevelopment applyDiscount(int rowIndex, int colIndex, Resource resourceToBeDiscounted) {
 
+        version++;
         CardDevelopment temp = market[rowIndex][colIndex].pop();
         temp.applyDiscount(resourceToBeDiscounted);
         market[rowIndex][colIndex].push(temp);
@@ -72,6 +72,20 @@ public class CardDevelopmentStack {
         return cards.peek();
     }
 
+    /**
+     * @return the card on top of the stack, null if the stack is empty
+     */
+    CardDevelopment top() {
+        return cards.isEmpty() ? null : cards.peek();
+    }
+
+    /**
+     * @return number of cards in the stack, without copying it
+     */
+    public int size() {
+        return cards.size();
+    }
+
     CardDevelopment pop() {
         return cards.pop();
     }
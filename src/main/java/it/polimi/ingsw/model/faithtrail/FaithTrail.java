@@ -5,17 +5,48 @@ import it.polimi.ingsw.model.Lorenzo;
 import it.polimi.ingsw.model.PlayerBoard;
 import it.polimi.ingsw.model.enums.FaithCellType;
 import it.polimi.ingsw.model.enums.FaithSection;
-import it.polimi.ingsw.model.enums.FaithTileStatus;
 
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.HashMap;
 
 public class FaithTrail implements Serializable {
-    final private int length = 25;
-    private final ArrayList<FaithCell> cells;
-    private final HashMap<PlayerBoard, Integer> playerPosition;
-    private final HashMap<PlayerBoard, FaithTilePack> playerTiles;
+    final private static int length = 25;
+
+    /**
+     * Victory points of every cell, indexed by position
+     */
+    private static final int[] cellPoints = new int[length];
+
+    /**
+     * Pope cell closing every section, indexed by FaithSection ordinal
+     */
+    private static final int[] popeCells = new int[FaithSection.values().length];
+
+    /**
+     * First position counted as reached by the vatican report of every section, indexed by FaithSection ordinal
+     */
+    private static final int[] reportStarts = {5, 12, 19};
+
+    private static final FaithSection[] sections = FaithSection.values();
+
+    static {
+        int section = 0;
+        for (int i = 0; i < length; i++) {
+            FaithCell cell = new FaithCell(i);
+            cellPoints[i] = cell.getVictoryPoints();
+            if (cell.getType() == FaithCellType.Pope) popeCells[section++] = i;
+        }
+    }
+
+    private final PlayerBoard[] players;
+    private final int[] playerPosition;
+    private final FaithTilePack[] playerTiles;
+
+    /**
+     * True for the sections whose vatican report has already been activated
+     */
+    private final boolean[] reported;
+
     private final GameTable gameTable;
     private int lorenzoPosition;
 
@@ -26,38 +57,23 @@ public class FaithTrail implements Serializable {
      * @param lorenzo
      */
     public FaithTrail(GameTable gameTable, ArrayList<PlayerBoard> players, Lorenzo lorenzo){
-        this.gameTable = gameTable;
-        this.cells= new ArrayList<>();
-        this.playerTiles= new HashMap<>();
-        this.playerPosition= new HashMap<>();
-        lorenzoPosition=0;
-        for (PlayerBoard p : players
-        ) {
-            this.playerPosition.put(p, 0);
-            this.playerTiles.put(p, new FaithTilePack());
-        }
-        for (int i = 0; i < length; i++) {
-            cells.add(new FaithCell(i));
-        }
+        this(gameTable, players);
     }
 
     /**
-     * Constructor, sets all players at starting position and creates all cells
+     * Constructor, sets all players at starting position
      * @param gameTable
-     * @param players
+     * @param players ordered by their index in gameTable
      */
     public FaithTrail(GameTable gameTable, ArrayList<PlayerBoard> players) {
         this.gameTable = gameTable;
-        this.cells= new ArrayList<>();
-        this.playerTiles= new HashMap<>();
-        this.playerPosition= new HashMap<>();
-        for (PlayerBoard p : players
-        ) {
-            this.playerPosition.put(p, 0);
-            this.playerTiles.put(p, new FaithTilePack());
-        }
-        for (int i = 0; i < length; i++) {
-            cells.add(new FaithCell(i));
+        this.players = players.toArray(new PlayerBoard[0]);
+        this.playerPosition = new int[players.size()];
+        this.playerTiles = new FaithTilePack[players.size()];
+        this.reported = new boolean[sections.length];
+        lorenzoPosition = 0;
+        for (int i = 0; i < playerTiles.length; i++) {
+            playerTiles[i] = new FaithTilePack();
         }
     }
 
@@ -68,7 +84,7 @@ public class FaithTrail implements Serializable {
      * @return position of player must be 0<=value<=24
      */
     public int getPosition(PlayerBoard p) {
-        return playerPosition.get(p);
+        return playerPosition[p.getIndex()];
     }
 
     /**
@@ -78,7 +94,7 @@ public class FaithTrail implements Serializable {
      */
 
     public FaithTilePack getTilePack(PlayerBoard p) {
-        return playerTiles.get(p);
+        return playerTiles[p.getIndex()];
     }
 
     /**
@@ -87,26 +103,37 @@ public class FaithTrail implements Serializable {
      * @return total points of player (in Trail)
      */
     public int getVictoryPoints(PlayerBoard p){
-        return cells.get(playerPosition.get(p)).getVictoryPoints() + playerTiles.get(p).getVictoryPoints();
+        int index = p.getIndex();
+        return cellPoints[playerPosition[index]] + playerTiles[index].getVictoryPoints();
     }
 
 
     /**
-     * Moving a player p through n positions
+     * Moving a player p through n positions, activating the vatican reports of every Pope Cell crossed
      * @param p player that will be moved
      * @param n number of Cells
      */
     public void movePlayer(PlayerBoard p, int n) {
-        for(;n>0;n--){
+        int index = p.getIndex();
+        int from = playerPosition[index];
+        int to = Math.min(from + Math.max(n, 0), length - 1);
 
-            if (getPosition(p) < 24) {
-                moveP(p);
-                if(checkEndGame(getPosition(p))) {
-                    gameTable.activateEndGame();
-                    break;
-                }
-            }
+        if (to == from) return;
 
+        playerPosition[index] = to;
+        p.getScoreLedger().setFaithPoints(cellPoints[to]);
+        activateCrossedReports(from, to);
+
+        if (checkEndGame(to)) gameTable.activateEndGame();
+    }
+
+    /**
+     * Moves every player but notMovingPlayer by one position
+     * @param notMovingPlayer player that stays still
+     */
+    public void moveOthers(PlayerBoard notMovingPlayer) {
+        for (PlayerBoard board : players) {
+            if (board.getIndex() != notMovingPlayer.getIndex()) movePlayer(board, 1);
         }
     }
 
@@ -115,9 +142,9 @@ public class FaithTrail implements Serializable {
     }
 
     public void moveLorenzo(){
-        if (lorenzoPosition < 24) {
+        if (lorenzoPosition < length - 1) {
             lorenzoPosition++;
-            if (checkPopeCellLorenzo(getSection(lorenzoPosition))) popeActive(getSection(lorenzoPosition));
+            activateCrossedReports(lorenzoPosition - 1, lorenzoPosition);
         }
     }
 
@@ -128,7 +155,7 @@ public class FaithTrail implements Serializable {
      * @return
      */
     public boolean checkEndGame(int position) {
-        return position == 24;
+        return position == length - 1;
     }
 
     /**
@@ -137,65 +164,33 @@ public class FaithTrail implements Serializable {
      * @return
      */
     public FaithSection getSection(int pos) {
-        if (0 <= pos && pos <= 8) return FaithSection.One;
-        else if (9 <= pos && pos <= 16) return FaithSection.Two;
-        else return FaithSection.Three;
-    }
-
-    /**
-     * Moves player of one position
-     * @param p Player
-     */
-    private void moveP(PlayerBoard p) {
-        int pos = getPosition(p);
-        FaithSection s;
-        playerPosition.put(p, pos + 1);
-        s = getSection(getPosition(p));
-        checkPopeCell(p, s);
-    }
-
-    /**
-     * Checks if player is on a Pope Cell and calls popeActive() if it's true
-     * @param p
-     * @param section
-     */
-    private void checkPopeCell(PlayerBoard p, FaithSection section) {
-        FaithCellType cellType = cells.get(getPosition(p)).getType();
-        FaithTileStatus tileStatus= playerTiles.get(p).getStatus(section);
-        if (cellType == FaithCellType.Pope && tileStatus == FaithTileStatus.Not_Reached) popeActive(section);
+        for (int i = 0; i < popeCells.length - 1; i++) {
+            if (pos <= popeCells[i]) return sections[i];
+        }
+        return sections[popeCells.length - 1];
     }
 
     /**
-     * Checks if Lorenzo is on a Pope Cell
-     * @param section
-     * @return
+     * Activates the vatican report of every Pope Cell in (from, to] that has not been reported yet
+     * @param from position before the move
+     * @param to position after the move
      */
-    private boolean checkPopeCellLorenzo(FaithSection section) {
-        FaithCellType cellType = cells.get(lorenzoPosition).getType();
-        return cellType == FaithCellType.Pope;
+    private void activateCrossedReports(int from, int to) {
+        for (int i = 0; i < popeCells.length; i++) {
+            if (from < popeCells[i] && popeCells[i] <= to && !reported[i]) popeActive(i);
+        }
     }
 
     /**
      * Sets Reached all Tiles in current Section and Discarded Tiles players in previous sections
-     * @param section
+     * @param section ordinal of the FaithSection
      */
-    private void popeActive(FaithSection section) {
-        for (PlayerBoard playerboard : playerPosition.keySet()) {
-            if (isReached(playerboard, section)) getTilePack(playerboard).setReached(section);
-            else getTilePack(playerboard).setDiscarded(section);
+    private void popeActive(int section) {
+        reported[section] = true;
+        for (int i = 0; i < players.length; i++) {
+            if (playerPosition[i] >= reportStarts[section]) playerTiles[i].setReached(sections[section]);
+            else playerTiles[i].setDiscarded(sections[section]);
+            players[i].getScoreLedger().setTilePoints(playerTiles[i].getVictoryPoints());
         }
-
-    }
-
-    /**
-     * check if Tiles are activated due to popeActive()
-     * @param p
-     * @param section
-     * @return
-     */
-    private boolean isReached(PlayerBoard p, FaithSection section) {
-        if (section == FaithSection.One && playerPosition.get(p) >= 5) return true;
-        else if (section == FaithSection.Two && playerPosition.get(p) >= 12) return true;
-        else return section == FaithSection.Three && playerPosition.get(p) >= 19;
     }
 }
@@ -16,11 +16,21 @@ public abstract class Marble implements Serializable {
     public abstract void activate(PlayerBoard playerBoard);
 
     /**
-     * cloner of the class
-     * @return a deep clone of Marble
+     * Marbles are stateless, so the clone is the marble itself
+     * @return this
      */
     @Override
-    public abstract Marble clone();
+    public Marble clone() {
+        return this;
+    }
 
     public abstract MarbleType getType();
+
+    /**
+     * Keeps a single instance of each marble when one is deserialized
+     * @return the shared marble of the same type
+     */
+    protected Object readResolve() {
+        return MarbleFactory.get(getType());
+    }
 }
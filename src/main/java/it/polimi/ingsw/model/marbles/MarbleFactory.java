@@ -9,6 +9,11 @@ import it.polimi.ingsw.model.enums.Resource;
  */
 public class MarbleFactory {
 
+    /**
+     * Marbles are stateless, so a single instance of each type is shared by every market
+     */
+    private static final Marble[] marbles = createAll();
+
     /**
      *
      * @param marbleType MarbleType to use for the creation of the new Marble
@@ -16,6 +21,26 @@ public class MarbleFactory {
      * @return Concrete Marble
      */
     public Marble produce(MarbleType marbleType, GameTable gameTable){
+        return get(marbleType);
+    }
+
+    /**
+     * @param marbleType type of the marble
+     * @return the shared Marble of the given type
+     */
+    public static Marble get(MarbleType marbleType) {
+        return marbles[marbleType.ordinal()];
+    }
+
+    private static Marble[] createAll() {
+        MarbleType[] types = MarbleType.values();
+        Marble[] all = new Marble[types.length];
+        for (MarbleType marbleType : types)
+            all[marbleType.ordinal()] = create(marbleType);
+        return all;
+    }
+
+    private static Marble create(MarbleType marbleType) {
         return switch (marbleType) {
             case MarbleRed -> new MarbleRed();
             case MarbleWhite -> new MarbleWhite();
@@ -38,15 +38,6 @@ public class MarbleNormal extends Marble {
         }
     }
 
-    /**
-     * cloner of the class
-     * @return a deep clone of Marble
-     */
-    @Override
-    public Marble clone(){
-        return new MarbleNormal(resource);
-    }
-
     /**
      * Adds one resource to a player
      * @param playerBoard player where to activate marble
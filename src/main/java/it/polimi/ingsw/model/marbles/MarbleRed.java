@@ -14,15 +14,6 @@ public class MarbleRed extends Marble {
     MarbleRed(){
     }
 
-    /**
-     * cloner of the class
-     * @return a deep clone of Marble
-     */
-    @Override
-    public Marble clone(){
-        return new MarbleRed();
-    }
-
     /**
      * Moves player forward by 1 faith cell
      * @param playerBoard player where to activate marble
@@ -19,15 +19,6 @@ public class MarbleWhite extends Marble {
        playerBoard.addToTemporaryDeposit(playerBoard.getWhiteEffect());
     }
 
-    /**
-     * cloner of the class
-     * @return a deep clone of Marble
-     */
-    @Override
-    public Marble clone(){
-        return new MarbleWhite();
-    }
-
     @Override
     public MarbleType getType() {
         return MarbleType.MarbleWhite;
@@ -0,0 +1,71 @@
+package it.polimi.ingsw.server;
+
+import it.polimi.ingsw.model.BriefModel;
+
+import java.util.HashMap;
+
+/**
+ * Remembers which BriefModel of every player each client holds, so that a client already up to date only receives
+ * the changes, see NotifyBriefModelDelta.
+ * <p>
+ *     Every player has a version, bumped only when its BriefModel actually changes. Connections deliver messages in
+ *     order, so the version sent to a client is the one it holds; when a client reconnects it is forgotten and gets
+ *     full snapshots again.
+ * </p>
+ */
+class BriefModelSync {
+
+    private final HashMap<String, BriefModel> lastModels = new HashMap<>();
+
+    private final HashMap<String, Integer> versions = new HashMap<>();
+
+    /**
+     * Versions held by every client, by nickname of the player described
+     */
+    private final HashMap<VirtualClient, HashMap<String, Integer>> sentVersions = new HashMap<>();
+
+    /**
+     * @return the BriefModel of a player sent last, null if none was sent
+     */
+    synchronized BriefModel getLastModel(String nickname) {
+        return lastModels.get(nickname);
+    }
+
+    /**
+     * @return current version of the BriefModel of a player
+     */
+    synchronized int getVersion(String nickname) {
+        return versions.getOrDefault(nickname, 0);
+    }
+
+    /**
+     * Stores a new BriefModel of a player and bumps its version, must be called only if the BriefModel has changed
+     * @param nickname player described
+     * @param briefModel current state of the player
+     */
+    synchronized void update(String nickname, BriefModel briefModel) {
+        if (lastModels.put(nickname, briefModel) != null) versions.merge(nickname, 1, Integer::sum);
+    }
+
+    /**
+     * @return true if the client holds the given version of the BriefModel of the player
+     */
+    synchronized boolean holds(VirtualClient virtualClient, String nickname, int version) {
+        HashMap<String, Integer> held = sentVersions.get(virtualClient);
+        return held != null && held.containsKey(nickname) && held.get(nickname) == version;
+    }
+
+    /**
+     * Records that the client has been sent the current version of the player
+     */
+    synchronized void sent(VirtualClient virtualClient, String nickname) {
+        sentVersions.computeIfAbsent(virtualClient, client -> new HashMap<>()).put(nickname, getVersion(nickname));
+    }
+
+    /**
+     * Forgets what a client holds, it will receive full snapshots
+     */
+    synchronized void forget(VirtualClient virtualClient) {
+        sentVersions.remove(virtualClient);
+    }
+}
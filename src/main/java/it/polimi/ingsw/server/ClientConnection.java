@@ -0,0 +1,30 @@
+package it.polimi.ingsw.server;
+
+import java.io.IOException;
+
+/**
+ * Transport used by a VirtualClient to reach the actual Client.
+ * Implementations own the socket and deliver every frame read from it to the VirtualClient they are bound to.
+ * Writes never block the caller: frames are put in an OutboundQueue and written by the transport.
+ */
+public interface ClientConnection {
+
+    /**
+     * Queues a complete frame to be written on the connection
+     * @param frame frame built by NetworkFrames.encode
+     * @param coalescingKey key used to drop an older frame still waiting in the queue, null to never drop it
+     * @throws OutboundQueueFullException if the client is not reading fast enough
+     * @throws IOException if the connection is closed or broken
+     */
+    void write(byte[] frame, Object coalescingKey) throws IOException;
+
+    /**
+     * @return number of frames waiting to be written
+     */
+    int getQueueDepth();
+
+    /**
+     * Closes the connection once the frames already queued have been written, further writes will fail
+     */
+    void close();
+}
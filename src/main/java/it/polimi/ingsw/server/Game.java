@@ -5,15 +5,12 @@ import it.polimi.ingsw.communication.server.*;
 import it.polimi.ingsw.communication.server.requests.GamePhase;
 import it.polimi.ingsw.communication.server.requests.RequestInitialSelection;
 import it.polimi.ingsw.communication.server.requests.RequestSignalActivePlayer;
-import it.polimi.ingsw.communication.server.responses.ResponseMainMoveNotMade;
-import it.polimi.ingsw.communication.server.responses.ResponseNotActivePlayerError;
-import it.polimi.ingsw.communication.server.responses.ResponseSuccess;
+import it.polimi.ingsw.communication.server.responses.*;
 import it.polimi.ingsw.controller.Controller;
 import it.polimi.ingsw.controller.exceptions.MainMoveAlreadyMadeException;
 import it.polimi.ingsw.controller.exceptions.NotActivePlayerException;
 import it.polimi.ingsw.model.*;
 import it.polimi.ingsw.model.cards.CardDevelopment;
-import it.polimi.ingsw.model.cards.CardDevelopmentStack;
 import it.polimi.ingsw.model.enums.Resource;
 import it.polimi.ingsw.model.exceptions.*;
 import it.polimi.ingsw.model.enums.FaithSection;
@@ -24,9 +21,10 @@ import it.polimi.ingsw.model.enums.MarbleType;
 
 
 import java.util.ArrayList;
-import java.util.EmptyStackException;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * This class is responsible for instantiating the controller and model classes, receiving and dispatching requests
@@ -35,6 +33,9 @@ import java.util.LinkedHashMap;
  * This class maintains the correlations between VirtualClient(s) and nickname(s), in order to be able to expose methods
  * parametric in VirtualClient, find the corresponding nickname and call Controller's methods, which are parametric
  * in String.
+ * <p>
+ * Every request of the players, as well as disconnections and reconnections, is executed through the Game's
+ * GameMailbox, one at a time and in arrival order, so the controller and the model are never accessed concurrently.
  */
 
 public class Game implements Runnable {
@@ -47,8 +48,17 @@ public class Game implements Runnable {
     private final LinkedHashMap<String, VirtualClient> nicknameClientMap;
     private final LinkedHashMap<VirtualClient, String> clientNicknameMap;
     private final LinkedHashMap<Integer, VirtualClient> idPlayerClientMap;
+    private final HashMap<String, Runnable> pendingInitialSelections;
     private boolean displayStartingEndGame = true;
     private boolean mainMoveMade = false;
+    private final GameMailbox mailbox = new GameMailbox();
+    private final BriefModelSync briefModelSync = new BriefModelSync();
+
+    /**
+     * Pushed copies of the markets, equal for every client, indexed by part; null until requested after a change
+     */
+    private final ModelPartResponse[] marketParts = new ModelPartResponse[NotifyModelChanged.PARTS];
+    private final byte[][] marketFrames = new byte[NotifyModelChanged.PARTS][];
 
     /**
      * Basic constructor which instantiates the private LinkedHashMaps
@@ -59,20 +69,29 @@ public class Game implements Runnable {
         nicknameClientMap = new LinkedHashMap<>();
         clientNicknameMap = new LinkedHashMap<>();
         idPlayerClientMap = new LinkedHashMap<>();
+        pendingInitialSelections = new HashMap<>();
+    }
+
+    /**
+     * Enqueues a task in this Game's mailbox, tasks are executed one at a time in the order they were submitted
+     *
+     * @param task to be executed on the game
+     */
+    public void execute(Runnable task) {
+        mailbox.execute(task);
     }
 
     public String getNicknameByClient(VirtualClient virtualClient) {
-        for (String nickname :
-                nicknameClientMap.keySet()) {
-            if (nicknameClientMap.get(nickname) == virtualClient)
-                return nickname;
-        }
-        throw new IllegalArgumentException("Unknown client");
+        String nickname = clientNicknameMap.get(virtualClient);
+        if (nickname == null)
+            throw new IllegalArgumentException("Unknown client");
+        return nickname;
     }
 
     /**
      * This method is called by ResponseInitialSelection's read() method.
      * It is used to assign a player's selection of card leaders and bonus resources.
+     * Selections of players who are not active yet are kept until their turn comes.
      *
      * @param _vClient    The VirtualClient corresponding to the player that has sent the response.
      * @param _cardLeader An ArrayList of CardLeader, which contains the cards selected by the player.
@@ -83,10 +102,25 @@ public class Game implements Runnable {
 
         String nickname = clientNicknameMap.get(_vClient);
 
+        pendingInitialSelections.put(nickname, () -> assignInitialSelection(_vClient, nickname, _cardLeader, _resource1, _resource2));
+
+        // Selections are requested to everyone at once but must be applied in turn order
+        Runnable selection;
+        while ((selection = pendingInitialSelections.remove(
+                controller.getTurnController().getActivePlayer().getNickname())) != null) {
+            selection.run();
+        }
+    }
+
+    /**
+     * Assigns a player's selection of card leaders and bonus resources, the player must be the active one.
+     */
+    private void assignInitialSelection(VirtualClient _vClient, String nickname, ArrayList<CardLeader> _cardLeader, Resource _resource1, Resource _resource2) {
         try {
             controller.assignInitialBenefits(nickname, _cardLeader, _resource1, _resource2);
+            notifyModelChanged(_vClient, NotifyModelChanged.DEPOSIT | NotifyModelChanged.CARDS_LEADER, NotifyModelChanged.FAITH_TRAIL);
             send(_vClient, new ResponseSuccess());
-            sendAll(new NotifyBriefModel(gameTable.getPlayerByNickname(nickname)));
+            broadcastBriefModel(gameTable.getPlayerByNickname(nickname));
         } catch (NotActivePlayerException ex) {
             send(_vClient, new ResponseNotActivePlayerError());
         }
@@ -147,32 +181,29 @@ public class Game implements Runnable {
     }
 
     /**
-     * This method sends a RequestInitialSelection to all players and waits for their response one by one.
+     * This method sends a RequestInitialSelection to all players at once, without blocking.
+     * The answers are buffered by distributeInitialSelection and applied in turn order; once all of them have been
+     * executed, the first player is signaled to start his turn.
      */
     private void solicitInitialSelections() {
 
-        for (VirtualClient vClient : players) {
-
-            try {
-                sendAndWait(vClient, new RequestInitialSelection(
-                        controller.getPlayerBoardByNickname(clientNicknameMap.get(vClient)).getCardsLeaderBeforeSelecting(),
-                        gameTable.getIndexFromPlayer(controller.getPlayerBoardByNickname(clientNicknameMap.get(vClient)))
-                ), -1);
+        ArrayList<CompletableFuture<Void>> selections = new ArrayList<>();
 
+        for (VirtualClient vClient : players) {
 
-            } catch (RequestTimedOutException ex) {
-
-                System.out.println("Still waiting for "
-                        + controller.getPlayerBoardByNickname(clientNicknameMap.get(vClient))
-                        + " to make his selection..");
-            }
+            selections.add(sendAsync(vClient, new RequestInitialSelection(
+                    controller.getPlayerBoardByNickname(clientNicknameMap.get(vClient)).getCardsLeaderBeforeSelecting(),
+                    gameTable.getIndexFromPlayer(controller.getPlayerBoardByNickname(clientNicknameMap.get(vClient)))
+            ), -1));
         }
 
         //At this point, Initial Selection phase has ended. Main Loop phase has begun.
 
         //sendAll signaling its the first player's turn to play
-        String firstNickname = clientNicknameMap.get(players.get(0));
-        sendAll(new RequestSignalActivePlayer(firstNickname, GamePhase.Initial));
+        CompletableFuture.allOf(selections.toArray(new CompletableFuture<?>[0])).thenRunAsync(() -> {
+            String firstNickname = clientNicknameMap.get(players.get(0));
+            signalActivePlayer(firstNickname);
+        }, mailbox);
 
     }
 
@@ -208,48 +239,18 @@ public class Game implements Runnable {
      * Getter for resource market's marble arrangement.
      * @return Matrix of MarbleType that describes the market's structure at the current moment.
      */
-    public ArrayList<ArrayList<MarbleType>> getMarketClone() {
-
-        ArrayList<ArrayList<MarbleType>> marketClone = new ArrayList<>();
-        ArrayList<ArrayList<Marble>> marbleMatrix = gameTable.getMarketInstance().getMarket();
-
-        for (int i = 0; i < marbleMatrix.size(); i++) {
+    public List<List<MarbleType>> getMarketClone() {
 
-            marketClone.add(new ArrayList<>());
-
-            for (int j = 0; j < marbleMatrix.get(0).size(); j++) {
-
-                MarbleType type = marbleMatrix.get(i).get(j).getType();
-                marketClone.get(i).add(type);
-            }
-        }
-        return marketClone;
+        return gameTable.getMarketInstance().getMarbleTypes();
     }
 
     /**
      * Getter for card development market's top cards.
      * @return Matrix of CardDevelopment that describes the buyable cards in the market at the current moment.
      */
-    public ArrayList<ArrayList<CardDevelopment>> getCardDevMarketClone() {
-
-        ArrayList<ArrayList<CardDevelopment>> output = new ArrayList<>();
-        CardDevelopmentStack[][] cardSlotMatrix = gameTable.getCardDevelopmentMarketInstance().getMarket();
-
-        for (int i = 0; i < cardSlotMatrix.length; i++) {
+    public List<List<CardDevelopment>> getCardDevMarketClone() {
 
-            output.add(new ArrayList<>());
-            for (int j = 0; j < cardSlotMatrix[0].length; j++) {
-
-                try {
-                    CardDevelopment topCard = cardSlotMatrix[i][j].getCards().peek();
-                    output.get(i).add(topCard);
-                } catch (EmptyStackException ex) {
-                    output.get(i).add(null);
-                }
-            }
-        }
-
-        return output;
+        return gameTable.getCardDevelopmentMarketInstance().getTopCards();
     }
 
     /**
@@ -356,6 +357,84 @@ public class Game implements Runnable {
         return board.getDepositLeaderCardInstance().getContent();
     }
 
+    /**
+     * Builds the copy of a part of the model sent to a client, either requested or pushed to a subscriber
+     * @param virtualClient client the copy is sent to, parts of a player's board belong to this client
+     * @param part one of the NotifyModelChanged parts
+     * @return the message carrying the part
+     */
+    ModelPartResponse getModelPart(VirtualClient virtualClient, int part) {
+        switch (part) {
+            case NotifyModelChanged.MARKET:
+                return new ResponseMarketInstance(getMarketClone(), getSpareMarble());
+            case NotifyModelChanged.CARD_DEVELOPMENT_MARKET:
+                return new ResponseCardDevelopmentMarketInstance(getCardDevMarketClone());
+            case NotifyModelChanged.DEPOSIT:
+                ArrayList<Resource> leaderResources = getLeaderResourcesClone(virtualClient);
+                return new ResponseStorageInstance(true, getDepositClone(virtualClient), leaderResources,
+                        leaderResources.size() > 0 ? getLeaderContentClone(virtualClient) : new HashMap<>());
+            case NotifyModelChanged.STRONGBOX:
+                return new ResponseStorageInstance(false, getStrongboxClone(virtualClient), null, null);
+            case NotifyModelChanged.CARDS_LEADER:
+                return new ResponseCardLeaders(getLeaderCards(virtualClient));
+            case NotifyModelChanged.CARDS_DEVELOPMENT:
+                return new ResponseTopCardsDevelopment(getTopDevelopmentCards(virtualClient));
+            case NotifyModelChanged.FAITH_TRAIL:
+                return new ResponseLightFaithTrail(getTileStatuses(virtualClient), getPlayerPositions());
+            default:
+                throw new IllegalArgumentException("unknown model part " + part);
+        }
+    }
+
+    /**
+     * Subscribes a client to parts of the model and pushes their current copy
+     * @param virtualClient client subscribing
+     * @param topics bitwise or of the NotifyModelChanged parts to be pushed
+     */
+    public void subscribe(VirtualClient virtualClient, int topics) {
+        virtualClient.setSubscribedTopics(topics);
+        publish(virtualClient, topics);
+    }
+
+    /**
+     * @param part one of the NotifyModelChanged parts
+     * @return true if the part is equal for every client
+     */
+    private static boolean isShared(int part) {
+        return part == NotifyModelChanged.MARKET || part == NotifyModelChanged.CARD_DEVELOPMENT_MARKET;
+    }
+
+    /**
+     * Builds the copy of a part to be pushed to a client, the copies of the markets are built once per change
+     * @param virtualClient client the copy is sent to
+     * @param part one of the NotifyModelChanged parts
+     * @return the message carrying the part, never modified once built
+     */
+    private ModelPartResponse getPushedPart(VirtualClient virtualClient, int part) {
+        if (!isShared(part)) return getModelPart(virtualClient, part);
+        int index = Integer.numberOfTrailingZeros(part);
+        if (marketParts[index] == null) marketParts[index] = getModelPart(virtualClient, part);
+        return marketParts[index];
+    }
+
+    /**
+     * Signals to every player who the active player is. The active player also receives, in the same batch of
+     * messages, a TurnSnapshot of the parts it is not subscribed to
+     * @param nickname active player
+     */
+    private void signalActivePlayer(String nickname) {
+        VirtualClient activeClient = nicknameClientMap.get(nickname);
+        int parts = NotifyModelChanged.ALL & ~activeClient.getSubscribedTopics();
+        if (parts != 0 && server.isNotDisconnected(nickname)) {
+            ArrayList<ModelPartResponse> snapshot = new ArrayList<>();
+            for (int i = 0; i < NotifyModelChanged.PARTS; i++) {
+                if ((parts & (1 << i)) != 0) snapshot.add(getPushedPart(activeClient, 1 << i));
+            }
+            send(activeClient, new TurnSnapshot(snapshot));
+        }
+        sendAll(new RequestSignalActivePlayer(nickname, GamePhase.Initial));
+    }
+
     public void setMainMoveMade(boolean b) {
         mainMoveMade = b;
     }
@@ -383,8 +462,11 @@ public class Game implements Runnable {
 
             controller.advanceTurn(nickname);
             setMainMoveMade(false);
+            // Lorenzo plays when the turn ends
+            if (gameTable.isSinglePlayer())
+                notifyModelChanged(null, 0, NotifyModelChanged.CARD_DEVELOPMENT_MARKET | NotifyModelChanged.FAITH_TRAIL);
             send(nickname, new ResponseSuccess());
-            sendAll(new NotifyBriefModel(gameTable.getPlayerByNickname(nickname)));
+            broadcastBriefModel(gameTable.getPlayerByNickname(nickname));
 
         } catch (NotActivePlayerException ex) {
             send(nickname, new ResponseNotActivePlayerError());
@@ -401,11 +483,10 @@ public class Game implements Runnable {
 
             if (controller.getGamePhase() == 3) {
                 sendAll(new ScoreBoardMessage(controller.calculateScores()));
+                closeGame(false);
             } else {
                 // Notify new active player that it's his turn to play
-                sendAll(
-                        new RequestSignalActivePlayer(
-                                controller.getTurnController().getActivePlayer().getNickname(), GamePhase.Initial));
+                signalActivePlayer(controller.getTurnController().getActivePlayer().getNickname());
             }
         }
         // Single player logic
@@ -416,14 +497,14 @@ public class Game implements Runnable {
                 HashMap<String, Integer> playerScore = controller.calculateScores();
 
                 sendAll(new SinglePlayerOutcomeMessage(true, playerScore.get(nickname)));
+                closeGame(false);
             } else if (controller.getGamePhase() == 4) {
                 // Player has lost
                 sendAll(new SinglePlayerOutcomeMessage(false, -1));
+                closeGame(false);
             } else {
                 // Game keeps going on
-                sendAll(
-                        new RequestSignalActivePlayer(
-                                controller.getTurnController().getActivePlayer().getNickname(), GamePhase.Initial));
+                signalActivePlayer(controller.getTurnController().getActivePlayer().getNickname());
             }
 
         }
@@ -458,6 +539,9 @@ public class Game implements Runnable {
 
         if (!mainMoveMade || debug) {
             controller.buyAndPlaceDevCard(nickname, _rowIndex, _colIndex, _placementIndex);
+            notifyModelChanged(_vClient,
+                    NotifyModelChanged.DEPOSIT | NotifyModelChanged.STRONGBOX | NotifyModelChanged.CARDS_DEVELOPMENT,
+                    NotifyModelChanged.CARD_DEVELOPMENT_MARKET);
         } else throw new MainMoveAlreadyMadeException();
 
     }
@@ -478,7 +562,9 @@ public class Game implements Runnable {
         String nickname = clientNicknameMap.get(_vClient);
 
         if (!mainMoveMade || debug) {
-            return controller.useMarket(nickname, _index, _selection);
+            HashMap<Resource, Integer> residual = controller.useMarket(nickname, _index, _selection);
+            notifyModelChanged(_vClient, NotifyModelChanged.DEPOSIT, NotifyModelChanged.MARKET | NotifyModelChanged.FAITH_TRAIL);
+            return residual;
         } else throw new MainMoveAlreadyMadeException();
 
     }
@@ -495,7 +581,23 @@ public class Game implements Runnable {
     public HashMap<Resource, Integer> discardResources(VirtualClient _vClient, HashMap<Resource, Integer> _discardSelection) throws NotActivePlayerException {
 
         String nickname = clientNicknameMap.get(_vClient);
-        return controller.discardResources(nickname, _discardSelection);
+        HashMap<Resource, Integer> residual = controller.discardResources(nickname, _discardSelection);
+        // Discarded resources move the other players on the faith trail
+        notifyModelChanged(_vClient, NotifyModelChanged.DEPOSIT, NotifyModelChanged.FAITH_TRAIL);
+        return residual;
+    }
+
+    /**
+     * Computes the discard to be suggested to a player that has not enough space for the resources.
+     *
+     * @param _vClient   The VirtualClient associated with the player that has to discard.
+     * @param _resources The resources from which the selection must be made.
+     * @return an instance of HashMap containing the fewest amounts to be discarded for each Resource.
+     */
+    public HashMap<Resource, Integer> suggestDiscard(VirtualClient _vClient, HashMap<Resource, Integer> _resources) {
+
+        String nickname = clientNicknameMap.get(_vClient);
+        return controller.suggestDiscard(nickname, _resources);
     }
 
     /**
@@ -508,7 +610,9 @@ public class Game implements Runnable {
      */
     public boolean activateLeaderCard(VirtualClient _vClient, CardLeader _cardToBeActivated) throws NotActivePlayerException {
         String nickname = clientNicknameMap.get(_vClient);
-        return controller.activateLeaderCard(nickname, _cardToBeActivated);
+        boolean activated = controller.activateLeaderCard(nickname, _cardToBeActivated);
+        if (activated) notifyModelChanged(_vClient, NotifyModelChanged.CARDS_LEADER | NotifyModelChanged.DEPOSIT, 0);
+        return activated;
 
     }
 
@@ -527,6 +631,7 @@ public class Game implements Runnable {
         String nickname = clientNicknameMap.get(_vClient);
         if (!mainMoveMade || debug) {
             controller.activateProductionPowers(nickname, _selection);
+            notifyModelChanged(_vClient, NotifyModelChanged.DEPOSIT | NotifyModelChanged.STRONGBOX, NotifyModelChanged.FAITH_TRAIL);
         } else throw new MainMoveAlreadyMadeException();
     }
 
@@ -562,6 +667,20 @@ public class Game implements Runnable {
         idPlayerClientMap.get(playerID).send(serverMessage);
     }
 
+    /**
+     * Method used to send a ServerMessage to a VirtualClient without blocking the thread until the Client has sent
+     * his response.
+     *
+     * @param virtualClient    Target VirtualClient.
+     * @param serverMessage    Instance of ServerMessage to be sent to target VirtualClient.
+     * @param timeoutInSeconds Amount of seconds before the returned future fails with a TimeoutException.
+     *                         If timeoutInSeconds == -1, the future never expires.
+     * @return future completed once the Client's response has been executed
+     */
+    public CompletableFuture<Void> sendAsync(VirtualClient virtualClient, ServerMessage serverMessage, Integer timeoutInSeconds) {
+        return virtualClient.sendAsync(serverMessage, timeoutInSeconds);
+    }
+
     /* Overloaded sendAndWait method */
 
     /**
@@ -608,14 +727,94 @@ public class Game implements Runnable {
 
     /**
      * Method used to send an instance of ServerMessage in broadcast to all players.
+     * The message is serialized once and the same frame is written to every recipient.
      *
      * @param serverMessage Instance of ServerMessage to be sent to all players.
      */
     public void sendAll(ServerMessage serverMessage) {
+        byte[] frame = VirtualClient.encode(serverMessage);
         for (VirtualClient player :
                 players) {
-            if(server.isNotDisconnected(getNicknameByClient(player)))
-                player.send(serverMessage);
+            if(server.isNotDisconnected(clientNicknameMap.get(player)))
+                player.sendFrame(frame, serverMessage.getCoalescingKey());
+        }
+    }
+
+    /**
+     * Tells the clients which parts of their LightModel have been changed by an action of a player, the parts a
+     * client is subscribed to are pushed instead. Every part changed by the action is sent once, whatever the number
+     * of changes. Must be called before answering the action, so that the view of the player reads the new state
+     *
+     * @param virtualClient player that made the action, null if the change was not made by a player
+     * @param playerParts   parts of the player's own board that have changed, see NotifyModelChanged
+     * @param sharedParts   parts displayed by every player that have changed, see NotifyModelChanged
+     */
+    private void notifyModelChanged(VirtualClient virtualClient, int playerParts, int sharedParts) {
+        for (int i = 0; i < NotifyModelChanged.PARTS; i++) {
+            if ((sharedParts & (1 << i)) != 0) {
+                marketParts[i] = null;
+                marketFrames[i] = null;
+            }
+        }
+        for (VirtualClient player : players) {
+            int parts = player == virtualClient ? playerParts | sharedParts : sharedParts;
+            if (parts != 0) publish(player, parts);
+        }
+    }
+
+    /**
+     * Pushes the changed parts a client is subscribed to, one message per part, and notifies it of the others
+     *
+     * @param virtualClient client to be updated
+     * @param parts         bitwise or of the NotifyModelChanged parts that have changed
+     */
+    private void publish(VirtualClient virtualClient, int parts) {
+        int pushed = parts & virtualClient.getSubscribedTopics();
+        if (pushed != parts) send(virtualClient, new NotifyModelChanged(parts & ~pushed));
+
+        for (int i = 0; i < NotifyModelChanged.PARTS; i++) {
+            int part = 1 << i;
+            if ((pushed & part) == 0) continue;
+            if (isShared(part)) {
+                // Encoded once for every client
+                if (marketFrames[i] == null) marketFrames[i] = VirtualClient.encode(getPushedPart(virtualClient, part));
+                virtualClient.sendFrame(marketFrames[i], ModelPartResponse.pushedKey(part));
+            } else {
+                send(virtualClient, getModelPart(virtualClient, part));
+            }
+        }
+    }
+
+    /**
+     * Sends the BriefModel of a player to every connected player. Players holding the previous version only receive
+     * the changes, players already holding the current one receive nothing.
+     *
+     * @param playerBoard player whose BriefModel is sent
+     */
+    private void broadcastBriefModel(PlayerBoard playerBoard) {
+        String nickname = playerBoard.getNickname();
+        BriefModel briefModel = new BriefModel(playerBoard);
+        BriefModel previous = briefModelSync.getLastModel(nickname);
+        BriefModelDelta delta = previous == null ? null : BriefModelDelta.between(previous, briefModel);
+        int fromVersion = briefModelSync.getVersion(nickname);
+        if (delta == null || !delta.isEmpty()) briefModelSync.update(nickname, briefModel);
+        int version = briefModelSync.getVersion(nickname);
+
+        byte[] snapshotFrame = null;
+        byte[] deltaFrame = null;
+        for (VirtualClient player : players) {
+            if (!server.isNotDisconnected(clientNicknameMap.get(player))
+                    || briefModelSync.holds(player, nickname, version)) continue;
+            if (delta != null && briefModelSync.holds(player, nickname, fromVersion)) {
+                if (deltaFrame == null)
+                    deltaFrame = VirtualClient.encode(new NotifyBriefModelDelta(delta, nickname, fromVersion));
+                player.sendFrame(deltaFrame, null);
+            } else {
+                NotifyBriefModel snapshot = new NotifyBriefModel(briefModel, nickname, version);
+                if (snapshotFrame == null) snapshotFrame = VirtualClient.encode(snapshot);
+                player.sendFrame(snapshotFrame, snapshot.getCoalescingKey());
+            }
+            briefModelSync.sent(player, nickname);
         }
     }
 
@@ -625,10 +824,11 @@ public class Game implements Runnable {
      * @param virtualClientToExclude player who is excluded from the broadcast
      */
     public void sendExcept(ServerMessage serverMessage, VirtualClient virtualClientToExclude){
+        byte[] frame = VirtualClient.encode(serverMessage);
         for (VirtualClient player :
                 players) {
             if(player != virtualClientToExclude)
-                player.send(serverMessage);
+                player.sendFrame(frame, serverMessage.getCoalescingKey());
         }
     }
 
@@ -640,6 +840,7 @@ public class Game implements Runnable {
      */
     public void discardCardLeader(VirtualClient virtualClient, Integer cardLeaderIndex) throws NotActivePlayerException {
         controller.discardCardLeader(clientNicknameMap.get(virtualClient), cardLeaderIndex);
+        notifyModelChanged(virtualClient, NotifyModelChanged.CARDS_LEADER, NotifyModelChanged.FAITH_TRAIL);
     }
 
     /**
@@ -658,6 +859,7 @@ public class Game implements Runnable {
 
         // mettere a posto le HASH MAP
         removeVirtualClient(virtualClient);
+        briefModelSync.forget(virtualClient);
 
         // notificare controller che virtualClient salta il turno
         controller.getTurnController().setPlayerConnection(
@@ -668,10 +870,7 @@ public class Game implements Runnable {
         if (controller.getTurnController().forceAdvanceTurn(nickname)) {
 
             setMainMoveMade(false);
-            sendAll(new RequestSignalActivePlayer(
-                    controller.getTurnController().getActivePlayer().getNickname(),
-                    GamePhase.Initial
-            ));
+            signalActivePlayer(controller.getTurnController().getActivePlayer().getNickname());
         }
 
         sendExcept(new NotifyDisconnectionOf(nickname), virtualClient);
@@ -690,6 +889,7 @@ public class Game implements Runnable {
     public void notifyReconnection(String nickname, VirtualClient virtualClient) {
 
         addVirtualClient(virtualClient, nickname);
+        briefModelSync.forget(virtualClient);
 
         virtualClient.setGame(this);
 
@@ -724,10 +924,11 @@ public class Game implements Runnable {
     }
 
     /**
-     * Set this game status to EndedWithError or Ended
+     * Set this game status to EndedWithError or Ended and removes it from the server
      * @param error true if closing with error
      */
     private void closeGame(boolean error){
+        server.gameEnded(this);
         for (VirtualClient player :
                 players) {
             System.out.println("->Virtual Client is being shut down<- " + player);
@@ -745,6 +946,7 @@ public class Game implements Runnable {
      * @return true if client is playing, false otherwise
      */
     private boolean isVirtualClientActivePlayer(VirtualClient _vClient) {
-        return controller.getTurnController().getActivePlayer().getNickname().equals(clientNicknameMap.get(_vClient));
+        int activePlayerIndex = controller.getTurnController().getActivePlayerIndex();
+        return activePlayerIndex >= 0 && gameTable.getIndexFromNickname(clientNicknameMap.get(_vClient)) == activePlayerIndex;
     }
 }
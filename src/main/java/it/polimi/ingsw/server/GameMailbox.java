@@ -0,0 +1,92 @@
+package it.polimi.ingsw.server;
+
+import it.polimi.ingsw.communication.ThreadPools;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Ordered mailbox of a Game.
+ * <p>
+ *     Tasks submitted to the mailbox are executed one at a time, in the order they were submitted, so the Game,
+ *     its Controller and its model never run on two threads at once and don't need to be synchronized.
+ *     A mailbox doesn't own a thread: while it has work it borrows one from a pool shared by every game, and gives it
+ *     back after at most BATCH_SIZE tasks so that a busy game can't starve the others. With virtual threads on, each
+ *     turn of a mailbox runs on its own virtual thread.
+ * </p>
+ */
+class GameMailbox implements Executor {
+
+    /**
+     * Maximum number of tasks executed before the carrier thread is handed to another mailbox
+     */
+    static final int BATCH_SIZE = 32;
+
+    private static final ExecutorService carriers = ThreadPools.isUsingVirtualThreads()
+            ? ThreadPools.newTaskExecutor()
+            : Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()), runnable -> {
+                Thread thread = new Thread(runnable, "game-mailbox");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final Queue<Runnable> tasks;
+    private final AtomicBoolean scheduled;
+    private final Executor carrier;
+
+    /**
+     * Creates a mailbox executed on the pool shared by every game
+     */
+    GameMailbox() {
+        this(carriers);
+    }
+
+    /**
+     * Creates a mailbox executed on the given carrier
+     * @param carrier executor lending its threads to this mailbox
+     */
+    GameMailbox(Executor carrier) {
+        this.carrier = carrier;
+        tasks = new ConcurrentLinkedQueue<>();
+        scheduled = new AtomicBoolean(false);
+    }
+
+    /**
+     * Enqueues a task, it will be executed after every task previously submitted to this mailbox
+     * @param task to be executed
+     */
+    @Override
+    public void execute(Runnable task) {
+        tasks.add(task);
+        if (scheduled.compareAndSet(false, true))
+            carrier.execute(this::drain);
+    }
+
+    /**
+     * @return number of tasks waiting to be executed
+     */
+    int size() {
+        return tasks.size();
+    }
+
+    private void drain() {
+        Runnable task;
+        int executed = 0;
+        while (executed < BATCH_SIZE && (task = tasks.poll()) != null) {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+            executed++;
+        }
+        scheduled.set(false);
+        // a task may have been added after the last poll but before the flag was cleared
+        if (!tasks.isEmpty() && scheduled.compareAndSet(false, true))
+            carrier.execute(this::drain);
+    }
+}
@@ -0,0 +1,195 @@
+package it.polimi.ingsw.server;
+
+import it.polimi.ingsw.communication.server.requests.RequestRequestPlayersNumber;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+
+/**
+ * Distributes the players waiting for a game among lobbies of different capacity.
+ * <p>
+ *     There is at most one open lobby for each capacity, from 1 to 4 players, and they fill concurrently: a new player
+ *     takes a seat in the fullest open lobby. When no lobby has a free seat the player either waits as a guest or,
+ *     if the players already choosing a capacity aren't enough for all the guests, he is asked the capacity of a new
+ *     lobby himself. The question is asked without blocking, so admissions never wait for an undecided player.
+ * </p>
+ * <p>
+ *     The state is guarded by a single monitor held only for bookkeeping: requests, answers and game starts happen
+ *     outside of it.
+ * </p>
+ */
+class Matchmaker {
+
+    static final int MIN_CAPACITY = 1;
+
+    static final int MAX_CAPACITY = 4;
+
+    private static final int CAPACITY_TIMEOUT = 60;
+
+    private final Server server;
+    private final HashMap<Integer, WaitingLobby> openLobbies;
+    private final HashMap<VirtualClient, WaitingLobby> lobbyByPlayer;
+    private final HashMap<VirtualClient, Integer> undecidedHosts;
+    private final LinkedHashSet<VirtualClient> guests;
+
+    /**
+     * Constructor of the class
+     * @param server starting the games
+     */
+    Matchmaker(Server server) {
+        this.server = server;
+        openLobbies = new HashMap<>();
+        lobbyByPlayer = new HashMap<>();
+        undecidedHosts = new HashMap<>();
+        guests = new LinkedHashSet<>();
+    }
+
+    /**
+     * Result of a change of the waiting players: lobbies that are ready to start and players that must be asked
+     * for a capacity
+     */
+    private static class Outcome {
+        private final ArrayList<WaitingLobby> fullLobbies = new ArrayList<>();
+        private final ArrayList<VirtualClient> newHosts = new ArrayList<>();
+    }
+
+    /**
+     * Adds a registered player to the players waiting for a game
+     * @param virtualClient player to add
+     */
+    void admit(VirtualClient virtualClient) {
+        Outcome outcome = new Outcome();
+        synchronized (this) {
+            guests.add(virtualClient);
+            rebalance(outcome);
+        }
+        complete(outcome);
+    }
+
+    /**
+     * Records the capacity chosen by a host, it is applied once his answer has been executed
+     * @param virtualClient host
+     * @param capacity chosen
+     */
+    synchronized void setCapacity(VirtualClient virtualClient, int capacity) {
+        undecidedHosts.replace(virtualClient, capacity);
+    }
+
+    /**
+     * Removes a player that disconnected while waiting
+     * @param virtualClient player to remove
+     * @return true if the player was waiting for a game
+     */
+    boolean remove(VirtualClient virtualClient) {
+        Outcome outcome = new Outcome();
+        synchronized (this) {
+            if (undecidedHosts.remove(virtualClient) == null && !guests.remove(virtualClient)) {
+                WaitingLobby lobby = lobbyByPlayer.remove(virtualClient);
+                if (lobby == null)
+                    return false;
+                lobby.removePlayer(virtualClient);
+                if (lobby.isEmpty())
+                    openLobbies.remove(lobby.getLobbyCapacity(), lobby);
+            }
+            rebalance(outcome);
+        }
+        complete(outcome);
+        return true;
+    }
+
+    /**
+     * @param virtualClient player
+     * @return true if the player is waiting for a game
+     */
+    synchronized boolean isWaiting(VirtualClient virtualClient) {
+        return lobbyByPlayer.containsKey(virtualClient) || undecidedHosts.containsKey(virtualClient)
+                || guests.contains(virtualClient);
+    }
+
+    private void askCapacity(VirtualClient host) {
+        host.sendAsync(new RequestRequestPlayersNumber(), CAPACITY_TIMEOUT).whenComplete((ignored, exception) -> {
+            if (exception != null)
+                capacityTimedOut(host);
+            else
+                capacityChosen(host);
+        });
+    }
+
+    private void capacityChosen(VirtualClient host) {
+        Outcome outcome = new Outcome();
+        synchronized (this) {
+            Integer capacity = undecidedHosts.get(host);
+            if (capacity == null)
+                return;
+            if (capacity < MIN_CAPACITY || capacity > MAX_CAPACITY) {
+                undecidedHosts.put(host, -1);
+                outcome.newHosts.add(host);
+            } else {
+                undecidedHosts.remove(host);
+                WaitingLobby lobby = openLobbies.computeIfAbsent(capacity, WaitingLobby::new);
+                seat(host, lobby, outcome);
+                rebalance(outcome);
+            }
+        }
+        complete(outcome);
+    }
+
+    private void capacityTimedOut(VirtualClient host) {
+        Outcome outcome = new Outcome();
+        synchronized (this) {
+            if (undecidedHosts.remove(host) == null)
+                return;
+            rebalance(outcome);
+        }
+        server.unregisterClientTimeoutExceeded(host);
+        complete(outcome);
+    }
+
+    /**
+     * Seats guests in the open lobbies, then makes sure enough hosts are choosing a capacity for the remaining ones
+     */
+    private void rebalance(Outcome outcome) {
+        Iterator<VirtualClient> waiting = guests.iterator();
+        WaitingLobby lobby;
+        while (waiting.hasNext() && (lobby = fullestOpenLobby()) != null) {
+            VirtualClient guest = waiting.next();
+            waiting.remove();
+            seat(guest, lobby, outcome);
+        }
+        // every host can take up to MAX_CAPACITY - 1 guests with him
+        while (guests.size() > undecidedHosts.size() * (MAX_CAPACITY - 1)) {
+            VirtualClient host = guests.iterator().next();
+            guests.remove(host);
+            undecidedHosts.put(host, -1);
+            outcome.newHosts.add(host);
+        }
+    }
+
+    private void seat(VirtualClient virtualClient, WaitingLobby lobby, Outcome outcome) {
+        lobbyByPlayer.put(virtualClient, lobby);
+        if (lobby.addPlayer(virtualClient)) {
+            openLobbies.remove(lobby.getLobbyCapacity(), lobby);
+            for (VirtualClient player : lobby.getPlayers())
+                lobbyByPlayer.remove(player);
+            outcome.fullLobbies.add(lobby);
+        }
+    }
+
+    private WaitingLobby fullestOpenLobby() {
+        WaitingLobby fullest = null;
+        for (WaitingLobby lobby : openLobbies.values()) {
+            if (fullest == null || lobby.getFreeSeats() < fullest.getFreeSeats())
+                fullest = lobby;
+        }
+        return fullest;
+    }
+
+    private void complete(Outcome outcome) {
+        for (WaitingLobby lobby : outcome.fullLobbies)
+            server.startGame(lobby.getPlayers());
+        for (VirtualClient host : outcome.newHosts)
+            askCapacity(host);
+    }
+}
@@ -0,0 +1,228 @@
+package it.polimi.ingsw.server;
+
+import it.polimi.ingsw.communication.NetworkFrames;
+import it.polimi.ingsw.communication.SerializedNetworkMessage;
+import it.polimi.ingsw.communication.client.ClientMessage;
+import it.polimi.ingsw.communication.timeout_handler.HashedWheelTimer;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Non blocking ClientConnection, reads and writes are performed by the NioSelectorLoop owning the channel
+ */
+class NioClientConnection implements ClientConnection {
+
+    private static final int READ_BUFFER_SIZE = 8192;
+    private static final long IDLE_TIMEOUT_MILLIS = 5000;
+    private static final long CLOSE_TIMEOUT_MILLIS = 1000;
+
+    private final SocketChannel channel;
+    private final NioSelectorLoop selectorLoop;
+    private final OutboundQueue outboundQueue;
+    private final AtomicBoolean closed;
+    private final boolean timeoutEnabled;
+    private HashedWheelTimer.Timeout idleCheck;
+    private ByteBuffer readBuffer;
+    private ByteBuffer[] pendingBatch;
+    private VirtualClient virtualClient;
+    private SelectionKey key;
+    private volatile long lastReadTime;
+
+    /**
+     * Constructor of the class
+     * @param channel accepted channel, already in non blocking mode
+     * @param selectorLoop loop that will serve this connection
+     * @param timeoutEnabled if true the connection is dropped after 5 seconds without incoming messages
+     */
+    NioClientConnection(SocketChannel channel, NioSelectorLoop selectorLoop, boolean timeoutEnabled) {
+        this.channel = channel;
+        this.selectorLoop = selectorLoop;
+        this.timeoutEnabled = timeoutEnabled;
+        outboundQueue = new OutboundQueue(OutboundQueue.DEFAULT_CAPACITY);
+        closed = new AtomicBoolean(false);
+        readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        lastReadTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Binds this connection to its VirtualClient and hands it to the selector loop
+     * @param virtualClient owner of this connection
+     */
+    void bind(VirtualClient virtualClient) {
+        this.virtualClient = virtualClient;
+        selectorLoop.register(this);
+    }
+
+    /**
+     * Registers the channel on the selector, called by the selector thread
+     * @param selector of the owning loop
+     * @throws ClosedChannelException if the client already left
+     */
+    void register(Selector selector) throws ClosedChannelException {
+        key = channel.register(selector, SelectionKey.OP_READ, this);
+        if (timeoutEnabled)
+            scheduleIdleCheck(IDLE_TIMEOUT_MILLIS);
+        virtualClient.start();
+    }
+
+    @Override
+    public void write(byte[] frame, Object coalescingKey) throws IOException {
+        if (closed.get())
+            throw new IOException("Connection closed");
+        if (!outboundQueue.offer(frame, coalescingKey))
+            throw new OutboundQueueFullException();
+        selectorLoop.requestWrite(this);
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return outboundQueue.size();
+    }
+
+    /**
+     * Rejects further writes and lets the selector thread close the channel once the frames already queued have been
+     * written, or closes it after CLOSE_TIMEOUT_MILLIS if the client isn't reading them
+     */
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            if (idleCheck != null)
+                idleCheck.cancel();
+            if (key == null) {
+                closeChannel();
+                return;
+            }
+            HashedWheelTimer.getInstance().schedule(this::closeChannel, CLOSE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            selectorLoop.requestWrite(this);
+        }
+    }
+
+    private void closeChannel() {
+        if (key != null)
+            key.cancel();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Reads what is available on the channel and dispatches every complete frame
+     * @throws IOException if the channel is closed or the stream is corrupted
+     */
+    void handleRead() throws IOException {
+        if (channel.read(readBuffer) == -1)
+            throw new EOFException();
+        lastReadTime = System.currentTimeMillis();
+        readBuffer.flip();
+        int missingFrameLength = 0;
+        while (readBuffer.remaining() >= NetworkFrames.HEADER_LENGTH) {
+            int length = readBuffer.getInt(readBuffer.position());
+            NetworkFrames.checkLength(length);
+            if (readBuffer.remaining() < NetworkFrames.HEADER_LENGTH + length) {
+                missingFrameLength = NetworkFrames.HEADER_LENGTH + length;
+                break;
+            }
+            readBuffer.position(readBuffer.position() + NetworkFrames.HEADER_LENGTH);
+            byte[] payload = new byte[length];
+            readBuffer.get(payload);
+            dispatch(payload);
+        }
+        readBuffer.compact();
+        if (missingFrameLength > readBuffer.capacity()) {
+            ByteBuffer biggerBuffer = ByteBuffer.allocate(missingFrameLength);
+            readBuffer.flip();
+            biggerBuffer.put(readBuffer);
+            readBuffer = biggerBuffer;
+        }
+    }
+
+    /**
+     * Writes queued frames until the queue is empty or the socket buffer is full.
+     * Every frame queued so far is written with a single gathering write, a closed connection is closed once empty
+     * @throws IOException if the channel is closed
+     */
+    void handleWrite() throws IOException {
+        while (true) {
+            if (pendingBatch == null) {
+                ArrayList<byte[]> frames = outboundQueue.drain();
+                if (frames.isEmpty()) {
+                    if (closed.get())
+                        closeChannel();
+                    else
+                        key.interestOps(SelectionKey.OP_READ);
+                    return;
+                }
+                pendingBatch = new ByteBuffer[frames.size()];
+                for (int i = 0; i < pendingBatch.length; i++)
+                    pendingBatch[i] = ByteBuffer.wrap(frames.get(i));
+            }
+            channel.write(pendingBatch);
+            if (pendingBatch[pendingBatch.length - 1].hasRemaining())
+                return;
+            pendingBatch = null;
+        }
+    }
+
+    /**
+     * Enables write notifications if frames are waiting, called by the selector thread.
+     * A closed connection with nothing left to write is closed
+     */
+    void enableWrites() {
+        if (key == null || !key.isValid())
+            return;
+        if (!outboundQueue.isEmpty())
+            key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+        else if (closed.get() && pendingBatch == null)
+            closeChannel();
+    }
+
+    /**
+     * Closes the connection without waiting for the queued frames and notifies its VirtualClient
+     */
+    void connectionLost() {
+        close();
+        closeChannel();
+        virtualClient.onConnectionLost();
+    }
+
+    /**
+     * Drops the connection if nothing has been read for IDLE_TIMEOUT_MILLIS, otherwise checks again
+     * when that time would be reached, so reads never touch the timer
+     */
+    private void checkIdle() {
+        if (closed.get())
+            return;
+        long idleMillis = System.currentTimeMillis() - lastReadTime;
+        if (idleMillis >= IDLE_TIMEOUT_MILLIS)
+            connectionLost();
+        else
+            scheduleIdleCheck(IDLE_TIMEOUT_MILLIS - idleMillis);
+    }
+
+    private void scheduleIdleCheck(long delayMillis) {
+        idleCheck = HashedWheelTimer.getInstance().schedule(this::checkIdle, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void dispatch(byte[] payload) throws IOException {
+        SerializedNetworkMessage message;
+        try {
+            message = NetworkFrames.decode(payload);
+        } catch (ClassNotFoundException e) {
+            throw new IOException(e);
+        }
+        if (!(message instanceof ClientMessage))
+            throw new IOException("Unexpected message " + message);
+        virtualClient.onMessage((ClientMessage) message);
+    }
+}
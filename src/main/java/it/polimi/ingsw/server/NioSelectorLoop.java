@@ -0,0 +1,112 @@
+package it.polimi.ingsw.server;
+
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Single thread serving the reads and writes of many NioClientConnection s through one Selector
+ */
+class NioSelectorLoop implements Runnable {
+
+    private final Selector selector;
+    private final Queue<NioClientConnection> pendingRegistrations;
+    private final Queue<NioClientConnection> pendingWrites;
+    private volatile boolean running;
+
+    /**
+     * Constructor of the class
+     * @throws IOException if the selector can't be opened
+     */
+    NioSelectorLoop() throws IOException {
+        selector = Selector.open();
+        pendingRegistrations = new ConcurrentLinkedQueue<>();
+        pendingWrites = new ConcurrentLinkedQueue<>();
+        running = true;
+    }
+
+    /**
+     * Hands a new connection to this loop, safe to call from any thread
+     * @param connection to be served
+     */
+    void register(NioClientConnection connection) {
+        pendingRegistrations.add(connection);
+        selector.wakeup();
+    }
+
+    /**
+     * Notifies the loop that connection has frames to write, safe to call from any thread
+     * @param connection with pending frames
+     */
+    void requestWrite(NioClientConnection connection) {
+        pendingWrites.add(connection);
+        selector.wakeup();
+    }
+
+    /**
+     * Stops the loop and closes the selector
+     */
+    void shutdown() {
+        running = false;
+        selector.wakeup();
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            try {
+                selector.select();
+            } catch (IOException e) {
+                e.printStackTrace();
+                break;
+            }
+            registerPendingConnections();
+            enablePendingWrites();
+            handleSelectedKeys();
+        }
+        try {
+            selector.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void registerPendingConnections() {
+        NioClientConnection connection;
+        while ((connection = pendingRegistrations.poll()) != null) {
+            try {
+                connection.register(selector);
+            } catch (ClosedChannelException e) {
+                connection.connectionLost();
+            }
+        }
+    }
+
+    private void enablePendingWrites() {
+        NioClientConnection connection;
+        while ((connection = pendingWrites.poll()) != null)
+            connection.enableWrites();
+    }
+
+    private void handleSelectedKeys() {
+        Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+        while (iterator.hasNext()) {
+            SelectionKey key = iterator.next();
+            iterator.remove();
+            NioClientConnection connection = (NioClientConnection) key.attachment();
+            try {
+                if (key.isValid() && key.isReadable())
+                    connection.handleRead();
+                if (key.isValid() && key.isWritable())
+                    connection.handleWrite();
+            } catch (IOException | CancelledKeyException e) {
+                connection.connectionLost();
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package it.polimi.ingsw.server;
+
+import it.polimi.ingsw.communication.ThreadPools;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Scanner;
+import java.util.concurrent.ExecutorService;
+
+import static java.lang.System.exit;
+
+/**
+ * Class to handle new socket connections without dedicating a thread to each of them.
+ * <p>
+ *     Accepted channels are spread over a fixed number of NioSelectorLoop s, so the number of threads
+ *     used for networking does not grow with the number of connected clients.
+ * </p>
+ */
+public class NioSocketServer implements Runnable {
+
+    private ServerSocketChannel serverChannel;
+    private final Server server;
+    private final ExecutorService executor;
+    private final NioSelectorLoop[] selectorLoops;
+    private Integer nextClientID;
+    private int nextSelectorLoop;
+    private volatile boolean quit = false;
+
+    /**
+     * Constructor of the class
+     * @param port port of the server
+     * @param server runner of the class
+     */
+    public NioSocketServer(Integer port, Server server) {
+        this.server = server;
+        nextClientID = 0;
+        executor = ThreadPools.newTaskExecutor();
+        selectorLoops = new NioSelectorLoop[Math.max(1, Runtime.getRuntime().availableProcessors() / 2)];
+        try {
+            for (int i = 0; i < selectorLoops.length; i++)
+                selectorLoops[i] = new NioSelectorLoop();
+            serverChannel = ServerSocketChannel.open();
+            serverChannel.bind(new InetSocketAddress(port));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Accepts connections of the new clients
+     */
+    @Override
+    public void run() {
+        System.out.println("Server is now open (nio, " + selectorLoops.length + " selector threads)");
+        for (NioSelectorLoop selectorLoop : selectorLoops)
+            executor.submit(selectorLoop);
+        executor.submit(this::quitHandler);
+        while (!quit) {
+            try {
+                SocketChannel channel = serverChannel.accept();
+                channel.configureBlocking(false);
+                NioSelectorLoop selectorLoop = selectorLoops[nextSelectorLoop];
+                nextSelectorLoop = (nextSelectorLoop + 1) % selectorLoops.length;
+                NioClientConnection connection = new NioClientConnection(channel, selectorLoop, server.timeoutEnabled);
+                VirtualClient virtualClient = new VirtualClient(connection, server, nextClientID);
+                System.out.println("Player " + virtualClient + " is now connected to the server");
+                nextClientID++;
+                connection.bind(virtualClient);
+            } catch (ClosedChannelException ex) {
+                System.out.println("Shutting down server");
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        for (NioSelectorLoop selectorLoop : selectorLoops)
+            selectorLoop.shutdown();
+        exit(0);
+    }
+
+    /**
+     * Handles server shutdown
+     */
+    private void quitHandler() {
+        final Scanner in = new Scanner(System.in);
+        while(!quit){
+            if(in.nextLine().equals("quit")){
+                quit = true;
+                try {
+                    server.disconnectAllPlayers();
+                    serverChannel.close();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package it.polimi.ingsw.server;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * Bounded queue of the frames waiting to be written on a ClientConnection.
+ * <p>
+ *     Frames may carry a coalescing key (see ServerMessage.getCoalescingKey): a frame which has not been written yet
+ *     is dropped when a newer frame with the same key is offered, so a lagging client receives only the latest
+ *     state instead of every intermediate one. The newer frame is appended at the end of the queue, so the order
+ *     with respect to the other messages is preserved.
+ * </p>
+ */
+class OutboundQueue {
+
+    /**
+     * Capacity used by the connections, a client which is this far behind is considered lost
+     */
+    static final int DEFAULT_CAPACITY = 256;
+
+    private final int capacity;
+    private final ArrayDeque<Entry> entries;
+    private final HashMap<Object, Entry> pendingByKey;
+
+    /**
+     * Constructor of the class
+     * @param capacity maximum number of frames waiting to be written
+     */
+    OutboundQueue(int capacity) {
+        this.capacity = capacity;
+        entries = new ArrayDeque<>();
+        pendingByKey = new HashMap<>();
+    }
+
+    /**
+     * Adds a frame at the end of the queue, dropping the pending frame with the same coalescingKey if any
+     * @param frame to be written
+     * @param coalescingKey key of the frame, null if the frame can't be dropped
+     * @return false if the queue is full and the frame has not been added
+     */
+    synchronized boolean offer(byte[] frame, Object coalescingKey) {
+        Entry superseded = coalescingKey == null ? null : pendingByKey.remove(coalescingKey);
+        if (superseded != null)
+            entries.remove(superseded);
+        else if (entries.size() >= capacity)
+            return false;
+        Entry entry = new Entry(frame);
+        entries.add(entry);
+        if (coalescingKey != null)
+            pendingByKey.put(coalescingKey, entry);
+        return true;
+    }
+
+    /**
+     * Removes every queued frame, so that they can be written with a single flush
+     * @return the frames in order, empty if nothing is queued
+     */
+    synchronized ArrayList<byte[]> drain() {
+        ArrayList<byte[]> batch = new ArrayList<>(entries.size());
+        for (Entry entry : entries)
+            batch.add(entry.frame);
+        entries.clear();
+        pendingByKey.clear();
+        return batch;
+    }
+
+    /**
+     * @return number of frames waiting to be written
+     */
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    private static class Entry {
+
+        private final byte[] frame;
+
+        private Entry(byte[] frame) {
+            this.frame = frame;
+        }
+    }
+}
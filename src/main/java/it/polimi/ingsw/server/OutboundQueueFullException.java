@@ -0,0 +1,12 @@
+package it.polimi.ingsw.server;
+
+import java.io.IOException;
+
+/**
+ * Thrown if a client doesn't read its messages fast enough and its OutboundQueue is full
+ */
+public class OutboundQueueFullException extends IOException {
+    public OutboundQueueFullException(){
+        super("The client is not reading its messages, outbound queue is full");
+    }
+}
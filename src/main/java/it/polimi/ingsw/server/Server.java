@@ -1,13 +1,13 @@
 package it.polimi.ingsw.server;
 
+import it.polimi.ingsw.communication.NetworkFrames;
+import it.polimi.ingsw.communication.ThreadPools;
 import it.polimi.ingsw.communication.server.KillConnectionMessage;
 import it.polimi.ingsw.communication.server.responses.ResponseClientAccepted;
 import it.polimi.ingsw.communication.server.responses.ResponseGameHasStarted;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 import static java.lang.System.exit;
 
@@ -16,18 +16,11 @@ import static java.lang.System.exit;
  */
 public class Server {
     final Boolean debug;
-    private final HashMap<String, Game> disconnectedNicknamesGameMap;
     final Boolean timeoutEnabled;
-    private SocketServer socketServer;
-    private final HashMap<Integer, VirtualClient> virtualClientIDMap;
-    private final HashMap<VirtualClient, Game> gameMap;
-    private final HashMap<VirtualClient, String> clientsNickname;
-    private final HashMap<Game, Integer> gamesID;
-    private int nextGameID;
-    private WaitingLobby lobby;
-    private Game currentGame;
+    private Runnable socketServer;
+    private final SessionRegistry sessions;
+    private final Matchmaker matchmaker;
     private final ExecutorService executors;
-    private final Object lobbyLocked;
 
     /**
      * Constructor of the class
@@ -36,18 +29,9 @@ public class Server {
     public Server(Boolean debug, Boolean timeoutEnabled){
         this.debug = debug;
         this.timeoutEnabled = timeoutEnabled;
-        nextGameID = 1;
-        gamesID = new HashMap<>();
-        currentGame = new Game(debug, this);
-        lobby = new WaitingLobby(this);
-        clientsNickname = new HashMap<>();
-        gameMap = new HashMap<>();
-        virtualClientIDMap = new HashMap<>();
-        executors = Executors.newCachedThreadPool();
-        gamesID.put(currentGame, nextGameID);
-        nextGameID++;
-        lobbyLocked = new Object();
-        disconnectedNicknamesGameMap = new HashMap<>();
+        sessions = new SessionRegistry();
+        matchmaker = new Matchmaker(this);
+        executors = ThreadPools.newTaskExecutor();
     }
 
     /* Single Player Server
@@ -65,56 +49,62 @@ public class Server {
      * @throws NicknameAlreadyInUseException if another client has already taken this name
      */
     void registerClient(VirtualClient virtualClient, String nickname) throws NicknameAlreadyInUseException {
-        if(disconnectedNicknamesGameMap.containsKey(nickname)){
-            resumePlayer(nickname, disconnectedNicknamesGameMap.get(nickname), virtualClient);
+        Game disconnectedGame = sessions.resume(nickname, virtualClient);
+        if(disconnectedGame != null){
+            resumePlayer(nickname, disconnectedGame, virtualClient);
             return;
         }
-        if(clientsNickname.containsValue(nickname)) throw new NicknameAlreadyInUseException();
-        virtualClientIDMap.put(virtualClient.getID(), virtualClient);
-        clientsNickname.put(virtualClient, nickname);
+        if(!sessions.claim(nickname, virtualClient)) throw new NicknameAlreadyInUseException();
         virtualClient.send(new ResponseClientAccepted());
-        synchronized (lobbyLocked) {
-            lobby.addPlayer(virtualClient);
-        }
+        matchmaker.admit(virtualClient);
     }
 
     /**
-     * Set the size of the lobby
-     * @param currentLobbySize size
+     * Set the size of the lobby chosen by a player
+     * @param virtualClient player that was asked the size
+     * @param lobbySize size
      */
-    void setCurrentLobbySize(Integer currentLobbySize) {
-        lobby.setLobbyCapacity(currentLobbySize);
+    void setLobbySize(VirtualClient virtualClient, Integer lobbySize) {
+        matchmaker.setCapacity(virtualClient, lobbySize);
     }
 
     Game getGameByPlayerID(Integer playerID){
-        return gameMap.get(virtualClientIDMap.get(playerID));
+        return sessions.getGameByClientID(playerID);
     }
 
     public Integer getIDbyGame(Game game){
-        return gamesID.get(game);
+        return sessions.getGameID(game);
     }
 
     /**
-     * Starts the current lobby in a new game and prepares a new empty lobby for players to join
+     * Removes a game that has ended, the nicknames of its players can be used again
+     * @param game ended
      */
-    public void startGame() {
-        ArrayList<VirtualClient> players = lobby.getPlayers();
+    void gameEnded(Game game) {
+        System.out.println("Game " + game + " has ended");
+        sessions.removeGame(game);
+    }
+
+    /**
+     * Starts a new game with the given players, called by the Matchmaker once a lobby is full
+     * @param players of the game, in turn order
+     */
+    void startGame(ArrayList<VirtualClient> players) {
         ArrayList<String> playersNickname = new ArrayList<>();
         for (VirtualClient player :
                 players) {
-            playersNickname.add(clientsNickname.get(player));
+            playersNickname.add(sessions.getNickname(player));
         }
-        currentGame.addAllPlayers(players, playersNickname);
-        executors.submit(currentGame);
+        Game game = new Game(debug, this);
+        int gameID = sessions.registerGame(game);
+        game.addAllPlayers(players, playersNickname);
+        sessions.startGame(players, game);
+        game.execute(game);
+        byte[] gameHasStarted = VirtualClient.encode(new ResponseGameHasStarted(gameID, playersNickname));
         for (VirtualClient player :
                 players) {
-            gameMap.put(player, currentGame);
+            player.sendFrame(gameHasStarted, null);
         }
-        lobby.sendAll(new ResponseGameHasStarted(nextGameID - 1, playersNickname));
-        currentGame = new Game(debug, this);
-        gamesID.put(currentGame, nextGameID);
-        nextGameID++;
-        lobby = new WaitingLobby(this);
     }
 
     /**
@@ -133,8 +123,7 @@ public class Server {
     private void unregisterClient(VirtualClient virtualClient) {
         virtualClient.send(new KillConnectionMessage());
         virtualClient.close();
-        virtualClientIDMap.remove(virtualClient.getID());
-        clientsNickname.remove(virtualClient);
+        sessions.release(virtualClient);
     }
 
     /**
@@ -148,6 +137,7 @@ public class Server {
     public static void main(String[] args) {
         boolean debug = false;
         boolean timeoutEnabled = true;
+        boolean nio = false;
         int port = 51214;
         for (int i = 0; i < args.length; i++) {
             String arg = args[i];
@@ -156,6 +146,9 @@ public class Server {
                     System.out.println("--d to start in debug");
                     System.out.println("--no-timeout to run server with no timeouts");
                     System.out.println("--port to specify the port the server should be listening on");
+                    System.out.println("--nio to serve all clients from a few selector threads");
+                    System.out.println("--java-serialization to send messages with Java serialization");
+                    System.out.println("--virtual-threads to run the tasks of the server on virtual threads");
                     return;
                 }
                 case "--d" -> {
@@ -166,6 +159,20 @@ public class Server {
                     System.out.println("running with timeout disabled");
                     timeoutEnabled = false;
                 }
+                case "--nio" -> {
+                    System.out.println("nio transport on");
+                    nio = true;
+                }
+                case "--java-serialization" -> {
+                    System.out.println("binary codec off");
+                    NetworkFrames.useJavaSerialization();
+                }
+                case "--virtual-threads" -> {
+                    if (ThreadPools.useVirtualThreads())
+                        System.out.println("virtual threads on");
+                    else
+                        System.out.println("virtual threads are not supported by this JVM, using platform threads");
+                }
                 case "--port" -> {
                     if(args.length - 1 < i + 1){
                         System.out.println("you need to input a port when using the tag --port");
@@ -188,7 +195,7 @@ public class Server {
         if (debug)
             System.out.println("Server is running in debug!");
         Server server = new Server(debug, timeoutEnabled);
-        server.socketServer = new SocketServer(port, server);
+        server.socketServer = nio ? new NioSocketServer(port, server) : new SocketServer(port, server);
         Thread thread = new Thread(server.socketServer);
         thread.start();
     }
@@ -200,14 +207,12 @@ public class Server {
      * @param nickname of the client
      */
     public void disconnectClient(VirtualClient virtualClient, Game game, String nickname) {
-        if (isPlayerWaiting(virtualClient)){
+        if (matchmaker.remove(virtualClient)){
             System.out.println("Player " + nickname + " disconnected from lobby");
             unregisterClient(virtualClient);
-            lobby.removePlayer(virtualClient);
-        } else {
+        } else if (game != null && sessions.markDisconnected(virtualClient)) {
             System.out.println("Player " + nickname + " disconnected");
-            disconnectedNicknamesGameMap.put(nickname, game);
-            game.notifyDisconnectionOfClient(virtualClient);
+            game.execute(() -> game.notifyDisconnectionOfClient(virtualClient));
         }
     }
 
@@ -219,8 +224,7 @@ public class Server {
      */
     private void resumePlayer(String nickname, Game game, VirtualClient virtualClient) {
         System.out.println("Player " + nickname + " reconnected");
-        disconnectedNicknamesGameMap.remove(nickname);
-        game.notifyReconnection(nickname, virtualClient);
+        game.execute(() -> game.notifyReconnection(nickname, virtualClient));
     }
 
     /**
@@ -229,7 +233,7 @@ public class Server {
      * @return true if virtualClient is waiting, false if he is playing or otherwise
      */
     public boolean isPlayerWaiting(VirtualClient virtualClient){
-        return lobby.getPlayers().contains(virtualClient);
+        return matchmaker.isWaiting(virtualClient);
     }
 
     /**
@@ -238,7 +242,8 @@ public class Server {
      * @return true if he is not in the disconnected list, true otherwise
      */
     public boolean isNotDisconnected(String nickname) {
-        return disconnectedNicknamesGameMap.get(nickname) == null;
+        SessionRegistry.Session session = sessions.getSession(nickname);
+        return session == null || !session.isDisconnected();
     }
 
     /**
@@ -246,7 +251,7 @@ public class Server {
      */
     public void disconnectAllPlayers() {
         for (VirtualClient client :
-                clientsNickname.keySet()) {
+                sessions.getClients()) {
             unregisterClient(client);
         }
     }
@@ -0,0 +1,237 @@
+package it.polimi.ingsw.server;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread safe registry of the players and games of a Server.
+ * <p>
+ *     Every registered player owns a Session, indexed both by nickname and by client ID. A nickname is claimed
+ *     atomically when the player registers and stays reserved while the player is disconnected from a running game,
+ *     so that he can be resumed when he reconnects. Games are indexed by their ID and removed once they have ended,
+ *     releasing the nicknames of their players.
+ * </p>
+ */
+class SessionRegistry {
+
+    /**
+     * State of a player registered in the server
+     */
+    static class Session {
+        private final String nickname;
+        private volatile VirtualClient virtualClient;
+        private volatile Game game;
+        private volatile boolean disconnected;
+
+        private Session(String nickname, VirtualClient virtualClient) {
+            this.nickname = nickname;
+            this.virtualClient = virtualClient;
+        }
+
+        String getNickname() {
+            return nickname;
+        }
+
+        VirtualClient getVirtualClient() {
+            return virtualClient;
+        }
+
+        Game getGame() {
+            return game;
+        }
+
+        boolean isDisconnected() {
+            return disconnected;
+        }
+    }
+
+    private final ConcurrentHashMap<String, Session> sessionsByNickname;
+    private final ConcurrentHashMap<Integer, Session> sessionsByClientID;
+    private final ConcurrentHashMap<Integer, Game> gamesByID;
+    private final ConcurrentHashMap<Game, Integer> idsByGame;
+    private final ConcurrentHashMap<Game, ArrayList<Session>> sessionsByGame;
+    private final AtomicInteger nextGameID;
+
+    SessionRegistry() {
+        sessionsByNickname = new ConcurrentHashMap<>();
+        sessionsByClientID = new ConcurrentHashMap<>();
+        gamesByID = new ConcurrentHashMap<>();
+        idsByGame = new ConcurrentHashMap<>();
+        sessionsByGame = new ConcurrentHashMap<>();
+        nextGameID = new AtomicInteger(1);
+    }
+
+    /**
+     * Atomically reserves a nickname for a client
+     * @param nickname chosen by the client
+     * @param virtualClient client registering
+     * @return false if the nickname is already taken
+     */
+    boolean claim(String nickname, VirtualClient virtualClient) {
+        Session session = new Session(nickname, virtualClient);
+        if (sessionsByNickname.putIfAbsent(nickname, session) != null)
+            return false;
+        sessionsByClientID.put(virtualClient.getID(), session);
+        return true;
+    }
+
+    /**
+     * Atomically hands the session of a disconnected player over to the client he reconnected with
+     * @param nickname chosen by the client
+     * @param virtualClient client registering
+     * @return the game of the disconnected player, null if nickname doesn't belong to a disconnected player
+     */
+    Game resume(String nickname, VirtualClient virtualClient) {
+        Session[] resumed = new Session[1];
+        sessionsByNickname.computeIfPresent(nickname, (key, session) -> {
+            if (session.disconnected) {
+                sessionsByClientID.remove(session.virtualClient.getID(), session);
+                session.virtualClient = virtualClient;
+                session.disconnected = false;
+                sessionsByClientID.put(virtualClient.getID(), session);
+                resumed[0] = session;
+            }
+            return session;
+        });
+        return resumed[0] != null ? resumed[0].game : null;
+    }
+
+    /**
+     * Removes a client and releases its nickname
+     * @param virtualClient to be removed
+     */
+    void release(VirtualClient virtualClient) {
+        Session session = sessionsByClientID.remove(virtualClient.getID());
+        if (session != null)
+            sessionsByNickname.remove(session.nickname, session);
+    }
+
+    /**
+     * Keeps the nickname of a player who lost his connection during a game, so that he can be resumed
+     * @param virtualClient client that disconnected
+     * @return false if the client isn't playing a registered game
+     */
+    boolean markDisconnected(VirtualClient virtualClient) {
+        Session session = sessionsByClientID.get(virtualClient.getID());
+        if (session == null || session.game == null)
+            return false;
+        session.disconnected = true;
+        return true;
+    }
+
+    /**
+     * @param virtualClient registered client
+     * @return the session of the client, null if it isn't registered
+     */
+    Session getSession(VirtualClient virtualClient) {
+        return sessionsByClientID.get(virtualClient.getID());
+    }
+
+    /**
+     * @param nickname of a player
+     * @return the session of the player, null if no player has this nickname
+     */
+    Session getSession(String nickname) {
+        return sessionsByNickname.get(nickname);
+    }
+
+    /**
+     * @param virtualClient registered client
+     * @return nickname of the client, null if it isn't registered
+     */
+    String getNickname(VirtualClient virtualClient) {
+        Session session = sessionsByClientID.get(virtualClient.getID());
+        return session != null ? session.nickname : null;
+    }
+
+    /**
+     * @param clientID ID of a registered client
+     * @return the game the client is playing, null if he isn't playing
+     */
+    Game getGameByClientID(Integer clientID) {
+        Session session = sessionsByClientID.get(clientID);
+        return session != null ? session.game : null;
+    }
+
+    /**
+     * @param nickname of a player
+     * @return true if the player is registered and connected
+     */
+    boolean isConnected(String nickname) {
+        Session session = sessionsByNickname.get(nickname);
+        return session != null && !session.disconnected;
+    }
+
+    /**
+     * @return every registered client
+     */
+    ArrayList<VirtualClient> getClients() {
+        ArrayList<VirtualClient> clients = new ArrayList<>();
+        for (Session session : sessionsByClientID.values())
+            clients.add(session.virtualClient);
+        return clients;
+    }
+
+    /**
+     * Assigns a new ID to a game
+     * @param game to be registered
+     * @return ID of the game
+     */
+    int registerGame(Game game) {
+        int gameID = nextGameID.getAndIncrement();
+        gamesByID.put(gameID, game);
+        idsByGame.put(game, gameID);
+        return gameID;
+    }
+
+    /**
+     * Binds the sessions of the given clients to the game they are starting
+     * @param players clients playing the game
+     * @param game registered game
+     */
+    void startGame(ArrayList<VirtualClient> players, Game game) {
+        ArrayList<Session> sessions = new ArrayList<>(players.size());
+        for (VirtualClient player : players) {
+            Session session = sessionsByClientID.get(player.getID());
+            if (session != null) {
+                session.game = game;
+                sessions.add(session);
+            }
+        }
+        sessionsByGame.put(game, sessions);
+    }
+
+    /**
+     * Removes an ended game together with the sessions of its players, releasing their nicknames
+     * @param game ended
+     */
+    void removeGame(Game game) {
+        Integer gameID = idsByGame.remove(game);
+        if (gameID != null)
+            gamesByID.remove(gameID);
+        ArrayList<Session> sessions = sessionsByGame.remove(game);
+        if (sessions == null)
+            return;
+        for (Session session : sessions) {
+            sessionsByNickname.remove(session.nickname, session);
+            sessionsByClientID.remove(session.virtualClient.getID(), session);
+        }
+    }
+
+    /**
+     * @param game registered game
+     * @return ID of the game, null if it isn't registered
+     */
+    Integer getGameID(Game game) {
+        return idsByGame.get(game);
+    }
+
+    /**
+     * @param gameID ID of a game
+     * @return the game, null if no running game has this ID
+     */
+    Game getGame(Integer gameID) {
+        return gamesByID.get(gameID);
+    }
+}
@@ -0,0 +1,133 @@
+package it.polimi.ingsw.server;
+
+import it.polimi.ingsw.communication.NetworkFrames;
+import it.polimi.ingsw.communication.ThreadPools;
+import it.polimi.ingsw.communication.SerializedNetworkMessage;
+import it.polimi.ingsw.communication.client.ClientMessage;
+import it.polimi.ingsw.communication.timeout_handler.HashedWheelTimer;
+
+import java.io.*;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Blocking ClientConnection, one thread per connection is parked reading the socket.
+ * Queued frames are written by a task of a shared pool, which runs only while the OutboundQueue is not empty.
+ */
+class SocketClientConnection implements ClientConnection {
+
+    private static final ExecutorService writers = ThreadPools.newTaskExecutor();
+    private static final long CLOSE_TIMEOUT_MILLIS = 1000;
+
+    private final Socket socket;
+    private final DataInputStream inputStream;
+    private final DataOutputStream outputStream;
+    private final OutboundQueue outboundQueue;
+    private final AtomicBoolean writerScheduled;
+    private volatile boolean closed;
+
+    /**
+     * Constructor of the class
+     * @param socket accepted by SocketServer
+     * @param timeoutEnabled if true the connection is dropped after 5 seconds without incoming messages
+     * @throws IOException if the socket streams are not available
+     */
+    SocketClientConnection(Socket socket, boolean timeoutEnabled) throws IOException {
+        this.socket = socket;
+        if (timeoutEnabled)
+            socket.setSoTimeout(5000);
+        outputStream = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        inputStream = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        outboundQueue = new OutboundQueue(OutboundQueue.DEFAULT_CAPACITY);
+        writerScheduled = new AtomicBoolean(false);
+    }
+
+    /**
+     * Reads frames from the socket until the client disconnects, handing every message to virtualClient
+     * @param virtualClient owner of this connection
+     */
+    void listen(VirtualClient virtualClient) {
+        virtualClient.start();
+        try {
+            while (virtualClient.isConnected()) {
+                SerializedNetworkMessage message = NetworkFrames.read(inputStream);
+                if (!(message instanceof ClientMessage))
+                    throw new IOException("Unexpected message " + message);
+                virtualClient.onMessage((ClientMessage) message);
+            }
+            close();
+        } catch (IOException | ClassNotFoundException e) {
+            virtualClient.onConnectionLost();
+        }
+    }
+
+    @Override
+    public void write(byte[] frame, Object coalescingKey) throws IOException {
+        if (closed)
+            throw new IOException("Connection closed");
+        if (!outboundQueue.offer(frame, coalescingKey))
+            throw new OutboundQueueFullException();
+        if (writerScheduled.compareAndSet(false, true))
+            writers.execute(this::drainOutboundQueue);
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return outboundQueue.size();
+    }
+
+    /**
+     * Writes every queued frame with a single flush, until the queue is empty.
+     * Once the connection is closed the socket is closed as soon as the queue has been flushed
+     */
+    private void drainOutboundQueue() {
+        try {
+            while (true) {
+                ArrayList<byte[]> batch = outboundQueue.drain();
+                if (batch.isEmpty()) {
+                    if (closed) {
+                        closeSocket();
+                        return;
+                    }
+                    writerScheduled.set(false);
+                    // a frame queued, or a close, after the drain may have found the writer still scheduled
+                    if ((outboundQueue.isEmpty() && !closed) || !writerScheduled.compareAndSet(false, true))
+                        return;
+                    continue;
+                }
+                for (byte[] frame : batch)
+                    outputStream.write(frame);
+                outputStream.flush();
+            }
+        } catch (IOException e) {
+            // the reader notices the closed socket and notifies the VirtualClient
+            closed = true;
+            closeSocket();
+        }
+    }
+
+    /**
+     * Rejects further writes and closes the socket once the frames already queued have been written,
+     * or after CLOSE_TIMEOUT_MILLIS if the client isn't reading them
+     */
+    @Override
+    public void close() {
+        if (closed)
+            return;
+        closed = true;
+        HashedWheelTimer.getInstance().schedule(this::closeSocket, CLOSE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        if (writerScheduled.compareAndSet(false, true))
+            writers.execute(this::drainOutboundQueue);
+    }
+
+    private void closeSocket() {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -1,11 +1,12 @@
 package it.polimi.ingsw.server;
 
+import it.polimi.ingsw.communication.ThreadPools;
+
 import java.io.IOException;
 import java.net.ServerSocket;
 import java.net.SocketException;
 import java.util.Scanner;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 import static java.lang.System.exit;
 
@@ -28,7 +29,7 @@ public class SocketServer implements Runnable{
     public SocketServer(Integer port, Server server) {
         this.server = server;
         nextClientID = 0;
-        executor = Executors.newCachedThreadPool();
+        executor = ThreadPools.newTaskExecutor();
         try {
             serverSocket = new ServerSocket(port);
         } catch (IOException e) {
@@ -45,10 +46,11 @@ public class SocketServer implements Runnable{
         executor.submit(this::quitHandler);
         while (!quit) {
             try {
-                VirtualClient virtualClient = new VirtualClient(serverSocket.accept(), server, nextClientID);
+                SocketClientConnection connection = new SocketClientConnection(serverSocket.accept(), server.timeoutEnabled);
+                VirtualClient virtualClient = new VirtualClient(connection, server, nextClientID);
                 System.out.println("Player " + virtualClient + " is now connected to the server");
                 nextClientID++;
-                executor.submit(virtualClient);
+                executor.submit(() -> connection.listen(virtualClient));
             } catch (SocketException ex) {
                 System.out.println("Shutting down server");
             } catch (IOException e) {
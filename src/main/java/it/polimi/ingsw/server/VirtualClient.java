@@ -1,46 +1,53 @@
 package it.polimi.ingsw.server;
 
 import it.polimi.ingsw.client.RequestTimedOutException;
+import it.polimi.ingsw.communication.NetworkFrames;
+import it.polimi.ingsw.communication.ThreadPools;
+import it.polimi.ingsw.communication.client.ClientKeepAlive;
 import it.polimi.ingsw.communication.server.ServerKeepAlive;
+import it.polimi.ingsw.communication.timeout_handler.HashedWheelTimer;
 import it.polimi.ingsw.communication.timeout_handler.ServerTimeoutHandler;
 import it.polimi.ingsw.communication.client.ClientMessage;
 import it.polimi.ingsw.communication.client.ClientResponse;
 import it.polimi.ingsw.communication.server.ServerMessage;
 
-import java.io.*;
-import java.net.Socket;
+import java.io.IOException;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Class to handler a client server-side
  */
-public class VirtualClient implements Runnable {
+public class VirtualClient {
     private final Integer clientID;
-    private final Socket clientSocket;
+    private final ClientConnection connection;
     private final Server server;
     private final ServerTimeoutHandler timeoutHandler;
     private final VirtualClientCommandDispatcher clientCommandDispatcher;
-    private Game game;
-    private ObjectInputStream inputStream;
-    private ObjectOutputStream outputStream;
-    private boolean connected;
+    private volatile Game game;
+    private final AtomicBoolean connected;
     private final ExecutorService executors;
-    private ScheduledFuture<?> heartBeatService;
+    private HashedWheelTimer.Timeout heartBeatService;
     private GameState gameState;
 
+    /**
+     * NotifyModelChanged parts pushed to the client, see RequestSubscribe
+     */
+    private volatile int subscribedTopics;
+
     /**
      * Constructor of the class
      *
-     * @param socket   of this Client
-     * @param server   where the client is connected
-     * @param clientID unique ID of this client
+     * @param connection transport towards this Client
+     * @param server     where the client is connected
+     * @param clientID   unique ID of this client
      */
-    public VirtualClient(Socket socket, Server server, Integer clientID) {
-        this.clientSocket = socket;
+    public VirtualClient(ClientConnection connection, Server server, Integer clientID) {
+        this.connection = connection;
         this.server = server;
         this.clientID = clientID;
-        connected = true;
-        executors = Executors.newCachedThreadPool();
+        connected = new AtomicBoolean(true);
+        executors = ThreadPools.newTaskExecutor();
         timeoutHandler = new ServerTimeoutHandler(this);
         clientCommandDispatcher = new VirtualClientCommandDispatcher(this);
         gameState = GameState.Active;
@@ -52,14 +59,49 @@ public class VirtualClient implements Runnable {
      * @param serverMessage message to be sent
      */
     public void send(ServerMessage serverMessage) {
-        synchronized (this) {
-            try {
-                outputStream.reset();
-                outputStream.writeObject(serverMessage);
-                outputStream.flush();
-            } catch (IOException e) {
-                System.out.println("Couldn't send " + serverMessage + "to " + game.getNicknameByClient(this));
-            }
+        sendFrame(encode(serverMessage), serverMessage.getCoalescingKey());
+    }
+
+    /**
+     * Send a frame already encoded with encode to the actual Client, used to broadcast a message
+     * serializing it only once. The frame is queued and written by the connection, so the caller is never
+     * blocked by a slow client; a client whose queue is full is disconnected
+     *
+     * @param frame         encoded message, shared between recipients and never modified
+     * @param coalescingKey key of the encoded message, see ServerMessage.getCoalescingKey
+     */
+    void sendFrame(byte[] frame, Object coalescingKey) {
+        if (frame == null)
+            return;
+        try {
+            connection.write(frame, coalescingKey);
+        } catch (OutboundQueueFullException e) {
+            System.out.println("Client " + getNickname() + " is too slow, disconnecting it");
+            onConnectionLost();
+        } catch (IOException e) {
+            System.out.println("Couldn't send frame to " + getNickname());
+        }
+    }
+
+    /**
+     * @return number of messages waiting to be written to the client
+     */
+    public int getOutboundQueueDepth() {
+        return connection.getQueueDepth();
+    }
+
+    /**
+     * Encodes a message in a frame that can be passed to sendFrame of many VirtualClient s
+     *
+     * @param serverMessage message to be encoded
+     * @return the frame, null if serverMessage can't be encoded
+     */
+    static byte[] encode(ServerMessage serverMessage) {
+        try {
+            return NetworkFrames.encode(serverMessage);
+        } catch (IOException e) {
+            System.out.println("Couldn't encode " + serverMessage);
+            return null;
         }
     }
 
@@ -81,50 +123,68 @@ public class VirtualClient implements Runnable {
     }
 
     /**
-     * Handles the input stream from the client and the TimeoutHandler
+     * Send Message without waiting for the answer
+     *
+     * @param serverMessage    message to be sent
+     * @param timeoutInSeconds time before the returned future fails with a TimeoutException, -1 to wait indefinitely
+     * @return future completed once the answer of the client has been executed
      */
-    public void run() {
-        try {
-            if(server.timeoutEnabled)
-                clientSocket.setSoTimeout(5000);
-            ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
-            heartBeatService = executor.scheduleAtFixedRate(this::startHeartBeat, 500, 1000, TimeUnit.MILLISECONDS);
-            outputStream = new ObjectOutputStream(new BufferedOutputStream(clientSocket.getOutputStream()));
-            inputStream = new ObjectInputStream(new BufferedInputStream(clientSocket.getInputStream()));
-            ClientMessage inputClass;
-            while (connected) {
-                //           System.out.println("Client" + this +" is waiting...");
-                inputClass = (ClientMessage) inputStream.readObject();
-                ClientMessage finalInputClass = inputClass;
-                //           System.out.println("Reading" + inputClass);
+    public CompletableFuture<Void> sendAsync(ServerMessage serverMessage, int timeoutInSeconds) {
+        return timeoutHandler.sendAsync(serverMessage, timeoutInSeconds);
+    }
+
+    /**
+     * Starts the heartbeat towards the client, called by the connection once it is ready to write
+     */
+    void start() {
+        heartBeatService = HashedWheelTimer.getInstance().scheduleAtFixedRate(this::startHeartBeat, 500, 1000, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Handles a message received by the connection.
+     * Once the client has joined a game the message is enqueued in the game's mailbox, before that it is executed
+     * on this client's executor; either way the calling thread is never blocked
+     *
+     * @param clientMessage message read from the client
+     */
+    void onMessage(ClientMessage clientMessage) {
+        if (clientMessage instanceof ClientKeepAlive)
+            return;
+        Game currentGame = game;
+        Executor executor = currentGame != null ? currentGame::execute : executors;
+        if (clientMessage instanceof ClientResponse) {
+            executor.execute(() -> {
                 try {
-                    if (finalInputClass instanceof ClientResponse) {
-                        timeoutHandler.tryDisengage(finalInputClass.getTimeoutID());
-                        executors.submit(() -> finalInputClass.read(this)).get();
-                        timeoutHandler.defuse(finalInputClass.getTimeoutID());
-                    } else {
-                        executors.submit(() -> finalInputClass.read(this));
+                    timeoutHandler.tryDisengage(clientMessage.getTimeoutID());
+                    try {
+                        clientMessage.read(this);
+                    } finally {
+                        timeoutHandler.defuse(clientMessage.getTimeoutID());
                     }
                 } catch (RequestTimedOutException e) {
                     server.requestTimedOut(this);
                     e.printStackTrace();
-                } catch (ExecutionException e) {
-                    e.printStackTrace();
-                } catch (InterruptedException e) {
-                    System.out.println("->Virtual Client is being shut down<- (message received) " + this);
-                    e.printStackTrace();
                 }
-            }
-            clientSocket.close();
-        } catch (IOException | ClassNotFoundException e) {
-            connected = false;
-            close();
-            server.disconnectClient(this, game, game.getNicknameByClient(this));
-        } catch (Exception ex) {
-            ex.printStackTrace();
+            });
+        } else {
+            executor.execute(() -> clientMessage.read(this));
         }
     }
 
+    /**
+     * Handles the loss of the connection, notifying the server only once
+     */
+    void onConnectionLost() {
+        if (!connected.compareAndSet(true, false))
+            return;
+        closeConnection();
+        executors.submit(() -> server.disconnectClient(this, game, getNickname()));
+    }
+
+    private String getNickname() {
+        return game != null ? game.getNicknameByClient(this) : null;
+    }
+
     private void startHeartBeat() {
         send(new ServerKeepAlive());
     }
@@ -156,13 +216,18 @@ public class VirtualClient implements Runnable {
     }
 
     public void close() {
-        heartBeatService.cancel(true);
-        try {
-            outputStream.close();
-            inputStream.close();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        connected.set(false);
+        closeConnection();
+    }
+
+    private void closeConnection() {
+        if (heartBeatService != null)
+            heartBeatService.cancel();
+        connection.close();
+    }
+
+    public boolean isConnected() {
+        return connected.get();
     }
 
     public void setGameState(GameState gameState) {
@@ -172,4 +237,12 @@ public class VirtualClient implements Runnable {
     public GameState getGameState() {
         return gameState;
     }
+
+    public int getSubscribedTopics() {
+        return subscribedTopics;
+    }
+
+    public void setSubscribedTopics(int subscribedTopics) {
+        this.subscribedTopics = subscribedTopics;
+    }
 }
@@ -10,9 +10,6 @@ import it.polimi.ingsw.model.*;
 import it.polimi.ingsw.model.cards.CardDevelopment;
 import it.polimi.ingsw.model.enums.Resource;
 import it.polimi.ingsw.model.exceptions.*;
-import it.polimi.ingsw.model.enums.FaithTileStatus;
-import it.polimi.ingsw.model.marbles.Marble;
-import it.polimi.ingsw.model.enums.MarbleType;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
@@ -70,7 +67,7 @@ public class VirtualClientCommandDispatcher {
      */
     public void setLobbySize(Integer size){
         System.out.println("Server size set to " + size);
-        virtualClient.getServer().setCurrentLobbySize(size);
+        virtualClient.getServer().setLobbySize(virtualClient, size);
     }
 
     /**
@@ -213,7 +210,8 @@ public class VirtualClientCommandDispatcher {
 
             } else {
 
-                sendWithTimeoutID(new ResponseDiscardResourceSelection(residualResources), _timeoutID);
+                sendWithTimeoutID(new ResponseDiscardResourceSelection(residualResources,
+                        virtualClient.getGame().suggestDiscard(virtualClient, residualResources)), _timeoutID);
             }
 
         } catch (NotActivePlayerException e) {
@@ -254,7 +252,8 @@ public class VirtualClientCommandDispatcher {
                 sendWithTimeoutID(new ResponseSuccess(GamePhase.Final), _timeoutID);
 //                send(new RequestSignalActivePlayer(virtualClient.getGame().getNicknameByClient(virtualClient), GamePhase.Final));
             } else {
-                sendWithTimeoutID(new ResponseDiscardResourceSelection(residualResources), _timeoutID);
+                sendWithTimeoutID(new ResponseDiscardResourceSelection(residualResources,
+                        virtualClient.getGame().suggestDiscard(virtualClient, residualResources)), _timeoutID);
             }
 
         } catch (NotActivePlayerException ex) {
@@ -269,29 +268,20 @@ public class VirtualClientCommandDispatcher {
         }
     }
 
+    /**
+     * Method called on arrival of a subscription request
+     * @param topics bitwise or of the NotifyModelChanged parts to be pushed
+     */
+    public void subscribe(int topics) {
+        Objects.requireNonNull(getGame()).subscribe(virtualClient, topics);
+    }
+
     /**
      * Method called on arrival of a deposit instance request
      * @param _timeoutID ID for the timeout request
      */
     public void requestDepositInstance(int _timeoutID) {
-
-        HashMap<Resource, Integer> depositClone;
-        HashMap<Resource, Integer> leaderContentClone = new HashMap<>();
-        depositClone = virtualClient.getGame().getDepositClone(virtualClient);
-
-        ArrayList<Resource> leaderResourcesClone = virtualClient.getGame().getLeaderResourcesClone(virtualClient);
-
-        if (leaderResourcesClone.size() > 0)
-            leaderContentClone = virtualClient.getGame().getLeaderContentClone(virtualClient);
-
-        sendWithTimeoutID(
-                new ResponseStorageInstance(
-                        true,
-                        depositClone,
-                        leaderResourcesClone,
-                        leaderContentClone
-                ),
-                _timeoutID);
+        sendWithTimeoutID(virtualClient.getGame().getModelPart(virtualClient, NotifyModelChanged.DEPOSIT), _timeoutID);
     }
 
     /**
@@ -299,11 +289,7 @@ public class VirtualClientCommandDispatcher {
      * @param _timeoutID ID for the timeout request
      */
     public void requestStrongboxInstance(int _timeoutID) {
-
-        HashMap<Resource, Integer> strongboxClone;
-        strongboxClone = virtualClient.getGame().getStrongboxClone(virtualClient);
-
-        sendWithTimeoutID(new ResponseStorageInstance(false, strongboxClone, null, null), _timeoutID);
+        sendWithTimeoutID(virtualClient.getGame().getModelPart(virtualClient, NotifyModelChanged.STRONGBOX), _timeoutID);
     }
 
     /**
@@ -311,12 +297,7 @@ public class VirtualClientCommandDispatcher {
      * @param _timeoutID ID for the timeout request
      */
     public void requestMarketInstance(int _timeoutID) {
-
-        ArrayList<ArrayList<MarbleType>> marketClone;
-        marketClone = virtualClient.getGame().getMarketClone();
-        Marble spareMarble = virtualClient.getGame().getSpareMarble();
-        sendWithTimeoutID(new ResponseMarketInstance(marketClone, spareMarble), _timeoutID);
-
+        sendWithTimeoutID(virtualClient.getGame().getModelPart(virtualClient, NotifyModelChanged.MARKET), _timeoutID);
     }
 
     /**
@@ -324,12 +305,7 @@ public class VirtualClientCommandDispatcher {
      * @param _timeoutID ID for the timeout request
      */
     public void getCardDevelopmentMarketInstance(int _timeoutID) {
-
-        ArrayList<ArrayList<CardDevelopment>> cardMarketClone;
-        cardMarketClone = virtualClient.getGame().getCardDevMarketClone();
-
-        sendWithTimeoutID(new ResponseCardDevelopmentMarketInstance(cardMarketClone), _timeoutID);
-
+        sendWithTimeoutID(virtualClient.getGame().getModelPart(virtualClient, NotifyModelChanged.CARD_DEVELOPMENT_MARKET), _timeoutID);
     }
 
     /**
@@ -338,14 +314,7 @@ public class VirtualClientCommandDispatcher {
      * @param _timeoutID ID for the timeout request
      */
     public void requestFaithTrail(VirtualClient _vClient, int _timeoutID) { /* TODO _vClient is probably useless */
-
-        ArrayList<FaithTileStatus> tileStatuses;
-        tileStatuses = virtualClient.getGame().getTileStatuses(_vClient);
-
-        HashMap<String, Integer> playerPositions;
-        playerPositions = virtualClient.getGame().getPlayerPositions();
-
-        sendWithTimeoutID(new ResponseLightFaithTrail(tileStatuses, playerPositions), _timeoutID);
+        sendWithTimeoutID(virtualClient.getGame().getModelPart(_vClient, NotifyModelChanged.FAITH_TRAIL), _timeoutID);
     }
 
     /**
@@ -353,11 +322,7 @@ public class VirtualClientCommandDispatcher {
      * @param _timeoutID ID for the timeout request
      */
     public void requestLeaderCards(int _timeoutID) {
-
-        ArrayList<CardLeader> leaderCards;
-        leaderCards = virtualClient.getGame().getLeaderCards(virtualClient);
-
-        sendWithTimeoutID(new ResponseCardLeaders(leaderCards), _timeoutID);
+        sendWithTimeoutID(virtualClient.getGame().getModelPart(virtualClient, NotifyModelChanged.CARDS_LEADER), _timeoutID);
     }
 
     /**
@@ -366,12 +331,7 @@ public class VirtualClientCommandDispatcher {
      * @param _timeoutID ID for the timeout request
      */
     public void requestTopCardsDevelopment(VirtualClient _vClient, int _timeoutID) {
-
-        ArrayList<CardDevelopment> developmentCards;
-        developmentCards = virtualClient.getGame().getTopDevelopmentCards(_vClient);
-
-        sendWithTimeoutID(new ResponseTopCardsDevelopment(developmentCards), _timeoutID);
-
+        sendWithTimeoutID(virtualClient.getGame().getModelPart(_vClient, NotifyModelChanged.CARDS_DEVELOPMENT), _timeoutID);
     }
 
 
@@ -1,103 +1,68 @@
 package it.polimi.ingsw.server;
 
-import it.polimi.ingsw.client.RequestTimedOutException;
-import it.polimi.ingsw.communication.server.requests.RequestRequestPlayersNumber;
-import it.polimi.ingsw.communication.server.ServerMessage;
-
 import java.util.ArrayList;
 
 /**
  * Class to handle of the pre game phase.
+ * A lobby gathers the players of a game of a given capacity, the game starts as soon as the lobby is full.
+ * Lobbies are owned by the Matchmaker, which guards them.
  */
 public class WaitingLobby {
 
-    private final Server server;
-
-    private volatile boolean empty;
-
-    private volatile int lobbyCapacity;
+    private final int lobbyCapacity;
 
-    private ArrayList<VirtualClient> players;
+    private final ArrayList<VirtualClient> players;
 
     /**
      * Constructor of the class
-     * @param server creator of the lobby
+     * @param lobbyCapacity number of players of the game
      */
-    public WaitingLobby(Server server){
-        this.server = server;
-        setupLobby();
-    }
-
-    private void setupLobby() {
-        lobbyCapacity = -1;
-        empty = true;
+    public WaitingLobby(int lobbyCapacity){
+        this.lobbyCapacity = lobbyCapacity;
         players = new ArrayList<>();
     }
 
     /**
-     * private method to add the first player of the lobby. It's called by addPlayer
+     * Add player to this waiting lobby.
      * @param virtualClient client to add
+     * @return true if the lobby is full after adding the player
      */
-    private void addFirstPlayer(VirtualClient virtualClient) {
-        try {
-            virtualClient.sendAndWait(new RequestRequestPlayersNumber(), 60);
-            players.add(virtualClient);
-            empty = false;
-        } catch (RequestTimedOutException e) {
-            server.unregisterClientTimeoutExceeded(virtualClient);
-        }
+    public boolean addPlayer(VirtualClient virtualClient) {
+        players.add(virtualClient);
+        return isFull();
     }
 
     /**
-     * Add player to this waiting lobby.
-     * Starts the game automatically when maximum capacity is reached
-     * @param virtualClient client to add
+     * @return true if enough players are waiting to start the game
      */
-    public void addPlayer(VirtualClient virtualClient) {
-        synchronized (this) {
-            if (empty)
-                addFirstPlayer(virtualClient);
-            else {
-                players.add(virtualClient);
-            }
-            if( players.size() == lobbyCapacity ){
-                server.startGame();
-            }
-        }
+    public boolean isFull() {
+        return players.size() >= lobbyCapacity;
+    }
+
+    public boolean isEmpty() {
+        return players.isEmpty();
     }
 
     /**
-     * set number of player before the lobby is full
-     * @param size number of players
+     * @return number of players still missing to start the game
      */
-    public void setLobbyCapacity(int size){
-        lobbyCapacity = size;
+    public int getFreeSeats() {
+        return lobbyCapacity - players.size();
     }
 
     public ArrayList<VirtualClient> getPlayers() {
-        return players;
+        return new ArrayList<>(players);
     }
 
-    /**
-     * send message to all clients in this lobby
-     * @param serverMessage to be sent
-     */
-    public void sendAll(ServerMessage serverMessage){
-        for (VirtualClient player :
-                players) {
-            player.send(serverMessage);
-        }
+    public int getLobbyCapacity() {
+        return lobbyCapacity;
     }
 
     /**
-     * removes this player from the lobby, resets the lobby in case it's empty
+     * removes this player from the lobby
      * @param virtualClient player to remove
      */
-    public synchronized void removePlayer(VirtualClient virtualClient) {
+    public void removePlayer(VirtualClient virtualClient) {
         players.remove(virtualClient);
-        if (players.size() == 0) {
-            empty = true;
-            lobbyCapacity = -1;
-        }
     }
 }
@@ -0,0 +1,220 @@
+package it.polimi.ingsw.communication;
+
+import it.polimi.ingsw.communication.codec.BinaryMessageCodec;
+import it.polimi.ingsw.communication.client.requests.RequestSubscribe;
+import it.polimi.ingsw.communication.codec.JavaMessageCodec;
+import it.polimi.ingsw.communication.server.NotifyBriefModel;
+import it.polimi.ingsw.communication.server.NotifyBriefModelDelta;
+import it.polimi.ingsw.communication.server.NotifyModelChanged;
+import it.polimi.ingsw.communication.server.ModelPartResponse;
+import it.polimi.ingsw.communication.server.ServerKeepAlive;
+import it.polimi.ingsw.communication.server.TurnSnapshot;
+import it.polimi.ingsw.communication.server.responses.ResponseCardDevelopmentMarketInstance;
+import it.polimi.ingsw.communication.server.responses.ResponseCardLeaders;
+import it.polimi.ingsw.communication.server.responses.ResponseStorageInstance;
+import it.polimi.ingsw.communication.server.responses.ResponseSuccess;
+import it.polimi.ingsw.model.BriefModel;
+import it.polimi.ingsw.model.BriefModelDelta;
+import it.polimi.ingsw.model.CardLeader;
+import it.polimi.ingsw.model.CardLeaderFactory;
+import it.polimi.ingsw.model.GameTable;
+import it.polimi.ingsw.model.PlayerBoard;
+import it.polimi.ingsw.model.ResourceVector;
+import it.polimi.ingsw.model.cards.CardDevelopment;
+import it.polimi.ingsw.model.enums.CardLeaderType;
+import it.polimi.ingsw.model.enums.Resource;
+import it.polimi.ingsw.model.exceptions.InvalidSlotIndexException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BinaryMessageCodecTest {
+
+    private final BinaryMessageCodec codec = new BinaryMessageCodec();
+
+    @Test
+    public void keepAliveIsSmallerThanJavaSerialization() throws Exception {
+
+        ServerKeepAlive keepAlive = new ServerKeepAlive();
+        keepAlive.setTimeoutID(42);
+
+        byte[] binary = codec.encode(keepAlive);
+        byte[] java = new JavaMessageCodec().encode(keepAlive);
+
+        assertTrue(binary.length * 10 < java.length);
+        SerializedNetworkMessage decoded = codec.decode(binary);
+        assertTrue(decoded instanceof ServerKeepAlive);
+        assertEquals(42, decoded.getTimeoutID());
+    }
+
+    @Test
+    public void unregisteredMessagesFallBackToJava() throws Exception {
+
+        byte[] payload = codec.encode(new ResponseSuccess());
+
+        assertTrue(JavaMessageCodec.isJavaPayload(payload));
+        assertTrue(codec.decode(payload) instanceof ResponseSuccess);
+    }
+
+    @Test
+    public void modelChangedRoundTrip() throws Exception {
+
+        int parts = NotifyModelChanged.DEPOSIT | NotifyModelChanged.FAITH_TRAIL;
+        byte[] payload = codec.encode(new NotifyModelChanged(parts));
+
+        assertFalse(JavaMessageCodec.isJavaPayload(payload));
+        assertEquals(parts, ((NotifyModelChanged) codec.decode(payload)).getChangedParts());
+    }
+
+    @Test
+    public void pushedPartsAreStateUpdates() throws Exception {
+
+        RequestSubscribe subscribe = (RequestSubscribe) codec.decode(codec.encode(new RequestSubscribe(NotifyModelChanged.ALL)));
+        assertEquals(NotifyModelChanged.ALL, subscribe.getTopics());
+
+        HashMap<Resource, Integer> strongbox = new HashMap<>();
+        strongbox.put(Resource.Servants, 4);
+        ResponseStorageInstance pushed = (ResponseStorageInstance) codec.decode(
+                codec.encode(new ResponseStorageInstance(false, strongbox, null, null)));
+        assertTrue(pushed.isStateUpdate());
+        assertEquals(NotifyModelChanged.STRONGBOX, pushed.getPart());
+        assertNotNull(pushed.getCoalescingKey());
+
+        ResponseStorageInstance requested = new ResponseStorageInstance(false, strongbox, null, null);
+        requested.setTimeoutID(7);
+        requested = (ResponseStorageInstance) codec.decode(codec.encode(requested));
+        assertFalse(requested.isStateUpdate());
+        assertNull(requested.getCoalescingKey());
+        assertEquals(strongbox, requested.getStorage());
+    }
+
+    @Test
+    public void turnSnapshotCarriesPushedParts() throws Exception {
+
+        HashMap<Resource, Integer> strongbox = new HashMap<>();
+        strongbox.put(Resource.Coins, 5);
+        ArrayList<CardLeader> leaders = new ArrayList<>();
+        ArrayList<ModelPartResponse> parts = new ArrayList<>();
+        parts.add(new ResponseStorageInstance(false, strongbox, null, null));
+        parts.add(new ResponseCardLeaders(leaders));
+
+        byte[] payload = codec.encode(new TurnSnapshot(parts));
+        TurnSnapshot decoded = (TurnSnapshot) codec.decode(payload);
+
+        assertFalse(JavaMessageCodec.isJavaPayload(payload));
+        assertTrue(decoded.isStateUpdate());
+        assertEquals(2, decoded.getParts().size());
+        assertEquals(NotifyModelChanged.STRONGBOX, decoded.getParts().get(0).getPart());
+        assertEquals(strongbox, ((ResponseStorageInstance) decoded.getParts().get(0)).getStorage());
+        assertEquals(NotifyModelChanged.CARDS_LEADER, decoded.getParts().get(1).getPart());
+        for (ModelPartResponse part : decoded.getParts())
+            assertTrue(part.isPushed());
+    }
+
+    @Test
+    public void briefModelRoundTrip() throws Exception {
+
+        ArrayList<String> nicknames = new ArrayList<>();
+        nicknames.add("test");
+        GameTable table = new GameTable(nicknames);
+        PlayerBoard player = table.getPlayerByIndex(0);
+        HashMap<Resource, Integer> resources = new HashMap<>();
+        resources.put(Resource.Coins, 3);
+        resources.put(Resource.Stones, 200);
+        player.getStrongboxInstance().tryAdd(resources);
+
+        NotifyBriefModel decoded = (NotifyBriefModel) codec.decode(codec.encode(new NotifyBriefModel(player)));
+        BriefModel briefModel = decoded.getBriefModel();
+
+        assertEquals("test", decoded.getNickname());
+        assertEquals(player.getStrongboxInstance().getContent(), briefModel.getStrongBox());
+        assertEquals(player.getDepositInstance().getContent(), briefModel.getDeposit());
+        assertEquals(player.getFaithTrailPosition(), briefModel.getFaithTrailPosition());
+        assertFalse(briefModel.isEmpty());
+    }
+
+    @Test
+    public void briefModelDeltaRebuildsNewerModel() throws Exception, InvalidSlotIndexException {
+
+        ArrayList<String> nicknames = new ArrayList<>();
+        nicknames.add("test");
+        GameTable table = new GameTable(nicknames);
+        PlayerBoard player = table.getPlayerByIndex(0);
+        player.placeCardDevelopmentCardOnBoard(new CardDevelopment(0, 0, 0), 0);
+        player.placeCardDevelopmentCardOnBoard(new CardDevelopment(0, 1, 0), 1);
+        BriefModel before = new BriefModel(player);
+
+        // The new card lands between the cards of the two slots
+        player.placeCardDevelopmentCardOnBoard(new CardDevelopment(1, 0, 0), 0);
+        player.getStrongboxInstance().tryAdd(ResourceVector.of(2, 0, 0, 1));
+        player.moveFaith(2);
+        BriefModel after = new BriefModel(player);
+
+        BriefModelDelta delta = BriefModelDelta.between(before, after);
+        assertNotNull(delta);
+        assertEquals(1, delta.getAddedCardsDevelopment().size());
+        assertEquals(2, delta.getStrongBox().size());
+
+        NotifyBriefModelDelta decoded = (NotifyBriefModelDelta) codec.decode(codec.encode(new NotifyBriefModelDelta(delta, "test", 4)));
+        BriefModel rebuilt = decoded.getDelta().applyTo(before);
+
+        assertEquals(4, decoded.getFromVersion());
+        assertEquals(after.getStrongBox(), rebuilt.getStrongBox());
+        assertEquals(after.getDeposit(), rebuilt.getDeposit());
+        assertEquals(after.getFaithTrailPosition(), rebuilt.getFaithTrailPosition());
+        assertEquals(after.getCardsDevelopment().size(), rebuilt.getCardsDevelopment().size());
+        for (int i = 0; i < after.getCardsDevelopment().size(); i++)
+            assertEquals(after.getCardsDevelopment().get(i).getCatalogID(), rebuilt.getCardsDevelopment().get(i).getCatalogID());
+        assertTrue(BriefModelDelta.between(after, rebuilt).isEmpty());
+    }
+
+    @Test
+    public void cardDevelopmentKeepsCatalogDataAndDiscountedCosts() throws Exception {
+
+        CardDevelopment card = new CardDevelopment(new CardDevelopment(2, 3, 1));
+        for (Resource resource : Resource.values())
+            card.applyDiscount(resource);
+        List<List<CardDevelopment>> market = new ArrayList<>();
+        market.add(new ArrayList<>());
+        market.get(0).add(card);
+        market.get(0).add(null);
+
+        ResponseCardDevelopmentMarketInstance decoded = (ResponseCardDevelopmentMarketInstance)
+                codec.decode(codec.encode(new ResponseCardDevelopmentMarketInstance(market)));
+        CardDevelopment decodedCard = decoded.getCardMarketClone().get(0).get(0);
+
+        assertNull(decoded.getCardMarketClone().get(0).get(1));
+        assertEquals(card.getCatalogID(), decodedCard.getCatalogID());
+        assertSame(card.getCardType(), decodedCard.getCardType());
+        assertSame(card.getCardLevel(), decodedCard.getCardLevel());
+        assertEquals(card.getVictoryPoints(), decodedCard.getVictoryPoints());
+        assertEquals(card.getCardCosts(), decodedCard.getCardCosts());
+        assertEquals(card.getProductionInput(), decodedCard.getProductionInput());
+        assertEquals(card.getProductionOutput(), decodedCard.getProductionOutput());
+    }
+
+    @Test
+    public void cardLeaderKeepsOwnerAndState() throws Exception {
+
+        ArrayList<String> nicknames = new ArrayList<>();
+        nicknames.add("test");
+        GameTable table = new GameTable(nicknames);
+        PlayerBoard player = table.getPlayerByIndex(0);
+        CardLeader cardLeader = new CardLeaderFactory().produce(CardLeaderType.Deposit, Resource.Shields).draw(player);
+
+        ArrayList<CardLeader> leaders = new ArrayList<>();
+        leaders.add(cardLeader);
+        ResponseCardLeaders decoded = (ResponseCardLeaders) codec.decode(codec.encode(new ResponseCardLeaders(leaders)));
+        CardLeader decodedLeader = decoded.getLeaderCards().get(0);
+
+        assertSame(cardLeader.getDescription(), decodedLeader.getDescription());
+        assertSame(cardLeader.getResource(), decodedLeader.getResource());
+        assertEquals(cardLeader.getPlayerName(), decodedLeader.getPlayerName());
+        assertEquals(cardLeader.getActivationState(), decodedLeader.getActivationState());
+        assertEquals(cardLeader.getVictoryPointsValue(), decodedLeader.getVictoryPointsValue());
+    }
+}
@@ -0,0 +1,62 @@
+package it.polimi.ingsw.communication.timeout_handler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HashedWheelTimerTest {
+
+    @Test
+    public void schedule() throws InterruptedException {
+
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.currentTimeMillis();
+
+        HashedWheelTimer.getInstance().schedule(latch::countDown, 300, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertTrue(System.currentTimeMillis() - start >= 300);
+    }
+
+    @Test
+    public void cancel() throws InterruptedException {
+
+        AtomicInteger runs = new AtomicInteger();
+
+        HashedWheelTimer.Timeout timeout = HashedWheelTimer.getInstance().schedule(runs::incrementAndGet, 200, TimeUnit.MILLISECONDS);
+        timeout.cancel();
+        Thread.sleep(500);
+
+        assertTrue(timeout.isCancelled());
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    public void scheduleAtFixedRate() throws InterruptedException {
+
+        CountDownLatch latch = new CountDownLatch(3);
+
+        HashedWheelTimer.Timeout timeout = HashedWheelTimer.getInstance().scheduleAtFixedRate(latch::countDown, 0, 100, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        timeout.cancel();
+    }
+
+    @Test
+    public void deadlinesBeyondOneRound() throws InterruptedException {
+
+        // 8 buckets of 10 ms, so a 200 ms deadline needs more than two rounds of the wheel
+        HashedWheelTimer timer = new HashedWheelTimer(10, 8);
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.currentTimeMillis();
+
+        timer.schedule(latch::countDown, 200, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertTrue(System.currentTimeMillis() - start >= 200);
+    }
+}
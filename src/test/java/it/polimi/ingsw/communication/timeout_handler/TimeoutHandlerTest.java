@@ -0,0 +1,80 @@
+package it.polimi.ingsw.communication.timeout_handler;
+
+import it.polimi.ingsw.client.RequestTimedOutException;
+import it.polimi.ingsw.communication.server.ServerKeepAlive;
+import it.polimi.ingsw.server.ClientConnection;
+import it.polimi.ingsw.server.Server;
+import it.polimi.ingsw.server.VirtualClient;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimeoutHandlerTest {
+
+    private final ClientConnection connection = new ClientConnection() {
+        @Override
+        public void write(byte[] frame, Object coalescingKey) {
+        }
+
+        @Override
+        public int getQueueDepth() {
+            return 0;
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    private final TimeoutHandler timeoutHandler = new TimeoutHandler(new VirtualClient(connection, new Server(false, false), 0));
+
+    @Test
+    public void answerCompletesFuture() throws Exception {
+
+        ServerKeepAlive first = new ServerKeepAlive();
+        ServerKeepAlive second = new ServerKeepAlive();
+        CompletableFuture<Void> firstFuture = timeoutHandler.sendAsync(first, -1);
+        CompletableFuture<Void> secondFuture = timeoutHandler.sendAsync(second, -1);
+
+        assertNotEquals(first.getTimeoutID(), second.getTimeoutID());
+
+        // answers may arrive in any order
+        timeoutHandler.tryDisengage(second.getTimeoutID());
+        timeoutHandler.defuse(second.getTimeoutID());
+        assertTrue(secondFuture.isDone());
+        assertFalse(firstFuture.isDone());
+
+        timeoutHandler.tryDisengage(first.getTimeoutID());
+        timeoutHandler.defuse(first.getTimeoutID());
+        assertNull(firstFuture.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void lateAnswerIsRejected() throws InterruptedException {
+
+        ServerKeepAlive message = new ServerKeepAlive();
+        CompletableFuture<Void> future = timeoutHandler.sendAsync(message, 1);
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(3, TimeUnit.SECONDS));
+        assertTrue(exception.getCause() instanceof TimeoutException);
+        assertThrows(RequestTimedOutException.class, () -> timeoutHandler.tryDisengage(message.getTimeoutID()));
+    }
+
+    @Test
+    public void disengagedRequestDoesNotExpire() throws Exception {
+
+        ServerKeepAlive message = new ServerKeepAlive();
+        CompletableFuture<Void> future = timeoutHandler.sendAsync(message, 1);
+
+        timeoutHandler.tryDisengage(message.getTimeoutID());
+        Thread.sleep(1500);
+        timeoutHandler.defuse(message.getTimeoutID());
+
+        assertNull(future.get(1, TimeUnit.SECONDS));
+    }
+}
@@ -27,6 +27,36 @@ class TurnControllerTest {
         System.out.println("debug");
     }
 
+    @Test
+    void disconnectedPlayersAreSkippedByIndex() {
+
+        GameTable gameTable = new GameTable(false);
+        gameTable.addPlayer("test1");
+        gameTable.addPlayer("test2");
+        gameTable.addPlayer("test3");
+        gameTable.startGame();
+
+        assertEquals(1, gameTable.getIndexFromNickname("test2"));
+        assertEquals(-1, gameTable.getIndexFromNickname("unknown"));
+        assertSame(gameTable.getPlayerByIndex(2), gameTable.getPlayerByNickname("test3"));
+        assertEquals(2, gameTable.getIndexFromPlayer(gameTable.getPlayerByIndex(2)));
+
+        TurnController turnController = new TurnController(gameTable);
+        assertEquals(0, turnController.getActivePlayerIndex());
+
+        turnController.setPlayerConnection("test2", false);
+        assertFalse(turnController.isPlayerConnected(gameTable.getPlayerByIndex(1)));
+
+        turnController.advanceTurn();
+        assertEquals(2, turnController.getActivePlayerIndex());
+        assertSame(gameTable.getPlayerByIndex(2), gameTable.getActivePlayer());
+
+        assertFalse(turnController.forceAdvanceTurn("test1"));
+        assertTrue(turnController.forceAdvanceTurn("test3"));
+        assertEquals(0, turnController.getActivePlayerIndex());
+        assertSame(gameTable.getPlayerByIndex(0), turnController.getActivePlayer());
+    }
+
     @Test
     void advanceTurn() {
 
@@ -1,11 +1,13 @@
 package it.polimi.ingsw.model;
 
+import it.polimi.ingsw.model.cards.CardDevelopment;
 import it.polimi.ingsw.model.cards.CardDevelopmentMarket;
 import it.polimi.ingsw.model.enums.CardDevelopmentType;
 import it.polimi.ingsw.model.enums.Resource;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -50,6 +52,48 @@ public class CardDevelopmentMarketTest {
 
     }
 
+    @Test
+    public void topCardsSnapshotIsCachedUntilTheMarketChanges() {
+
+        CardDevelopmentMarket market = new CardDevelopmentMarket();
+
+        List<List<CardDevelopment>> snapshot = market.getTopCards();
+        assertSame(snapshot, market.getTopCards());
+        assertEquals(market.topCard(0, 0).getCatalogID(), snapshot.get(0).get(0).getCatalogID());
+        assertNotSame(market.topCard(0, 0), snapshot.get(0).get(0));
+
+        int version = market.getVersion();
+        market.popFromStack(0, 0);
+
+        assertNotEquals(version, market.getVersion());
+        assertNotSame(snapshot, market.getTopCards());
+        assertEquals(3, market.stackSize(0, 0));
+        assertEquals(market.topCard(0, 0).getCatalogID(), market.getTopCards().get(0).get(0).getCatalogID());
+
+        for (int i = 0; i < 3; i++) {
+            for (int k = 0; k < 4; k++) market.popFromStack(i, 1);
+        }
+
+        assertTrue(market.isColumnEmpty(1));
+        assertNull(market.topCard(2, 1));
+        assertNull(market.getTopCards().get(2).get(1));
+        assertFalse(market.isColumnEmpty(CardDevelopmentType.Green));
+    }
+
+    @Test
+    public void topCardsSnapshotCannotBeModified() {
+
+        CardDevelopmentMarket market = new CardDevelopmentMarket();
+
+        List<List<CardDevelopment>> snapshot = market.getTopCards();
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.get(0).set(0, null));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.get(0).get(0).applyDiscount(Resource.Coins));
+
+        CardDevelopment copy = new CardDevelopment(snapshot.get(0).get(0));
+        for (Resource resource : Resource.values()) copy.applyDiscount(resource);
+    }
+
     @Test
     public void buyCardFromStack() {
 
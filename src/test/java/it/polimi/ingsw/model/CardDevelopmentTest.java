@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 
 import it.polimi.ingsw.model.cards.CardDevelopment;
+import it.polimi.ingsw.model.cards.CardDevelopmentCatalog;
 import it.polimi.ingsw.model.enums.Resource;
 import org.junit.jupiter.api.Test;
 
@@ -44,6 +45,23 @@ public class CardDevelopmentTest {
         }
     }
 
+    @Test
+    public void discountDoesNotChangeCatalogOrOtherCopies() {
+
+        CardDevelopment card = new CardDevelopment(0, 0, 0);
+        CardDevelopment copy = new CardDevelopment(card);
+        ResourceVector catalogCosts = CardDevelopmentCatalog.get(0).getCardCosts();
+
+        card.applyDiscount(Resource.Shields);
+        card.applyDiscount(Resource.Coins);
+
+        assertEquals(catalogCosts.minus(ResourceVector.of(Resource.Shields)), card.getCardCostsVector());
+        assertEquals(ResourceVector.of(Resource.Shields), card.getDiscount());
+        assertEquals(catalogCosts, copy.getCardCostsVector());
+        assertEquals(catalogCosts, new CardDevelopment(0, 0, 0).getCardCostsVector());
+        assertSame(card.getProductionInputVector(), copy.getProductionInputVector());
+    }
+
     @Test
     public void testCanActivateProduction() {
 
@@ -4,10 +4,16 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 
+import it.polimi.ingsw.model.cards.CardDevelopment;
+import it.polimi.ingsw.model.enums.CardDevelopmentLevel;
+import it.polimi.ingsw.model.enums.CardDevelopmentType;
 import it.polimi.ingsw.model.enums.CardLeaderType;
 import it.polimi.ingsw.model.enums.PlayerState;
 import it.polimi.ingsw.model.enums.Resource;
 import it.polimi.ingsw.model.exceptions.CardLeaderRequirementsNotMetException;
+import it.polimi.ingsw.model.exceptions.FullSlotException;
+import it.polimi.ingsw.model.exceptions.InvalidCardDevelopmentPlacementException;
+import it.polimi.ingsw.model.exceptions.InvalidSlotIndexException;
 import it.polimi.ingsw.model.marbles.Marble;
 import it.polimi.ingsw.model.marbles.MarbleWhite;
 import org.junit.jupiter.api.Test;
@@ -64,4 +70,30 @@ public class CardLeaderDeckTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void requirementsAreSharedAndCheckedOnCounters() throws InvalidCardDevelopmentPlacementException, InvalidSlotIndexException, FullSlotException {
+        GameTable gameTable = new GameTable(new ArrayList<>(Arrays.asList("1", "2")));
+        PlayerBoard playerBoard = gameTable.getPlayerByIndex(0);
+        CardLeaderFactory factory = new CardLeaderFactory();
+
+        CardLeader production = factory.produce(CardLeaderType.Production, Resource.Coins);
+        CardLeader discount = factory.produce(CardLeaderType.Discount, Resource.Stones);
+        assertSame(production.getRequirements(), factory.produce(CardLeaderType.Production, Resource.Coins).getRequirements());
+
+        // a level Two card of the wrong type does not unlock the production leader, which wants a level Two green card
+        playerBoard.placeCardDevelopmentCardOnBoard(new CardDevelopment(0, 3, 0), 0);
+        playerBoard.placeCardDevelopmentCardOnBoard(new CardDevelopment(1, 3, 0), 0);
+        assertEquals(2, playerBoard.getDevelopmentCardCount(CardDevelopmentType.Blue));
+        assertFalse(production.canActivate(playerBoard));
+        assertFalse(discount.canActivate(playerBoard));
+
+        playerBoard.placeCardDevelopmentCardOnBoard(new CardDevelopment(0, 0, 0), 1);
+        assertTrue(discount.canActivate(playerBoard));
+        assertFalse(production.canActivate(playerBoard));
+
+        playerBoard.placeCardDevelopmentCardOnBoard(new CardDevelopment(1, 0, 0), 1);
+        assertTrue(playerBoard.hasDevelopmentCardOfLevel(CardDevelopmentType.Green, CardDevelopmentLevel.Two));
+        assertTrue(production.canActivate(playerBoard));
+    }
+}
@@ -0,0 +1,73 @@
+package it.polimi.ingsw.model;
+
+import java.util.ArrayList;
+
+import it.polimi.ingsw.model.enums.Resource;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DepositShelvesTest {
+
+    @Test
+    public void shelfRules() {
+
+        assertTrue(DepositShelves.fits(ResourceVector.ZERO));
+        assertTrue(DepositShelves.fits(ResourceVector.of(3, 2, 1, 0)));
+        assertTrue(DepositShelves.fits(ResourceVector.of(1, 1, 0, 1)));
+
+        assertFalse(DepositShelves.fits(ResourceVector.of(4, 0, 0, 0)));
+        assertFalse(DepositShelves.fits(ResourceVector.of(3, 3, 0, 0)));
+        assertFalse(DepositShelves.fits(ResourceVector.of(2, 2, 2, 0)));
+        assertFalse(DepositShelves.fits(ResourceVector.of(1, 1, 1, 1)));
+
+        assertTrue(DepositShelves.fits(ResourceVector.of(2, 0, 0, 0), ResourceVector.of(1, 0, 1, 0)));
+        assertFalse(DepositShelves.fits(ResourceVector.of(3, 0, 0, 0), ResourceVector.of(0, 0, 0, 3)));
+    }
+
+    @Test
+    public void addableAmounts() {
+
+        ResourceVector content = ResourceVector.of(2, 2, 0, 0);
+
+        assertEquals(1, DepositShelves.getAddableAmount(content, Resource.Coins));
+        assertEquals(1, DepositShelves.getAddableAmount(content, Resource.Stones));
+        assertEquals(1, DepositShelves.getAddableAmount(content, Resource.Servants));
+        assertEquals(1, DepositShelves.getAddableAmount(content, Resource.Shields));
+
+        assertEquals(3, DepositShelves.getAddableAmount(ResourceVector.ZERO, Resource.Shields));
+        assertEquals(0, DepositShelves.getAddableAmount(ResourceVector.of(1, 1, 1, 0), Resource.Shields));
+    }
+
+    @Test
+    public void largestAddableKeepsTheMostResources() {
+
+        // 2 stones already take the middle shelf: 3 coins and 1 servant still fit, the second servant does not
+        ResourceVector added = DepositShelves.largestAddable(ResourceVector.of(0, 2, 0, 0), ResourceVector.of(3, 0, 2, 0));
+        assertEquals(ResourceVector.of(3, 0, 1, 0), added);
+
+        // moving the stones to the biggest shelf frees the middle one
+        added = DepositShelves.largestAddable(ResourceVector.of(0, 2, 0, 0), ResourceVector.of(0, 1, 2, 1));
+        assertEquals(ResourceVector.of(0, 1, 2, 1), added);
+
+        assertEquals(ResourceVector.ZERO, DepositShelves.largestAddable(ResourceVector.of(4, 0, 0, 0), ResourceVector.of(1, 0, 0, 0)));
+    }
+
+    @Test
+    public void suggestedDiscardLetsTheRestIn() {
+
+        ArrayList<String> nicknames = new ArrayList<>();
+        nicknames.add("test");
+        GameTable table = new GameTable(nicknames);
+        PlayerBoard player = table.getPlayerByIndex(0);
+
+        player.getDepositInstance().tryAdd(ResourceVector.of(1, 1, 0, 0));
+        ResourceVector haul = ResourceVector.of(2, 2, 0, 1);
+
+        ResourceVector discard = player.suggestDiscard(haul);
+
+        // coins, stones and the shield fill the shelves from the biggest, one stone is left out
+        assertEquals(ResourceVector.of(0, 1, 0, 0), discard);
+        assertTrue(player.getDepositInstance().tryAdd(haul.minus(discard)));
+    }
+}
@@ -87,6 +87,34 @@ public class FaithTrailTest {
         assertEquals(27,f.getVictoryPoints(p.get(2))); //20+(3+4)
     }
 
+    @Test
+    public void longMoveActivatesEveryCrossedReport() {
+
+        GameTable gameTable = new GameTable(new ArrayList<>(Arrays.asList("P1", "P2")));
+        FaithTrail f = gameTable.getFaithTrailInstance();
+        ArrayList<PlayerBoard> p = gameTable.getPlayerBoards();
+
+        // P2 crosses the first Pope Cell alone
+        f.movePlayer(p.get(1), 12);
+        assertEquals(FaithTileStatus.Discarded, f.getTilePack(p.get(0)).getStatus(FaithSection.One));
 
+        // P1 crosses both the first and the second Pope Cell in one move, only the second is reported
+        f.movePlayer(p.get(0), 17);
 
-}
\ No newline at end of file
+        assertEquals(17, f.getPosition(p.get(0)));
+        assertEquals(FaithTileStatus.Discarded, f.getTilePack(p.get(0)).getStatus(FaithSection.One));
+        assertEquals(FaithTileStatus.Reached, f.getTilePack(p.get(0)).getStatus(FaithSection.Two));
+        assertEquals(FaithTileStatus.Reached, f.getTilePack(p.get(1)).getStatus(FaithSection.Two));
+        assertEquals(FaithTileStatus.Not_Reached, f.getTilePack(p.get(0)).getStatus(FaithSection.Three));
+
+        // reports are activated only once
+        f.movePlayer(p.get(1), 4);
+        assertEquals(FaithTileStatus.Reached, f.getTilePack(p.get(1)).getStatus(FaithSection.Two));
+        assertEquals(12, f.getVictoryPoints(p.get(0))); //9+(3)
+        assertEquals(5, p.get(1).getScoreLedger().getTilePoints());
+
+        f.moveOthers(p.get(1));
+        assertEquals(18, f.getPosition(p.get(0)));
+        assertEquals(16, f.getPosition(p.get(1)));
+    }
+}
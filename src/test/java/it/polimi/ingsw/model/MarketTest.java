@@ -1,5 +1,6 @@
 package it.polimi.ingsw.model;
 
+import it.polimi.ingsw.model.enums.MarbleType;
 import it.polimi.ingsw.model.marbles.Marble;
 import org.junit.Test;
 
@@ -35,6 +36,38 @@ public class MarketTest {
         }
     }
 
+    @Test
+    public void takeColShiftsTheSpareMarbleIn() {
+        GameTable gameTable = new GameTable(new ArrayList<>(Arrays.asList("1", "2", "3")));
+        Market market = new Market(gameTable);
+        var before = market.getMarbleTypes();
+        var spare = market.getSpareMarble();
+        assertSame(before, market.getMarbleTypes());
+
+        Marble[] buffer = new Marble[4];
+        assertEquals(3, market.takeCol(2, buffer));
+
+        var after = market.getMarbleTypes();
+        assertNotSame(before, after);
+        for (int row = 0; row < 3; row++)
+            assertEquals(before.get(row).get(1), buffer[row].getType());
+        assertEquals(spare.getType(), after.get(0).get(1));
+        assertEquals(before.get(0).get(1), after.get(1).get(1));
+        assertEquals(before.get(1).get(1), after.get(2).get(1));
+        assertEquals(before.get(2).get(1), market.getSpareMarble().getType());
+        assertSame(market.getSpareMarble(), buffer[2]);
+    }
+
+    @Test
+    public void marbleTypesSnapshotCannotBeModified() {
+        GameTable gameTable = new GameTable(new ArrayList<>(Arrays.asList("1", "2", "3")));
+        Market market = new Market(gameTable);
+        var snapshot = market.getMarbleTypes();
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.get(0).set(0, MarbleType.MarbleRed));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add(new ArrayList<>()));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.remove(0));
+    }
+
     private void getRowTester(Market market, ArrayList<ArrayList<Marble>> marketclone, Marble sparemarble) {
         var riga = market.getRow(1);
         for (int j = 0; j < 4; j++) {
@@ -25,6 +25,56 @@ public class PlayerBoardTest {
         return gametable.getPlayerByIndex(0);
     }
 
+    @Test
+    public void victoryPointsFollowTheScoreLedger() throws InvalidCardDevelopmentPlacementException, InvalidSlotIndexException, FullSlotException {
+        GameTable gameTable = new GameTable(new ArrayList<>(Arrays.asList("uno", "due")));
+        PlayerBoard first = gameTable.getPlayerByIndex(0);
+        PlayerBoard second = gameTable.getPlayerByIndex(1);
+
+        // the first player reaches the first pope cell: 2 points of the cell, 2 of the tile, the second gets none
+        first.moveFaith(8);
+        assertEquals(2, first.getScoreLedger().getFaithPoints());
+        assertEquals(2, first.getScoreLedger().getTilePoints());
+        assertEquals(0, second.getScoreLedger().getTilePoints());
+        assertEquals(4, gameTable.getFaithTrailInstance().getVictoryPoints(first));
+
+        CardDevelopment card = new CardDevelopment(0, 0, 3);
+        first.placeCardDevelopmentCardOnBoard(card, 0);
+        first.getStrongboxInstance().tryAdd(ResourceVector.of(3, 3, 0, 0));
+        first.getDepositInstance().tryAdd(ResourceVector.of(0, 0, 2, 1));
+
+        assertEquals(9, first.getResourceCount());
+        assertEquals(4 + card.getVictoryPoints() + 1, first.getVictoryPoints());
+        assertEquals(0, second.getVictoryPoints());
+    }
+
+    @Test
+    public void productionsAreAppliedAllOrNothing() throws InvalidCardDevelopmentPlacementException, InvalidSlotIndexException, FullSlotException {
+        PlayerBoard playerBoard = newPlayerBoard();
+
+        // 1 coin -> 1 faith
+        playerBoard.placeCardDevelopmentCardOnBoard(new CardDevelopment(0, 0, 0), 0);
+        playerBoard.getDepositInstance().tryAdd(ResourceVector.of(1, 0, 0, 0));
+        playerBoard.getStrongboxInstance().tryAdd(ResourceVector.of(0, 1, 0, 0));
+
+        ProductionSelection selection = new ProductionSelection();
+        selection.setBasicProduction(true);
+        selection.setBasicProdInfo(new Resource[]{Resource.Stones, Resource.Stones, Resource.Servants});
+        selection.setCardDevelopmentSlotActive(new Boolean[]{true, false, false});
+
+        // the card alone could be activated, but the whole selection needs one more stone
+        assertFalse(playerBoard.tryActivateProductions(selection));
+        assertEquals(ResourceVector.of(1, 0, 0, 0), playerBoard.getDepositInstance().getResources());
+        assertEquals(ResourceVector.of(0, 1, 0, 0), playerBoard.getStrongboxInstance().getResources());
+        assertEquals(0, playerBoard.getFaithTrailPosition());
+
+        playerBoard.getStrongboxInstance().tryAdd(ResourceVector.of(0, 1, 0, 0));
+        assertTrue(playerBoard.tryActivateProductions(selection));
+        assertEquals(ResourceVector.ZERO, playerBoard.getDepositInstance().getResources());
+        assertEquals(ResourceVector.of(0, 0, 1, 0), playerBoard.getStrongboxInstance().getResources());
+        assertEquals(1, playerBoard.getFaithTrailPosition());
+    }
+
     @Test
     public void marketUsage() {
         ArrayList<String> players = new ArrayList<>();
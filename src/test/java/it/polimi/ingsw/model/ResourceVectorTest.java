@@ -0,0 +1,80 @@
+package it.polimi.ingsw.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import it.polimi.ingsw.model.enums.Resource;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResourceVectorTest {
+
+    @Test
+    public void arithmetic() {
+
+        ResourceVector a = ResourceVector.of(1, 2, 0, 3);
+        ResourceVector b = ResourceVector.of(Resource.Coins, Resource.Coins, Resource.Shields);
+
+        assertEquals(ResourceVector.of(3, 2, 0, 4), a.plus(b));
+        assertEquals(ResourceVector.of(-1, 2, 0, 2), a.minus(b));
+        assertEquals(6, a.total());
+        assertEquals(ResourceVector.of(1, 2, 0, 3), a);
+
+        assertTrue(a.covers(ResourceVector.of(1, 1, 0, 3)));
+        assertFalse(a.covers(b));
+        assertTrue(a.covers(ResourceVector.ZERO));
+        assertTrue(ResourceVector.ZERO.isEmpty());
+    }
+
+    @Test
+    public void mutableVectorChangesInPlace() {
+
+        MutableResourceVector vector = new MutableResourceVector();
+        vector.add(ResourceVector.of(2, 0, 1, 0));
+        vector.add(Resource.Stones, 3);
+        vector.subtract(Resource.Coins, 1);
+
+        ResourceVector snapshot = vector.snapshot();
+        vector.subtract(snapshot);
+
+        assertEquals(ResourceVector.of(1, 3, 1, 0), snapshot);
+        assertTrue(vector.isEmpty());
+    }
+
+    @Test
+    public void mapConversion() {
+
+        HashMap<Resource, Integer> map = new HashMap<>();
+        map.put(Resource.Servants, 2);
+        map.put(Resource.Shields, null);
+
+        ResourceVector vector = ResourceVector.fromMap(map);
+
+        assertEquals(2, vector.get(Resource.Servants));
+        assertEquals(0, vector.get(Resource.Shields));
+        assertEquals(4, vector.toMap().size());
+        assertEquals(ResourceVector.fromMap(vector.toMap()), vector);
+    }
+
+    @Test
+    public void consumeResourcesEmptiesDepositBeforeStrongbox() {
+
+        ArrayList<String> nicknames = new ArrayList<>();
+        nicknames.add("test");
+        GameTable table = new GameTable(nicknames);
+        PlayerBoard player = table.getPlayerByIndex(0);
+
+        player.getDepositInstance().tryAdd(ResourceVector.of(2, 0, 0, 1));
+        player.getStrongboxInstance().tryAdd(ResourceVector.of(5, 0, 0, 0));
+
+        assertTrue(player.hasResources(ResourceVector.of(7, 0, 0, 1)));
+        assertFalse(player.hasResources(ResourceVector.of(8, 0, 0, 0)));
+
+        player.consumeResources(ResourceVector.of(3, 0, 0, 0));
+
+        assertEquals(ResourceVector.of(0, 0, 0, 1), player.getDepositInstance().getResources());
+        assertEquals(ResourceVector.of(4, 0, 0, 0), player.getStrongboxInstance().getResources());
+        assertEquals(ResourceVector.of(4, 0, 0, 1), player.getAvailableResources());
+    }
+}
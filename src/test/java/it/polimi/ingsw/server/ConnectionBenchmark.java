@@ -0,0 +1,85 @@
+package it.polimi.ingsw.server;
+
+import it.polimi.ingsw.communication.NetworkFrames;
+import it.polimi.ingsw.communication.ThreadPools;
+import it.polimi.ingsw.communication.client.SetupConnection;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.Socket;
+import java.util.ArrayList;
+
+/**
+ * Manual benchmark measuring how many clients a server can keep connected and how many platform threads it needs.
+ * <p>
+ *     Starts a server in this JVM, then opens connections until the requested amount is reached or the server stops
+ *     accepting them. Every connection completes the setup and stays idle in the lobby, which is the worst case for
+ *     the blocking transport: one reader blocked on each socket.
+ * </p>
+ * <p>
+ *     Usage: ConnectionBenchmark [connections] [--virtual-threads] [--nio] [--port port]
+ * </p>
+ */
+public class ConnectionBenchmark {
+
+    public static void main(String[] args) throws InterruptedException {
+        int connections = 2000;
+        int port = 51300;
+        boolean nio = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--virtual-threads" -> {
+                    if (!ThreadPools.useVirtualThreads())
+                        System.out.println("virtual threads are not supported by this JVM, using platform threads");
+                }
+                case "--nio" -> nio = true;
+                case "--port" -> port = Integer.parseInt(args[++i]);
+                default -> connections = Integer.parseInt(args[i]);
+            }
+        }
+
+        Server server = new Server(false, false);
+        Thread serverThread = new Thread(nio ? new NioSocketServer(port, server) : new SocketServer(port, server));
+        serverThread.setDaemon(true);
+        serverThread.start();
+        Thread.sleep(500);
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        int baseline = threads.getThreadCount();
+        ArrayList<Socket> sockets = new ArrayList<>();
+        long start = System.nanoTime();
+        try {
+            for (int i = 0; i < connections; i++) {
+                Socket socket = new Socket("localhost", port);
+                sockets.add(socket);
+                socket.getOutputStream().write(NetworkFrames.encode(new SetupConnection("bench" + i)));
+                socket.setSoTimeout(10000);
+                // wait for ResponseClientAccepted, so that the server is really serving this client
+                NetworkFrames.read(new DataInputStream(new BufferedInputStream(socket.getInputStream())));
+                if ((i + 1) % 500 == 0)
+                    System.out.println((i + 1) + " connections, " + threads.getThreadCount() + " platform threads");
+            }
+        } catch (IOException | ClassNotFoundException | OutOfMemoryError e) {
+            System.out.println("stopped after " + sockets.size() + " connections: " + e);
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.println("transport:          " + (nio ? "nio" : "blocking sockets"));
+        System.out.println("virtual threads:    " + ThreadPools.isUsingVirtualThreads());
+        System.out.println("connections:        " + sockets.size());
+        System.out.println("platform threads:   " + threads.getThreadCount() + " (" + baseline + " before connecting)");
+        System.out.println("peak threads:       " + threads.getPeakThreadCount());
+        System.out.println("setup time:         " + elapsedMillis + " ms");
+
+        for (Socket socket : sockets) {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+            }
+        }
+        System.exit(0);
+    }
+}
@@ -0,0 +1,79 @@
+package it.polimi.ingsw.server;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameMailboxTest {
+
+    @Test
+    public void tasksRunInSubmissionOrder() throws InterruptedException {
+
+        GameMailbox mailbox = new GameMailbox();
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(1);
+
+        for (int i = 0; i < 3 * GameMailbox.BATCH_SIZE; i++) {
+            int task = i;
+            mailbox.execute(() -> executed.add(task));
+        }
+        mailbox.execute(done::countDown);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < executed.size(); i++)
+            assertEquals(i, executed.get(i));
+    }
+
+    @Test
+    public void tasksNeverOverlap() throws InterruptedException {
+
+        ExecutorService carrier = Executors.newFixedThreadPool(4);
+        GameMailbox mailbox = new GameMailbox(carrier);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(400);
+
+        ExecutorService producers = Executors.newFixedThreadPool(4);
+        for (int p = 0; p < 4; p++) {
+            producers.execute(() -> {
+                for (int i = 0; i < 100; i++) {
+                    mailbox.execute(() -> {
+                        if (running.incrementAndGet() > 1)
+                            overlaps.incrementAndGet();
+                        running.decrementAndGet();
+                        done.countDown();
+                    });
+                }
+            });
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(0, overlaps.get());
+        assertEquals(0, mailbox.size());
+        producers.shutdown();
+        carrier.shutdown();
+    }
+
+    @Test
+    public void failingTaskDoesNotStopTheMailbox() throws InterruptedException {
+
+        GameMailbox mailbox = new GameMailbox();
+        CountDownLatch done = new CountDownLatch(1);
+
+        mailbox.execute(() -> {
+            throw new IllegalStateException("expected by the test");
+        });
+        mailbox.execute(done::countDown);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,137 @@
+package it.polimi.ingsw.server;
+
+import it.polimi.ingsw.communication.NetworkFrames;
+import it.polimi.ingsw.communication.SerializedNetworkMessage;
+import it.polimi.ingsw.communication.client.responses.ResponsePlayersNumber;
+import it.polimi.ingsw.communication.server.requests.RequestRequestPlayersNumber;
+import it.polimi.ingsw.communication.server.responses.ResponseGameHasStarted;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MatchmakerTest {
+
+    /**
+     * Connection keeping the messages sent to the client, keepalives excluded
+     */
+    private static class RecordingConnection implements ClientConnection {
+        private final BlockingQueue<SerializedNetworkMessage> received = new LinkedBlockingQueue<>();
+
+        @Override
+        public void write(byte[] frame, Object coalescingKey) throws IOException {
+            if (coalescingKey != null)
+                return;
+            try {
+                received.add(NetworkFrames.decode(Arrays.copyOfRange(frame, NetworkFrames.HEADER_LENGTH, frame.length)));
+            } catch (ClassNotFoundException e) {
+                throw new IOException(e);
+            }
+        }
+
+        @Override
+        public int getQueueDepth() {
+            return received.size();
+        }
+
+        @Override
+        public void close() {
+        }
+
+        <T> T expect(Class<T> type) throws InterruptedException {
+            SerializedNetworkMessage message;
+            while ((message = received.poll(5, TimeUnit.SECONDS)) != null) {
+                if (type.isInstance(message))
+                    return type.cast(message);
+            }
+            fail("expected " + type.getSimpleName());
+            return null;
+        }
+
+        boolean hasReceived(Class<?> type) {
+            return received.stream().anyMatch(type::isInstance);
+        }
+    }
+
+    private final Server server = new Server(false, false);
+
+    private int nextID = 0;
+
+    private VirtualClient connect(RecordingConnection connection, String nickname) throws NicknameAlreadyInUseException {
+        VirtualClient virtualClient = new VirtualClient(connection, server, nextID++);
+        server.registerClient(virtualClient, nickname);
+        return virtualClient;
+    }
+
+    private void chooseCapacity(VirtualClient host, RecordingConnection connection, int capacity) throws InterruptedException {
+        RequestRequestPlayersNumber request = connection.expect(RequestRequestPlayersNumber.class);
+        ResponsePlayersNumber response = new ResponsePlayersNumber(capacity);
+        response.setTimeoutID(request.getTimeoutID());
+        host.onMessage(response);
+    }
+
+    @Test
+    public void guestsJoinTheLobbyOfTheHost() throws Exception {
+
+        RecordingConnection aliceConnection = new RecordingConnection();
+        RecordingConnection bobConnection = new RecordingConnection();
+        VirtualClient alice = connect(aliceConnection, "alice");
+        VirtualClient bob = connect(bobConnection, "bob");
+
+        assertTrue(server.isPlayerWaiting(bob));
+        chooseCapacity(alice, aliceConnection, 2);
+
+        aliceConnection.expect(ResponseGameHasStarted.class);
+        bobConnection.expect(ResponseGameHasStarted.class);
+        assertFalse(bobConnection.hasReceived(RequestRequestPlayersNumber.class));
+        assertFalse(server.isPlayerWaiting(alice));
+        assertNotNull(server.getGameByPlayerID(bob.getID()));
+    }
+
+    @Test
+    public void lobbiesOfDifferentCapacityFillConcurrently() throws Exception {
+
+        RecordingConnection[] connections = new RecordingConnection[6];
+        VirtualClient[] clients = new VirtualClient[6];
+        for (int i = 0; i < 5; i++) {
+            connections[i] = new RecordingConnection();
+            clients[i] = connect(connections[i], "player" + i);
+        }
+
+        // player0 can take 3 guests with him, so the oldest guest, player1, becomes a host too
+        chooseCapacity(clients[1], connections[1], 3);
+        for (int i = 1; i <= 3; i++)
+            connections[i].expect(ResponseGameHasStarted.class);
+        assertTrue(server.isPlayerWaiting(clients[4]));
+
+        chooseCapacity(clients[0], connections[0], 4);
+        assertTrue(server.isPlayerWaiting(clients[0]));
+        assertTrue(server.isPlayerWaiting(clients[4]));
+        assertFalse(connections[4].hasReceived(RequestRequestPlayersNumber.class));
+
+        connections[5] = new RecordingConnection();
+        clients[5] = connect(connections[5], "player5");
+        assertTrue(server.isPlayerWaiting(clients[5]));
+        assertFalse(connections[5].hasReceived(RequestRequestPlayersNumber.class));
+    }
+
+    @Test
+    public void disconnectedHostIsReplacedByAGuest() throws Exception {
+
+        RecordingConnection hostConnection = new RecordingConnection();
+        RecordingConnection guestConnection = new RecordingConnection();
+        VirtualClient host = connect(hostConnection, "host");
+        VirtualClient guest = connect(guestConnection, "guest");
+
+        server.disconnectClient(host, null, "host");
+
+        assertFalse(server.isPlayerWaiting(host));
+        chooseCapacity(guest, guestConnection, 1);
+        guestConnection.expect(ResponseGameHasStarted.class);
+    }
+}
@@ -0,0 +1,71 @@
+package it.polimi.ingsw.server;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OutboundQueueTest {
+
+    @Test
+    public void drainKeepsOrder() {
+
+        OutboundQueue queue = new OutboundQueue(4);
+        byte[] first = {1};
+        byte[] second = {2};
+
+        assertTrue(queue.offer(first, null));
+        assertTrue(queue.offer(second, null));
+        assertEquals(2, queue.size());
+
+        ArrayList<byte[]> batch = queue.drain();
+        assertSame(first, batch.get(0));
+        assertSame(second, batch.get(1));
+        assertTrue(queue.isEmpty());
+        assertTrue(queue.drain().isEmpty());
+    }
+
+    @Test
+    public void newerFrameSupersedesPendingOne() {
+
+        OutboundQueue queue = new OutboundQueue(4);
+        byte[] oldState = {1};
+        byte[] other = {2};
+        byte[] newState = {3};
+
+        queue.offer(oldState, "state");
+        queue.offer(other, null);
+        queue.offer(newState, "state");
+
+        ArrayList<byte[]> batch = queue.drain();
+        assertEquals(2, batch.size());
+        assertSame(other, batch.get(0));
+        assertSame(newState, batch.get(1));
+    }
+
+    @Test
+    public void writtenFramesAreNotSuperseded() {
+
+        OutboundQueue queue = new OutboundQueue(4);
+
+        queue.offer(new byte[]{1}, "state");
+        queue.drain();
+        queue.offer(new byte[]{2}, "state");
+
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    public void fullQueueRejectsFrames() {
+
+        OutboundQueue queue = new OutboundQueue(2);
+
+        assertTrue(queue.offer(new byte[]{1}, null));
+        assertTrue(queue.offer(new byte[]{2}, "state"));
+        assertFalse(queue.offer(new byte[]{3}, null));
+        // superseding doesn't grow the queue, so it is accepted even when full
+        assertTrue(queue.offer(new byte[]{4}, "state"));
+        assertEquals(2, queue.size());
+    }
+}
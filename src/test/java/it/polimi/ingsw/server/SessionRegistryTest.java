@@ -0,0 +1,145 @@
+package it.polimi.ingsw.server;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SessionRegistryTest {
+
+    private static VirtualClient client(int id) {
+        return new VirtualClient(new ClientConnection() {
+            @Override
+            public void write(byte[] frame, Object coalescingKey) {
+            }
+
+            @Override
+            public int getQueueDepth() {
+                return 0;
+            }
+
+            @Override
+            public void close() {
+            }
+        }, null, id);
+    }
+
+    @Test
+    public void nicknameIsClaimedOnlyOnce() throws InterruptedException {
+
+        SessionRegistry registry = new SessionRegistry();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger claimed = new AtomicInteger();
+
+        for (int i = 0; i < 32; i++) {
+            VirtualClient virtualClient = client(i);
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException ignored) {
+                }
+                if (registry.claim("alice", virtualClient))
+                    claimed.incrementAndGet();
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(1, claimed.get());
+        assertEquals(1, registry.getClients().size());
+    }
+
+    @Test
+    public void releaseFreesNickname() {
+
+        SessionRegistry registry = new SessionRegistry();
+        VirtualClient first = client(0);
+        VirtualClient second = client(1);
+
+        assertTrue(registry.claim("alice", first));
+        assertEquals("alice", registry.getNickname(first));
+        assertFalse(registry.claim("alice", second));
+
+        registry.release(first);
+        assertNull(registry.getNickname(first));
+        assertTrue(registry.claim("alice", second));
+    }
+
+    @Test
+    public void disconnectedPlayerIsResumedInHisGame() {
+
+        SessionRegistry registry = new SessionRegistry();
+        Game game = new Game(false, null);
+        int gameID = registry.registerGame(game);
+        VirtualClient before = client(0);
+        VirtualClient after = client(1);
+
+        registry.claim("alice", before);
+        assertNull(registry.resume("alice", after));
+
+        registry.startGame(new ArrayList<>(List.of(before)), game);
+        assertSame(game, registry.getGameByClientID(0));
+        assertTrue(registry.markDisconnected(before));
+        assertFalse(registry.isConnected("alice"));
+        assertFalse(registry.claim("alice", after));
+
+        assertSame(game, registry.resume("alice", after));
+        assertTrue(registry.isConnected("alice"));
+        assertSame(after, registry.getSession("alice").getVirtualClient());
+        assertNull(registry.getGameByClientID(0));
+        assertSame(game, registry.getGameByClientID(1));
+        assertSame(game, registry.getGame(gameID));
+    }
+
+    @Test
+    public void endedGameIsRemovedWithItsSessions() {
+
+        SessionRegistry registry = new SessionRegistry();
+        Game game = new Game(false, null);
+        int gameID = registry.registerGame(game);
+        VirtualClient player = client(0);
+        VirtualClient waiting = client(1);
+
+        registry.claim("alice", player);
+        registry.claim("bob", waiting);
+        registry.startGame(new ArrayList<>(List.of(player)), game);
+
+        registry.removeGame(game);
+
+        assertNull(registry.getGame(gameID));
+        assertNull(registry.getGameID(game));
+        assertNull(registry.getNickname(player));
+        assertEquals("bob", registry.getNickname(waiting));
+        assertTrue(registry.claim("alice", client(2)));
+    }
+
+    @Test
+    public void endedGameRemovesTheSessionsOfResumedPlayers() {
+
+        SessionRegistry registry = new SessionRegistry();
+        Game game = new Game(false, null);
+        registry.registerGame(game);
+        VirtualClient before = client(0);
+        VirtualClient after = client(1);
+
+        registry.claim("alice", before);
+        registry.startGame(new ArrayList<>(List.of(before)), game);
+        registry.markDisconnected(before);
+        registry.resume("alice", after);
+
+        registry.removeGame(game);
+
+        assertNull(registry.getSession("alice"));
+        assertNull(registry.getSession(after));
+        assertTrue(registry.getClients().isEmpty());
+    }
+}